@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the devices collection cycle stages, in the order they are executed:
+ * /devices payload parsing, device faults string building, available firmware versions building
+ * and devices extraction based on the model mapping.
+ * Each stage is measured on a synthetic payload of {@link #deviceCount} devices of all the device types.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AggregationPipelineBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    public int deviceCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] devicesPayload;
+    private DevicesPayloadParser devicesPayloadParser;
+    /**
+     * Fault arrays of the devices that report faults
+     */
+    private final List<ArrayNode> deviceFaults = new ArrayList<>();
+    /**
+     * "deviceType, firmwareVersion" pairs of all the devices
+     */
+    private final List<String[]> deviceFirmwareVersions = new ArrayList<>();
+    private final List<String> firmwareVersions = Arrays.asList(BenchmarkPayloads.FIRMWARE_VERSIONS);
+    private FirmwareCatalogue firmwareCatalogue;
+    /**
+     * /devices json, enriched the same way the communicator does before the devices are extracted
+     */
+    private ObjectNode enrichedDevicesJson;
+    private AggregatedDeviceProcessor aggregatedDeviceProcessor;
+    private CompiledModelMapping compiledModelMapping;
+
+    @Setup
+    public void setup() throws Exception {
+        Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML("sagevue/model-mapping.yml", getClass());
+        aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
+        compiledModelMapping = new CompiledModelMapping(mapping);
+        devicesPayloadParser = new DevicesPayloadParser(objectMapper, DevicesPayloadParser.collectReferencedFields(mapping));
+        firmwareCatalogue = new FirmwareCatalogue(model -> firmwareVersions, Runnable::run, TimeUnit.HOURS.toMillis(1));
+        devicesPayload = BenchmarkPayloads.devicesPayload(deviceCount);
+
+        enrichedDevicesJson = parseDevicesStreaming();
+        enrichedDevicesJson.fields().forEachRemaining(entry -> {
+            String deviceType = entry.getKey().replaceAll("Devices", "");
+            entry.getValue().forEach(jsonNode -> {
+                ObjectNode device = (ObjectNode) jsonNode;
+                String firmwareVersion = device.at("/FirmwareVersion").asText();
+                deviceFirmwareVersions.add(new String[]{deviceType, firmwareVersion});
+                device.put("IpAddress", "172.31.254.1");
+                device.put("AvailableFirmwareVersions", firmwareCatalogue.getAvailableFirmwareVersions(deviceType, firmwareVersion));
+                ArrayNode faults = device.withArray("Faults");
+                if (faults.size() > 0) {
+                    deviceFaults.add(faults.deepCopy());
+                    device.put("Faults", SageVueCommunicator.buildDeviceFaults(faults));
+                }
+            });
+        });
+    }
+
+    /**
+     * Whole-document parsing: payload String and a complete json tree
+     */
+    @Benchmark
+    public JsonNode parseDevicesTree() throws IOException {
+        return objectMapper.readTree(new String(devicesPayload, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Streaming parsing with {@link DevicesPayloadParser}
+     */
+    @Benchmark
+    public ObjectNode parseDevicesStreaming() throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(new ByteArrayInputStream(devicesPayload))) {
+            return devicesPayloadParser.parse(parser);
+        }
+    }
+
+    /**
+     * Device faults string building for all the devices that report faults
+     */
+    @Benchmark
+    public void buildDeviceFaults(Blackhole blackhole) {
+        for (ArrayNode faults : deviceFaults) {
+            blackhole.consume(SageVueCommunicator.buildDeviceFaults(faults));
+        }
+    }
+
+    /**
+     * Available firmware versions building for all the devices, a new set per device
+     */
+    @Benchmark
+    public void buildAvailableFirmwareVersions(Blackhole blackhole) {
+        for (String[] deviceFirmwareVersion : deviceFirmwareVersions) {
+            Set<String> availableFirmwareVersions = new HashSet<>(firmwareVersions);
+            availableFirmwareVersions.add(deviceFirmwareVersion[1]);
+            blackhole.consume(String.join(",", availableFirmwareVersions));
+        }
+    }
+
+    /**
+     * Available firmware versions retrieval for all the devices, served by {@link FirmwareCatalogue}
+     */
+    @Benchmark
+    public void retrieveAvailableFirmwareVersions(Blackhole blackhole) {
+        for (String[] deviceFirmwareVersion : deviceFirmwareVersions) {
+            blackhole.consume(firmwareCatalogue.getAvailableFirmwareVersions(deviceFirmwareVersion[0], deviceFirmwareVersion[1]));
+        }
+    }
+
+    /**
+     * Devices extraction with {@link AggregatedDeviceProcessor}
+     */
+    @Benchmark
+    public List<AggregatedDevice> extractDevicesProcessor() {
+        return aggregatedDeviceProcessor.extractDevices(enrichedDevicesJson);
+    }
+
+    /**
+     * Devices extraction with {@link CompiledModelMapping}
+     */
+    @Benchmark
+    public List<AggregatedDevice> extractDevicesCompiled() {
+        return compiledModelMapping.extractDevices(enrichedDevicesJson);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Synthetic SageVue payloads for the benchmarks.
+ * Devices are spread evenly across all the device types SageVue reports (Tesira, Atom, Dynasound, QtPro, Devio),
+ * Tesira devices are split between FORTE_VT (mapped with the Tesira model) and other Tesira models
+ * (mapped with the SageVueBasicDevice model). Every third device reports faults.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+final class BenchmarkPayloads {
+    /**
+     * Device types, as named in /devices payload
+     */
+    static final String[] DEVICE_TYPES = {"Tesira", "Atom", "Dynasound", "QtPro", "Devio"};
+    /**
+     * Firmware versions reported by /firmware/{model} endpoints
+     */
+    static final String[] FIRMWARE_VERSIONS = {"3.3.0.18", "3.10.0.241", "3.10.0.242", "3.11.0.12", "3.12.1.4", "3.13.0.2", "3.14.2.1", "4.0.0.7", "4.1.1.3", "4.2.0.5"};
+
+    private BenchmarkPayloads() {
+    }
+
+    /**
+     * Generate /devices payload
+     *
+     * @param deviceCount total number of devices in the payload
+     * @return payload bytes
+     */
+    static byte[] devicesPayload(int deviceCount) {
+        StringBuilder payload = new StringBuilder("{");
+        for (int type = 0; type < DEVICE_TYPES.length; type++) {
+            String deviceType = DEVICE_TYPES[type];
+            if (type > 0) {
+                payload.append(",");
+            }
+            payload.append("\"").append(deviceType).append("Devices\":[");
+            boolean first = true;
+            for (int i = type; i < deviceCount; i += DEVICE_TYPES.length) {
+                if (!first) {
+                    payload.append(",");
+                }
+                first = false;
+                appendDevice(payload, deviceType, i);
+            }
+            payload.append("],\"").append(deviceType).append("Errors\":[]");
+        }
+        return payload.append("}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generate /devices/{model}/{serialNumber} payload
+     *
+     * @param ipAddress device ip address
+     * @return payload text
+     */
+    static String deviceDetailsPayload(String ipAddress) {
+        return "{\"Device\":{\"Labels\":[],\"DeviceId\":1,\"HostName\":\"TesiraForte\",\"IpAddress\":\"" + ipAddress + "\","
+                + "\"MacAddress\":\"00:90:5e:00:00:01\",\"Description\":\"\",\"IsProtected\":false}}";
+    }
+
+    /**
+     * Generate /firmware/{model} payload
+     *
+     * @return payload text
+     */
+    static String firmwarePayload() {
+        StringBuilder payload = new StringBuilder("{\"FirmwareUpdates\":[");
+        for (int i = 0; i < FIRMWARE_VERSIONS.length; i++) {
+            if (i > 0) {
+                payload.append(",");
+            }
+            payload.append("{\"Version\":\"").append(FIRMWARE_VERSIONS[i]).append("\",\"ReleaseNotes\":\"Firmware ")
+                    .append(FIRMWARE_VERSIONS[i]).append(" release notes\",\"NotesFormat\":\"Text\",\"ReleaseDate\":\"May 2019\",\"IsRemovable\":false}");
+        }
+        return payload.append("]}").toString();
+    }
+
+    /**
+     * Generate a single /devices list entry
+     *
+     * @param payload payload to append the entry to
+     * @param deviceType device type the entry is listed under
+     * @param index device index, used to generate serial number and vary the device state
+     */
+    private static void appendDevice(StringBuilder payload, String deviceType, int index) {
+        String serialNumber = String.valueOf(10000000 + index);
+        String model = "Tesira".equals(deviceType) ? (index % 2 == 0 ? "FORTE_VT" : "SERVER_IO") : deviceType + "Connect";
+        payload.append("{\"Model\":\"").append(model).append("\",\"ModelDescription\":\"").append(deviceType).append(" ").append(model)
+                .append("\",\"SystemDescription\":\"").append(deviceType).append(" - Default Configuration ").append(serialNumber)
+                .append("\",\"FirmwareVersion\":\"").append(FIRMWARE_VERSIONS[index % 3]).append("\",\"OccupiedStatus\":\"")
+                .append(index % 7 == 0 ? "Rebooting" : "").append("\",\"AssetGroupId\":\"4a7a071b-7331-4849-b842-516bae6f395d\",")
+                .append("\"IsControlled\":false,\"SystemId\":\"").append(serialNumber).append("\",\"SerialNumber\":\"").append(serialNumber)
+                .append("\",\"HostName\":\"").append(deviceType).append(serialNumber).append("\",\"Description\":\"\",\"IsProtected\":")
+                .append(index % 4 == 0).append(",\"Faults\":[");
+        if (index % 3 == 0) {
+            payload.append("{\"FaultId\":\"123\",\"IndicatorId\":\"ERR\",\"Message\":\"Unable to get information\"},")
+                    .append("{\"FaultId\":\"789\",\"IndicatorId\":\"FWER\",\"Message\":\"Firmware error\"}");
+        }
+        payload.append("],\"Status\":").append(index % 10 == 0 ? 1 : 0).append(",\"Labels\":[\"Room ").append(index % 100).append("\"]}");
+    }
+}
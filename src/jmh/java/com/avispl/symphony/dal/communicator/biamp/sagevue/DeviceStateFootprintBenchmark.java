@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap footprint of the device state the aggregator keeps between the devices collection cycles: the published
+ * devices, device models, protection and control flags, and control and poll timestamps.
+ * {@link #mapBasedState} keeps them the way the aggregator did before {@link DeviceStateStore} - in per-device
+ * hash maps and sets - while {@link #compactState} keeps them in {@link DeviceStateStore} ordinals, arrays and bitsets.
+ * The published devices are the same in both cases.
+ * Retained heap is reported as the retainedBytes secondary result.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx1g"})
+public class DeviceStateFootprintBenchmark {
+    @Param({"10000"})
+    public int deviceCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> firmwareVersions = Arrays.asList(BenchmarkPayloads.FIRMWARE_VERSIONS);
+    private byte[] devicesPayload;
+    private DevicesPayloadParser devicesPayloadParser;
+    private CompiledModelMapping compiledModelMapping;
+
+    /**
+     * Heap retained by the state built during the iteration
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytes;
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML("sagevue/model-mapping.yml", getClass());
+        compiledModelMapping = new CompiledModelMapping(mapping);
+        devicesPayloadParser = new DevicesPayloadParser(objectMapper, DevicesPayloadParser.collectReferencedFields(mapping));
+        devicesPayload = BenchmarkPayloads.devicesPayload(deviceCount);
+    }
+
+    /**
+     * Devices, models and flags in hash maps and sets keyed by serial number, timestamps in concurrent maps
+     */
+    @Benchmark
+    public Object[] mapBasedState(Footprint footprint) throws IOException {
+        long usedHeap = usedHeap();
+        Map<String, String> deviceModels = new HashMap<>();
+        Set<String> protectedDevices = new HashSet<>();
+        Set<String> controlledDevices = new HashSet<>();
+        Map<String, Long> controlTimestamps = new ConcurrentHashMap<>();
+        Map<String, Long> pollTimestamps = new ConcurrentHashMap<>();
+        List<AggregatedDevice> devices = collectDevices(new FirmwareCatalogue(model -> firmwareVersions, Runnable::run, TimeUnit.HOURS.toMillis(1)));
+        long currentTimestamp = System.currentTimeMillis();
+        for (AggregatedDevice device : devices) {
+            deviceModels.put(device.getSerialNumber(), device.getDeviceModel());
+            if (Boolean.parseBoolean(device.getProperties().get("isProtected"))) {
+                protectedDevices.add(device.getSerialNumber());
+            }
+            if (Boolean.parseBoolean(device.getProperties().get("isControlled"))) {
+                controlledDevices.add(device.getSerialNumber());
+            }
+            controlTimestamps.put(device.getSerialNumber(), currentTimestamp);
+            pollTimestamps.put(device.getSerialNumber(), currentTimestamp);
+        }
+        Object[] state = {devices, deviceModels, protectedDevices, controlledDevices, controlTimestamps, pollTimestamps};
+        footprint.retainedBytes = usedHeap() - usedHeap;
+        return state;
+    }
+
+    /**
+     * Devices, models, flags and timestamps in {@link DeviceStateStore}
+     */
+    @Benchmark
+    public Object[] compactState(Footprint footprint) throws IOException {
+        long usedHeap = usedHeap();
+        DeviceStateStore deviceStateStore = new DeviceStateStore();
+        List<AggregatedDevice> devices = collectDevices(new FirmwareCatalogue(model -> firmwareVersions, Runnable::run, TimeUnit.HOURS.toMillis(1)));
+        updateDevices(deviceStateStore, devices);
+        long currentTimestamp = System.currentTimeMillis();
+        for (AggregatedDevice device : devices) {
+            deviceStateStore.recordControl(device.getSerialNumber());
+            deviceStateStore.recordPoll(device.getSerialNumber(), currentTimestamp);
+        }
+        Object[] state = {devices, deviceStateStore};
+        footprint.retainedBytes = usedHeap() - usedHeap;
+        return state;
+    }
+
+    /**
+     * List the devices in the store, the way a devices collection cycle does. The maps the store is updated with
+     * are not retained once the method returns.
+     *
+     * @param deviceStateStore store to update
+     * @param devices extracted devices
+     */
+    private static void updateDevices(DeviceStateStore deviceStateStore, List<AggregatedDevice> devices) {
+        Map<String, String> deviceModels = new HashMap<>();
+        Set<String> protectedDevices = new HashSet<>();
+        Set<String> controlledDevices = new HashSet<>();
+        for (AggregatedDevice device : devices) {
+            deviceModels.put(device.getSerialNumber(), device.getDeviceModel());
+            if (Boolean.parseBoolean(device.getProperties().get("isProtected"))) {
+                protectedDevices.add(device.getSerialNumber());
+            }
+            if (Boolean.parseBoolean(device.getProperties().get("isControlled"))) {
+                controlledDevices.add(device.getSerialNumber());
+            }
+        }
+        deviceStateStore.updateDevices(deviceModels, new HashMap<>(), protectedDevices, controlledDevices);
+    }
+
+    /**
+     * Parse and enrich the /devices payload and extract the devices, the way a devices collection cycle does.
+     * Nothing but the extracted devices is retained once the method returns.
+     *
+     * @param firmwareCatalogue catalogue to enrich the devices with available firmware versions
+     * @return extracted devices
+     */
+    private List<AggregatedDevice> collectDevices(FirmwareCatalogue firmwareCatalogue) throws IOException {
+        ObjectNode devicesJson;
+        try (JsonParser parser = objectMapper.getFactory().createParser(new ByteArrayInputStream(devicesPayload))) {
+            devicesJson = devicesPayloadParser.parse(parser);
+        }
+        devicesJson.fields().forEachRemaining(entry -> {
+            String deviceType = entry.getKey().replaceAll("Devices", "");
+            entry.getValue().forEach(jsonNode -> {
+                ObjectNode device = (ObjectNode) jsonNode;
+                device.put("IpAddress", "172.31.254.1");
+                device.put("AvailableFirmwareVersions", firmwareCatalogue.getAvailableFirmwareVersions(deviceType, device.at("/FirmwareVersion").asText()));
+                ArrayNode faults = device.withArray("Faults");
+                if (faults.size() > 0) {
+                    device.put("Faults", SageVueCommunicator.buildDeviceFaults(faults));
+                }
+            });
+        });
+        return compiledModelMapping.extractDevices(devicesJson);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.communicator.HttpCommunicator;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * End-to-end benchmark of the first devices collection cycle: login, /devices, device details and firmware catalogue
+ * requests, devices extraction and publishing, against a local WireMock server.
+ * Every SageVue response is delayed by {@link #latency} ms, to reproduce a remote SageVue server, e.g.
+ * -p latency=150 -p deviceCount=1000. Compare {@link #deviceDetailsThreadCount} values to see how the cycle duration
+ * scales with the parallel device details requests.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SageVueEndToEndBenchmark {
+    private static final long COLLECTION_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+
+    @Param({"10", "100", "1000"})
+    public int deviceCount;
+
+    /**
+     * SageVue response delay, ms
+     */
+    @Param({"0", "50"})
+    public int latency;
+
+    /**
+     * Number of device details workers
+     */
+    @Param({"1", "8"})
+    public int deviceDetailsThreadCount;
+
+    private WireMockServer wireMockServer;
+
+    @Setup
+    public void startServer() {
+        wireMockServer = new WireMockServer(options().dynamicPort().bindAddress("127.0.0.1"));
+        wireMockServer.start();
+        wireMockServer.stubFor(post(urlEqualTo("/biampsagevue/api/login")).willReturn(aResponse().withStatus(200).withFixedDelay(latency)
+                .withBody("{\"LoginId\":\"ea7a6606-30b6-4b39-afb4-d6f171a650db\",\"Role\":\"Administrator\"}")));
+        wireMockServer.stubFor(get(urlEqualTo("/biampsagevue/api/devices")).willReturn(aResponse().withStatus(200).withFixedDelay(latency)
+                .withBody(BenchmarkPayloads.devicesPayload(deviceCount))));
+        wireMockServer.stubFor(get(urlPathMatching("/biampsagevue/api/devices/.+")).willReturn(aResponse().withStatus(200).withFixedDelay(latency)
+                .withBody(BenchmarkPayloads.deviceDetailsPayload("172.31.254.1"))));
+        wireMockServer.stubFor(get(urlPathMatching("/biampsagevue/api/firmware/.*")).willReturn(aResponse().withStatus(200).withFixedDelay(latency)
+                .withBody(BenchmarkPayloads.firmwarePayload())));
+    }
+
+    @TearDown
+    public void stopServer() {
+        wireMockServer.stop();
+    }
+
+    /**
+     * Initialize a new communicator and wait for the first devices collection cycle to publish all the devices
+     */
+    @Benchmark
+    public List<AggregatedDevice> collectDevices() throws Exception {
+        SageVueCommunicator communicator = new SageVueCommunicator();
+        communicator.setProtocol("http");
+        communicator.setContentType("application/json");
+        communicator.setHost("127.0.0.1");
+        communicator.setPort(wireMockServer.port());
+        communicator.setAuthenticationScheme(HttpCommunicator.AuthenticationScheme.Basic);
+        communicator.setLogin("Admin");
+        communicator.setPassword("1234");
+        communicator.setDeviceDetailsThreadCount(deviceDetailsThreadCount);
+        communicator.init();
+        try {
+            long deadline = System.currentTimeMillis() + COLLECTION_TIMEOUT;
+            List<AggregatedDevice> devices = communicator.retrieveMultipleStatistics();
+            while (devices.size() < deviceCount) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException("Devices collection did not complete in " + COLLECTION_TIMEOUT + "ms");
+                }
+                Thread.sleep(5);
+                devices = communicator.retrieveMultipleStatistics();
+            }
+            return devices;
+        } finally {
+            communicator.destroy();
+        }
+    }
+}
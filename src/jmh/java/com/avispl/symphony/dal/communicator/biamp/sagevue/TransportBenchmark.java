@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.communicator.HttpCommunicator;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * Transport benchmark: the first devices collection cycle against a local WireMock server over TLS,
+ * with pooled keep-alive connections ({@link #connectionKeepAliveTime} > 0) and with a new connection
+ * (and a new TLS handshake) for every request ({@link #connectionKeepAliveTime} = 0).
+ * Every SageVue response is delayed by {@link #latency} ms, e.g. -p latency=50 -p deviceCount=1000
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TransportBenchmark {
+    private static final long COLLECTION_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+
+    @Param({"100", "1000"})
+    public int deviceCount;
+
+    /**
+     * SageVue response delay, ms
+     */
+    @Param({"0", "20"})
+    public int latency;
+
+    /**
+     * Idle connection keep-alive time, ms. 0 - every request opens a new connection
+     */
+    @Param({"0", "90000"})
+    public long connectionKeepAliveTime;
+
+    private WireMockServer wireMockServer;
+
+    @Setup
+    public void startServer() {
+        wireMockServer = new WireMockServer(options().dynamicPort().dynamicHttpsPort().bindAddress("127.0.0.1"));
+        wireMockServer.start();
+        wireMockServer.stubFor(post(urlEqualTo("/biampsagevue/api/login")).willReturn(aResponse().withStatus(200).withFixedDelay(latency)
+                .withBody("{\"LoginId\":\"ea7a6606-30b6-4b39-afb4-d6f171a650db\",\"Role\":\"Administrator\"}")));
+        wireMockServer.stubFor(get(urlEqualTo("/biampsagevue/api/devices")).willReturn(aResponse().withStatus(200).withFixedDelay(latency)
+                .withBody(BenchmarkPayloads.devicesPayload(deviceCount))));
+        wireMockServer.stubFor(get(urlPathMatching("/biampsagevue/api/devices/.+")).willReturn(aResponse().withStatus(200).withFixedDelay(latency)
+                .withBody(BenchmarkPayloads.deviceDetailsPayload("172.31.254.1"))));
+        wireMockServer.stubFor(get(urlPathMatching("/biampsagevue/api/firmware/.*")).willReturn(aResponse().withStatus(200).withFixedDelay(latency)
+                .withBody(BenchmarkPayloads.firmwarePayload())));
+    }
+
+    @TearDown
+    public void stopServer() {
+        wireMockServer.stop();
+    }
+
+    /**
+     * Initialize a new communicator over https and wait for the first devices collection cycle to publish all the devices
+     */
+    @Benchmark
+    public List<AggregatedDevice> collectDevices() throws Exception {
+        SageVueCommunicator communicator = new SageVueCommunicator();
+        communicator.setProtocol("https");
+        communicator.setContentType("application/json");
+        communicator.setHost("127.0.0.1");
+        communicator.setPort(wireMockServer.httpsPort());
+        communicator.setAuthenticationScheme(HttpCommunicator.AuthenticationScheme.Basic);
+        communicator.setLogin("Admin");
+        communicator.setPassword("1234");
+        communicator.setConnectionKeepAliveTime(connectionKeepAliveTime);
+        communicator.init();
+        try {
+            long deadline = System.currentTimeMillis() + COLLECTION_TIMEOUT;
+            List<AggregatedDevice> devices = communicator.retrieveMultipleStatistics();
+            while (devices.size() < deviceCount) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException("Devices collection did not complete in " + COLLECTION_TIMEOUT + "ms");
+                }
+                Thread.sleep(5);
+                devices = communicator.retrieveMultipleStatistics();
+            }
+            return devices;
+        } finally {
+            communicator.destroy();
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hot-path metrics of the adapter: request counts, error counts and latency percentiles per SageVue endpoint,
+ * re-authentication count, lock wait time and devices collection cycle duration.
+ * Counters are accumulated since the adapter initialization, while latency percentiles only cover the current
+ * and the previous {@link #WINDOW} ms windows, so they reflect the current state of the SageVue server.
+ * Metrics are reported as "Endpoint#{endpoint}.{metric}" and "Monitoring#{metric}" statistics.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class AggregatorMetrics {
+    static final String LOGIN = "login";
+    static final String DEVICES = "devices";
+    static final String DEVICE_DETAILS = "devices/{id}";
+    static final String FIRMWARE = "firmware/{model}";
+    static final String SYSTEMS = "systems";
+    static final String REBOOT = "devices/{id}/reboot";
+    static final String FIRMWARE_UPDATE = "firmware/{model}/update";
+    static final String PROTECT_SYSTEM = "systems/{id}/protect";
+    static final String UNPROTECT_SYSTEM = "systems/{id}/unprotect";
+
+    private static final String ENDPOINT_GROUP = "Endpoint#";
+    private static final String MONITORING_GROUP = "Monitoring#";
+    /**
+     * Latency percentiles window length (ms)
+     */
+    private static final long WINDOW = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * Container for "endpoint:timer" pairs
+     */
+    private final Map<String, Timer> endpointTimers = new ConcurrentHashMap<>();
+    private final Timer lockWaitTimer = new Timer();
+    private final LongAdder reauthenticationCount = new LongAdder();
+    private final LongAdder cycleCount = new LongAdder();
+    private final LongAdder failedCycleCount = new LongAdder();
+    private final LongAdder deadlineExceededCycleCount = new LongAdder();
+    private volatile int lastCycleSkippedDetailsCount;
+    private volatile int changedDeviceCount = -1;
+    private volatile int reusedDeviceCount;
+    private volatile int excludedDeviceCount = -1;
+    private volatile long lastCycleDuration = -1;
+    private volatile int lastCycleDeviceCount;
+    private volatile int warmStartDeviceCount = -1;
+    private volatile Map<String, String> devicePollingStatistics = Collections.emptyMap();
+    private volatile int crossFilledDeviceCount = -1;
+    private volatile int suppliedDetailsCount;
+    private volatile long warmStartSnapshotAge;
+
+    /**
+     * Request/error counters and rolling window latency histogram
+     */
+    private static class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+        private volatile LatencyHistogram currentHistogram = new LatencyHistogram();
+        private volatile LatencyHistogram previousHistogram = new LatencyHistogram();
+        private volatile long windowStartTimestamp = System.currentTimeMillis();
+
+        /**
+         * Record a single operation
+         *
+         * @param durationMs operation duration
+         * @param success whether the operation has succeeded
+         */
+        private void record(long durationMs, boolean success) {
+            rotate();
+            count.increment();
+            if (!success) {
+                errorCount.increment();
+            }
+            currentHistogram.record(durationMs);
+        }
+
+        /**
+         * Get latency percentile over the last window
+         *
+         * @param percentile percentile, 0-100
+         * @return latency (ms)
+         */
+        private long getPercentile(double percentile) {
+            rotate();
+            return LatencyHistogram.getValueAtPercentile(percentile, previousHistogram, currentHistogram);
+        }
+
+        /**
+         * Start a new window if the current one is over
+         */
+        private void rotate() {
+            long currentTimestamp = System.currentTimeMillis();
+            if (currentTimestamp - windowStartTimestamp < WINDOW) {
+                return;
+            }
+            synchronized (this) {
+                if (currentTimestamp - windowStartTimestamp >= WINDOW) {
+                    // if the whole window has passed with no records - there's nothing worth keeping
+                    previousHistogram = currentTimestamp - windowStartTimestamp < WINDOW * 2 ? currentHistogram : new LatencyHistogram();
+                    currentHistogram = new LatencyHistogram();
+                    windowStartTimestamp = currentTimestamp;
+                }
+            }
+        }
+    }
+
+    /**
+     * Execute a request to the SageVue endpoint, recording its latency and result
+     *
+     * @param endpoint endpoint name, one of the AggregatorMetrics constants
+     * @param request request to execute
+     * @param <T> request result type
+     * @return request result
+     * @throws Exception if the request has failed
+     */
+    <T> T measure(String endpoint, Callable<T> request) throws Exception {
+        long startTime = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = request.call();
+            success = true;
+            return result;
+        } finally {
+            endpointTimers.computeIfAbsent(endpoint, e -> new Timer())
+                    .record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), success);
+        }
+    }
+
+    /**
+     * Record time spent waiting for the adapter lock
+     *
+     * @param waitTimeNanos wait time (ns)
+     */
+    void recordLockWait(long waitTimeNanos) {
+        lockWaitTimer.record(TimeUnit.NANOSECONDS.toMillis(waitTimeNanos), true);
+    }
+
+    /**
+     * Record re-authentication, caused by an expired or invalid session
+     */
+    void recordReauthentication() {
+        reauthenticationCount.increment();
+    }
+
+    /**
+     * Record devices collection cycle
+     *
+     * @param durationMs cycle duration
+     * @param success whether the cycle has succeeded
+     * @param deviceCount number of devices collected during the cycle
+     */
+    void recordCycle(long durationMs, boolean success, int deviceCount) {
+        cycleCount.increment();
+        if (!success) {
+            failedCycleCount.increment();
+            return;
+        }
+        lastCycleDuration = durationMs;
+        lastCycleDeviceCount = deviceCount;
+    }
+
+    /**
+     * Record device details requests skipped during the last cycle, because the cycle deadline was reached
+     *
+     * @param skippedCount number of devices that kept the details retrieved during the previous cycles
+     */
+    void recordCycleDeadline(int skippedCount) {
+        lastCycleSkippedDetailsCount = skippedCount;
+        if (skippedCount > 0) {
+            deadlineExceededCycleCount.increment();
+        }
+    }
+
+    /**
+     * Record devices published after the last cycle
+     *
+     * @param changedCount number of new or changed devices
+     * @param reusedCount number of unchanged devices, published with the previous instances
+     */
+    void recordDeviceChanges(int changedCount, int reusedCount) {
+        reusedDeviceCount = reusedCount;
+        changedDeviceCount = changedCount;
+    }
+
+    /**
+     * Record devices of the last cycle /devices payload, skipped by the device selection
+     *
+     * @param excludedCount number of devices not selected
+     */
+    void recordDeviceSelection(int excludedCount) {
+        excludedDeviceCount = excludedCount;
+    }
+
+    /**
+     * Record device details polling of the last cycle, in adaptive polling mode
+     *
+     * @param tierDeviceCounts number of devices in each refresh tier
+     * @param requestedCount number of devices polled during the cycle
+     * @param deferredCount number of due devices postponed because of the request budget
+     */
+    void recordDevicePolling(Map<DevicePollingScheduler.Tier, Integer> tierDeviceCounts, int requestedCount, int deferredCount) {
+        Map<String, String> statistics = new TreeMap<>();
+        for (DevicePollingScheduler.Tier tier : DevicePollingScheduler.Tier.values()) {
+            String tierName = tier.name().charAt(0) + tier.name().substring(1).toLowerCase();
+            statistics.put(MONITORING_GROUP + tierName + "TierDevices", String.valueOf(tierDeviceCounts.getOrDefault(tier, 0)));
+        }
+        statistics.put(MONITORING_GROUP + "LastCycleDeviceDetailsRequests", String.valueOf(requestedCount));
+        statistics.put(MONITORING_GROUP + "LastCycleDeferredDeviceDetails", String.valueOf(deferredCount));
+        devicePollingStatistics = statistics;
+    }
+
+    /**
+     * Record /systems payload reuse of the last cycle
+     *
+     * @param crossFilledCount number of /devices entries matched with a /systems entry
+     * @param suppliedDetailsCount number of device details requests skipped, since /systems has provided the details
+     */
+    void recordSystemsCrossFill(int crossFilledCount, int suppliedDetailsCount) {
+        this.suppliedDetailsCount = suppliedDetailsCount;
+        crossFilledDeviceCount = crossFilledCount;
+    }
+
+    /**
+     * Record devices restored from the warm start snapshot
+     *
+     * @param deviceCount number of devices restored
+     * @param snapshotAge age (ms) of the snapshot when it was loaded
+     */
+    void recordWarmStart(int deviceCount, long snapshotAge) {
+        warmStartSnapshotAge = snapshotAge;
+        warmStartDeviceCount = deviceCount;
+    }
+
+    /**
+     * Get metrics as statistics. Only the endpoints that were requested at least once are reported.
+     *
+     * @return map of "statisticName:value" pairs
+     */
+    Map<String, String> getStatistics() {
+        Map<String, String> statistics = new TreeMap<>();
+        endpointTimers.forEach((endpoint, timer) -> {
+            String prefix = ENDPOINT_GROUP + endpoint + ".";
+            statistics.put(prefix + "Requests", String.valueOf(timer.count.sum()));
+            statistics.put(prefix + "Errors", String.valueOf(timer.errorCount.sum()));
+            statistics.put(prefix + "p50", String.valueOf(timer.getPercentile(50)));
+            statistics.put(prefix + "p99", String.valueOf(timer.getPercentile(99)));
+        });
+        if (lastCycleDuration >= 0) {
+            statistics.put(MONITORING_GROUP + "LastCycleDurationMs", String.valueOf(lastCycleDuration));
+            statistics.put(MONITORING_GROUP + "LastCycleDeviceCount", String.valueOf(lastCycleDeviceCount));
+        }
+        if (warmStartDeviceCount >= 0) {
+            statistics.put(MONITORING_GROUP + "WarmStartDeviceCount", String.valueOf(warmStartDeviceCount));
+            statistics.put(MONITORING_GROUP + "WarmStartSnapshotAgeMs", String.valueOf(warmStartSnapshotAge));
+        }
+        statistics.putAll(devicePollingStatistics);
+        if (crossFilledDeviceCount >= 0) {
+            statistics.put(MONITORING_GROUP + "LastCycleSystemsCrossFilledDevices", String.valueOf(crossFilledDeviceCount));
+            statistics.put(MONITORING_GROUP + "LastCycleSystemsSuppliedDetails", String.valueOf(suppliedDetailsCount));
+        }
+        if (excludedDeviceCount >= 0) {
+            statistics.put(MONITORING_GROUP + "LastCycleExcludedDevices", String.valueOf(excludedDeviceCount));
+        }
+        if (changedDeviceCount >= 0) {
+            statistics.put(MONITORING_GROUP + "LastCycleChangedDevices", String.valueOf(changedDeviceCount));
+            statistics.put(MONITORING_GROUP + "LastCycleUnchangedDevices", String.valueOf(reusedDeviceCount));
+        }
+        statistics.put(MONITORING_GROUP + "Cycles", String.valueOf(cycleCount.sum()));
+        statistics.put(MONITORING_GROUP + "FailedCycles", String.valueOf(failedCycleCount.sum()));
+        statistics.put(MONITORING_GROUP + "DeadlineExceededCycles", String.valueOf(deadlineExceededCycleCount.sum()));
+        statistics.put(MONITORING_GROUP + "LastCycleDeadlineSkippedDetails", String.valueOf(lastCycleSkippedDetailsCount));
+        statistics.put(MONITORING_GROUP + "Reauthentications", String.valueOf(reauthenticationCount.sum()));
+        statistics.put(MONITORING_GROUP + "LockWaitP50Ms", String.valueOf(lockWaitTimer.getPercentile(50)));
+        statistics.put(MONITORING_GROUP + "LockWaitP99Ms", String.valueOf(lockWaitTimer.getPercentile(99)));
+        return statistics;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Circuit breakers of the SageVue routes - an endpoint, or an endpoint of a device model, e.g. firmware/Dynasound.
+ * A route is opened once its requests have failed {@link #failureThreshold} times in a row, and is not requested
+ * for {@link #coolDownPeriod} ms after that. Once the period is over, a single trial request is let through:
+ * the route is closed if it succeeds, or opened for another period otherwise.
+ * Requests rejected with a client error neither count as failures nor reset the failures in a row,
+ * so a route that keeps failing in between the rejected requests is still opened.
+ * Breaker states are reported as "CircuitBreaker#{route}.{metric}" statistics.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class CircuitBreakers {
+    /**
+     * Circuit breaker state
+     */
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final String CIRCUIT_BREAKER_GROUP = "CircuitBreaker#";
+
+    /**
+     * Number of consecutive failures after which a route is opened, 0 or less to never open the routes
+     */
+    private final int failureThreshold;
+    /**
+     * Time (ms) an open route is not requested for
+     */
+    private final long coolDownPeriod;
+    /**
+     * Container for "route:breaker" pairs
+     */
+    private final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+
+    /**
+     * Circuit breaker of a single route
+     */
+    private static class Breaker {
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openTimestamp;
+        private long openCount;
+        private long rejectedCount;
+    }
+
+    /**
+     * Create circuit breakers
+     *
+     * @param failureThreshold number of consecutive failures after which a route is opened, 0 or less to never open the routes
+     * @param coolDownPeriod time (ms) an open route is not requested for
+     */
+    CircuitBreakers(int failureThreshold, long coolDownPeriod) {
+        this.failureThreshold = failureThreshold;
+        this.coolDownPeriod = coolDownPeriod;
+    }
+
+    /**
+     * Check whether the route may be requested. Once the cool-down period of an open route is over,
+     * only the first caller is allowed to issue a trial request.
+     *
+     * @param route route to request
+     * @return true if the request may be issued, false if it has to be skipped
+     */
+    boolean allowRequest(String route) {
+        Breaker breaker = breakers.computeIfAbsent(route, r -> new Breaker());
+        synchronized (breaker) {
+            switch (breaker.state) {
+                case OPEN:
+                    if (System.currentTimeMillis() - breaker.openTimestamp >= coolDownPeriod) {
+                        breaker.state = State.HALF_OPEN;
+                        return true;
+                    }
+                    breaker.rejectedCount++;
+                    return false;
+                case HALF_OPEN:
+                    breaker.rejectedCount++;
+                    return false;
+                default:
+                    return true;
+            }
+        }
+    }
+
+    /**
+     * Record a request the route has responded to, closing the route
+     *
+     * @param route requested route
+     */
+    void recordSuccess(String route) {
+        Breaker breaker = breakers.computeIfAbsent(route, r -> new Breaker());
+        synchronized (breaker) {
+            breaker.consecutiveFailures = 0;
+            breaker.state = State.CLOSED;
+        }
+    }
+
+    /**
+     * Record a request the route has rejected with a client error. The route is up, so the trial request of
+     * a half-open route closes it, but the failures in a row are kept.
+     *
+     * @param route requested route
+     */
+    void recordClientError(String route) {
+        Breaker breaker = breakers.computeIfAbsent(route, r -> new Breaker());
+        synchronized (breaker) {
+            if (breaker.state == State.HALF_OPEN) {
+                breaker.state = State.CLOSED;
+            }
+        }
+    }
+
+    /**
+     * Record a failed request of the route, opening the route if it has failed too many times in a row,
+     * or if the trial request has failed
+     *
+     * @param route requested route
+     */
+    void recordFailure(String route) {
+        Breaker breaker = breakers.computeIfAbsent(route, r -> new Breaker());
+        synchronized (breaker) {
+            breaker.consecutiveFailures++;
+            if (failureThreshold > 0 && (breaker.state == State.HALF_OPEN || breaker.consecutiveFailures >= failureThreshold)) {
+                if (breaker.state != State.OPEN) {
+                    breaker.openCount++;
+                }
+                breaker.state = State.OPEN;
+                breaker.openTimestamp = System.currentTimeMillis();
+            }
+        }
+    }
+
+    /**
+     * Get state of the route breaker
+     *
+     * @param route route to get the state of
+     * @return breaker state
+     */
+    State getState(String route) {
+        Breaker breaker = breakers.get(route);
+        if (breaker == null) {
+            return State.CLOSED;
+        }
+        synchronized (breaker) {
+            return breaker.state;
+        }
+    }
+
+    /**
+     * Get breaker states as statistics. Only the routes that were requested at least once are reported.
+     *
+     * @return map of "statisticName:value" pairs
+     */
+    Map<String, String> getStatistics() {
+        Map<String, String> statistics = new TreeMap<>();
+        int openRouteCount = 0;
+        for (Map.Entry<String, Breaker> entry : breakers.entrySet()) {
+            String prefix = CIRCUIT_BREAKER_GROUP + entry.getKey() + ".";
+            Breaker breaker = entry.getValue();
+            synchronized (breaker) {
+                if (breaker.state != State.CLOSED) {
+                    openRouteCount++;
+                }
+                statistics.put(prefix + "State", breaker.state.name());
+                statistics.put(prefix + "ConsecutiveFailures", String.valueOf(breaker.consecutiveFailures));
+                statistics.put(prefix + "Opened", String.valueOf(breaker.openCount));
+                statistics.put(prefix + "RejectedRequests", String.valueOf(breaker.rejectedCount));
+            }
+        }
+        statistics.put(CIRCUIT_BREAKER_GROUP + "OpenRoutes", String.valueOf(openRouteCount));
+        return statistics;
+    }
+
+    /**
+     * Close all the routes and drop their counters
+     */
+    void clear() {
+        breakers.clear();
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.aggregator.parser.AdvancedControlsFactory;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.converter.JsonPropertyConverter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.apache.commons.beanutils.ConvertUtilsBean;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Model mapping (model-mapping.yml), compiled into a ready-to-evaluate form.
+ * {@link com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor} parses every filter, property and control
+ * expression again for each device it maps, looks device properties up via reflection and copies each model node
+ * before processing it. Here all of that is done once, when the mapping is compiled: SpEL expressions are parsed
+ * (and compiled to bytecode once they are hot), literal values are told apart from expressions, and device property
+ * setters are resolved. Evaluation produces the same {@link AggregatedDevice} instances the processor does.
+ * DropDown options and labels are split once per distinct value, so devices of the same model, that share
+ * the same firmware catalogue, share the same options array.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class CompiledModelMapping {
+    private static final Log LOG = LogFactory.getLog(CompiledModelMapping.class);
+    /**
+     * Same pattern AdvancedControlsFactory uses to tell json expressions from literal values
+     */
+    private static final Pattern DEVICE_PROPERTY_PATTERN = Pattern.compile(".+?[a-zA-Z]+?\\(.+?\\).*?");
+    /**
+     * Maximum number of distinct DropDown values to keep split per control
+     */
+    private static final int MAX_CACHED_OPTIONS = 256;
+
+    private final SpelExpressionParser expressionParser = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, CompiledModelMapping.class.getClassLoader(), true, true, Integer.MAX_VALUE));
+    private final ConvertUtilsBean convertUtils = new ConvertUtilsBean();
+    /**
+     * Used for the control types that are not compiled (Slider, Preset, Switch, Text, Numeric)
+     */
+    private final AdvancedControlsFactory advancedControlsFactory = new AdvancedControlsFactory(new JsonPropertyConverter());
+    private final Map<String, PropertyDescriptor> devicePropertyDescriptors = new HashMap<>();
+    private final List<CompiledModel> models = new ArrayList<>();
+
+    /**
+     * Single value of the mapping: either a literal or a json expression
+     */
+    private static class CompiledValue {
+        private final String literal;
+        private final Expression expression;
+
+        private CompiledValue(String literal, Expression expression) {
+            this.literal = literal;
+            this.expression = expression;
+        }
+
+        /**
+         * Evaluate the value against the device json, same way JsonPropertyConverter#retrieveJsonValue does
+         *
+         * @param deviceNode device json
+         * @return String value, empty string if the expression resolved to null
+         */
+        private String evaluate(JsonNode deviceNode) {
+            if (expression == null) {
+                return literal;
+            }
+            Object value = expression.getValue(deviceNode);
+            if (value instanceof TextNode) {
+                value = ((TextNode) value).asText();
+            }
+            if (value == null || value instanceof NullNode || "null".equals(value)) {
+                return "";
+            }
+            return value.toString();
+        }
+    }
+
+    /**
+     * Device property (deviceId, deviceOnline etc.) along with its setter
+     */
+    private static class CompiledDeviceProperty {
+        private final Method writeMethod;
+        private final Class<?> propertyType;
+        private final CompiledValue value;
+
+        private CompiledDeviceProperty(PropertyDescriptor propertyDescriptor, CompiledValue value) {
+            this.writeMethod = propertyDescriptor.getWriteMethod();
+            this.propertyType = propertyDescriptor.getPropertyType();
+            this.value = value;
+        }
+    }
+
+    /**
+     * Advanced controllable property template
+     */
+    private interface CompiledControl {
+        AdvancedControllableProperty create(JsonNode deviceNode);
+    }
+
+    /**
+     * Compiled mapping of a single model
+     */
+    private static class CompiledModel {
+        private String modelName;
+        private String node;
+        private CompiledValue filter;
+        private final List<CompiledDeviceProperty> deviceProperties = new ArrayList<>();
+        private final Map<String, CompiledValue> properties = new HashMap<>();
+        private final Map<String, CompiledValue> statistics = new HashMap<>();
+        private final Map<String, CompiledValue> dynamicStatistics = new HashMap<>();
+        private final Map<String, String> control = new HashMap<>();
+        private final List<CompiledControl> controls = new ArrayList<>();
+    }
+
+    /**
+     * CompiledModelMapping constructor
+     *
+     * @param mapping model mapping, loaded from model-mapping.yml
+     * @throws IntrospectionException if AggregatedDevice properties could not be resolved
+     */
+    CompiledModelMapping(Map<String, PropertiesMapping> mapping) throws IntrospectionException {
+        for (PropertyDescriptor propertyDescriptor : Introspector.getBeanInfo(AggregatedDevice.class).getPropertyDescriptors()) {
+            if (propertyDescriptor.getWriteMethod() != null) {
+                devicePropertyDescriptors.put(propertyDescriptor.getName(), propertyDescriptor);
+            }
+        }
+        // models are kept in the mapping order, so devices are extracted in the same order the processor extracts them
+        mapping.forEach((modelName, propertiesMapping) -> {
+            CompiledModel model = new CompiledModel();
+            model.modelName = modelName;
+            model.node = propertiesMapping.getNode();
+            if (propertiesMapping.getFilter() != null && !propertiesMapping.getFilter().isEmpty()) {
+                model.filter = new CompiledValue(null, expressionParser.parseExpression(propertiesMapping.getFilter()));
+            }
+            compileDeviceProperties(propertiesMapping.getDeviceProperties(), model.deviceProperties);
+            compileProperties(propertiesMapping.getProperties(), model.properties);
+            compileProperties(propertiesMapping.getStatistics(), model.statistics);
+            compileProperties(propertiesMapping.getDynamicStatistics(), model.dynamicStatistics);
+            compileControls(propertiesMapping.getControlProperties(), model);
+            models.add(model);
+        });
+    }
+
+    /**
+     * Extract AggregatedDevice instances out of the devices json
+     *
+     * @param devicesJson devices json, containing "*Devices" arrays
+     * @return List<AggregatedDevice> list of the mapped devices
+     */
+    List<AggregatedDevice> extractDevices(JsonNode devicesJson) {
+        List<AggregatedDevice> devices = new ArrayList<>();
+        for (CompiledModel model : models) {
+            if (model.filter == null) {
+                continue;
+            }
+            JsonNode modelNodes = model.node == null || model.node.isEmpty() ? devicesJson : devicesJson.get(model.node);
+            if (modelNodes == null || !modelNodes.isArray()) {
+                continue;
+            }
+            for (JsonNode deviceNode : modelNodes) {
+                if (Boolean.parseBoolean(model.filter.evaluate(deviceNode))) {
+                    devices.add(createDevice(model, deviceNode));
+                }
+            }
+        }
+        return devices;
+    }
+
+    /**
+     * Create AggregatedDevice out of the device json. Statistics and control maps are deprecated,
+     * but are still populated the same way {@link com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor} does.
+     *
+     * @param model compiled model mapping
+     * @param deviceNode device json
+     * @return mapped AggregatedDevice
+     */
+    @SuppressWarnings("deprecation")
+    private AggregatedDevice createDevice(CompiledModel model, JsonNode deviceNode) {
+        AggregatedDevice device = new AggregatedDevice();
+        for (CompiledDeviceProperty deviceProperty : model.deviceProperties) {
+            String value = deviceProperty.value.evaluate(deviceNode);
+            try {
+                deviceProperty.writeMethod.invoke(device, convertUtils.convert(value, deviceProperty.propertyType));
+            } catch (ReflectiveOperationException e) {
+                LOG.error("Failed to apply device property " + deviceProperty.writeMethod.getName() + " for model " + model.modelName, e);
+            }
+        }
+        device.setProperties(evaluateProperties(model.properties, deviceNode));
+        device.setStatistics(evaluateProperties(model.statistics, deviceNode));
+        device.setDynamicStatistics(evaluateProperties(model.dynamicStatistics, deviceNode));
+
+        List<AdvancedControllableProperty> controllableProperties = new ArrayList<>(model.controls.size());
+        for (CompiledControl control : model.controls) {
+            AdvancedControllableProperty controllableProperty = control.create(deviceNode);
+            if (controllableProperty != null) {
+                controllableProperties.add(controllableProperty);
+            }
+        }
+        device.setControl(new HashMap<>(model.control));
+        device.setControllableProperties(controllableProperties);
+        return device;
+    }
+
+    /**
+     * Evaluate properties against the device json, properties with empty values are skipped
+     *
+     * @param properties compiled properties
+     * @param deviceNode device json
+     * @return map of property values
+     */
+    private Map<String, String> evaluateProperties(Map<String, CompiledValue> properties, JsonNode deviceNode) {
+        Map<String, String> values = new HashMap<>();
+        properties.forEach((name, value) -> {
+            String propertyValue = value.evaluate(deviceNode);
+            if (!propertyValue.isEmpty()) {
+                values.put(name, propertyValue);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Compile a value, that is either a literal or a json expression
+     *
+     * @param value mapping value
+     * @return compiled value
+     */
+    private CompiledValue compileValue(String value) {
+        if (value == null) {
+            return new CompiledValue("", null);
+        }
+        if (DEVICE_PROPERTY_PATTERN.matcher(value).matches()) {
+            return new CompiledValue(null, expressionParser.parseExpression(value));
+        }
+        return new CompiledValue(value, null);
+    }
+
+    /**
+     * Compile properties, statistics or dynamic statistics mapping
+     *
+     * @param mapping "propertyName:value" mapping
+     * @param properties map to put compiled values to
+     */
+    private void compileProperties(Map<String, String> mapping, Map<String, CompiledValue> properties) {
+        if (mapping == null) {
+            return;
+        }
+        mapping.forEach((name, value) -> properties.put(name, compileValue(value)));
+    }
+
+    /**
+     * Compile AggregatedDevice properties mapping. Properties that AggregatedDevice does not have are skipped.
+     *
+     * @param mapping "devicePropertyName:value" mapping
+     * @param deviceProperties list to put compiled device properties to
+     */
+    private void compileDeviceProperties(Map<String, String> mapping, List<CompiledDeviceProperty> deviceProperties) {
+        if (mapping == null) {
+            return;
+        }
+        mapping.forEach((name, value) -> {
+            PropertyDescriptor propertyDescriptor = devicePropertyDescriptors.get(name);
+            if (propertyDescriptor != null) {
+                deviceProperties.add(new CompiledDeviceProperty(propertyDescriptor, compileValue(value)));
+            }
+        });
+    }
+
+    /**
+     * Compile controls mapping. DropDown and Button controls are compiled,
+     * other control types are created with AdvancedControlsFactory.
+     *
+     * @param mapping "controlName:controlMapping" mapping
+     * @param model model to add compiled controls to
+     */
+    @SuppressWarnings("unchecked")
+    private void compileControls(Map<String, ?> mapping, CompiledModel model) {
+        if (mapping == null) {
+            return;
+        }
+        // same HashMap copy the processor iterates, so controllable properties keep the processor order
+        Map<String, Object> controlMapping = new HashMap<>(mapping);
+        controlMapping.forEach((name, value) -> {
+            if (value instanceof String) {
+                model.control.put(name, (String) value);
+            } else if (value instanceof Map) {
+                Map<String, String> controlProperties = (Map<String, String>) value;
+                CompiledControl control = compileControl(name, controlProperties);
+                if (control != null) {
+                    model.controls.add(control);
+                }
+            }
+        });
+    }
+
+    /**
+     * Compile a single advanced controllable property
+     *
+     * @param name controllable property name
+     * @param controlProperties control mapping (type, options, labels, value etc.)
+     * @return compiled control, or null if the control type is not supported
+     */
+    private CompiledControl compileControl(String name, Map<String, String> controlProperties) {
+        String type = String.valueOf(controlProperties.get("type"));
+        switch (type) {
+            case "DropDown":
+                return compileDropDown(name, controlProperties);
+            case "Button":
+                return compileButton(name, controlProperties);
+            case "Slider":
+                return deviceNode -> advancedControlsFactory.createSliderControl(name, deviceNode, controlProperties);
+            case "Preset":
+                return deviceNode -> advancedControlsFactory.createPresetControl(name, deviceNode, controlProperties);
+            case "Switch":
+                return deviceNode -> advancedControlsFactory.createSwitchControl(name, deviceNode, controlProperties);
+            case "Numeric":
+                return deviceNode -> advancedControlsFactory.createNumericControl(name, deviceNode, controlProperties);
+            case "Text":
+                return deviceNode -> advancedControlsFactory.createTextControl(name, deviceNode, controlProperties);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Compile DropDown control. Options and labels arrays are cached per distinct value and shared between devices,
+     * so they must not be modified.
+     *
+     * @param name controllable property name
+     * @param controlProperties control mapping
+     * @return compiled DropDown control
+     */
+    private CompiledControl compileDropDown(String name, Map<String, String> controlProperties) {
+        CompiledValue options = compileValue(controlProperties.get("options"));
+        CompiledValue labels = compileValue(controlProperties.get("labels"));
+        CompiledValue value = compileValue(controlProperties.get("value"));
+        Map<String, String[]> splitValues = new ConcurrentHashMap<>();
+        return deviceNode -> {
+            if (splitValues.size() > MAX_CACHED_OPTIONS) {
+                splitValues.clear();
+            }
+            AdvancedControllableProperty.DropDown dropDown = new AdvancedControllableProperty.DropDown();
+            dropDown.setOptions(splitValues.computeIfAbsent(options.evaluate(deviceNode), s -> s.split(",")));
+            dropDown.setLabels(splitValues.computeIfAbsent(labels.evaluate(deviceNode), s -> s.split(",")));
+            return new AdvancedControllableProperty(name, new Date(), dropDown, value.evaluate(deviceNode));
+        };
+    }
+
+    /**
+     * Compile Button control, grace period defaults to 0 when it is not mapped
+     *
+     * @param name controllable property name
+     * @param controlProperties control mapping
+     * @return compiled Button control
+     */
+    private CompiledControl compileButton(String name, Map<String, String> controlProperties) {
+        Object gracePeriodMapping = ((Map<String, ?>) controlProperties).get("gracePeriod");
+        CompiledValue gracePeriod = compileValue(gracePeriodMapping == null ? "0" : String.valueOf(gracePeriodMapping));
+        CompiledValue label = compileValue(controlProperties.get("label"));
+        CompiledValue labelPressed = compileValue(controlProperties.get("labelPressed"));
+        CompiledValue value = compileValue(controlProperties.get("value"));
+        return deviceNode -> {
+            AdvancedControllableProperty.Button button = new AdvancedControllableProperty.Button();
+            String gracePeriodValue = gracePeriod.evaluate(deviceNode);
+            button.setGracePeriod(gracePeriodValue.isEmpty() ? 0L : Long.valueOf(gracePeriodValue));
+            button.setLabel(label.evaluate(deviceNode));
+            button.setLabelPressed(labelPressed.evaluate(deviceNode));
+            return new AdvancedControllableProperty(name, new Date(), button, value.evaluate(deviceNode));
+        };
+    }
+}
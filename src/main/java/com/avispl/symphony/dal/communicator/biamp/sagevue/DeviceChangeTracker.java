@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Diffs the devices collected during a cycle against the devices published after the previous cycle.
+ * Unchanged devices are replaced with the previously published instances, so the same objects are reported
+ * until something actually changes. Every change is recorded with a sequence number, and the time each
+ * property or control has last changed at is tracked per device, so the devices changed since a certain
+ * retrieval can be selected without comparing the whole fleet again.
+ * Properties and controls changed since the device was first tracked are published with the changed device,
+ * as {@link #LAST_CHANGED_PROPERTIES} property.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class DeviceChangeTracker {
+    /**
+     * Device property listing "lastChangedTimestamp propertyName" lines of the changed properties and controls,
+     * most recently changed first
+     */
+    static final String LAST_CHANGED_PROPERTIES = "lastChangedProperties";
+
+    /**
+     * Source of the current time (ms) the changes are recorded with
+     */
+    private final LongSupplier clock;
+    /**
+     * Container for "deviceKey:trackedDevice" pairs, see {@link #update(List)} for the device keys
+     */
+    private Map<String, TrackedDevice> trackedDevices = new HashMap<>();
+    /**
+     * Sequence number of the last update that has changed at least one device
+     */
+    private long changeSequence;
+    /**
+     * Sequence number the devices were last retrieved with by {@link #retrieveChangedDevices()}
+     */
+    private long retrievedSequence = -1;
+    private int lastUpdateChangedCount;
+    private int lastUpdateReusedCount;
+
+    /**
+     * Published device, along with its change history
+     */
+    private static class TrackedDevice {
+        private final AggregatedDevice device;
+        private final long changeSequence;
+        /**
+         * Time (ms) the device was first tracked at
+         */
+        private final long trackedTimestamp;
+        /**
+         * Container for "propertyName:lastChangedTimestamp" pairs, controls are tracked by their names
+         */
+        private final Map<String, Long> propertyTimestamps;
+
+        private TrackedDevice(AggregatedDevice device, long changeSequence, long trackedTimestamp, Map<String, Long> propertyTimestamps) {
+            this.device = device;
+            this.changeSequence = changeSequence;
+            this.trackedTimestamp = trackedTimestamp;
+            this.propertyTimestamps = propertyTimestamps;
+        }
+    }
+
+    /**
+     * Create a device change tracker
+     */
+    DeviceChangeTracker() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * Create a device change tracker with a custom time source
+     *
+     * @param clock source of the current time (ms), e.g. System::currentTimeMillis
+     */
+    DeviceChangeTracker(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Diff the collected devices against the previously published ones. Devices are keyed by deviceId, devices
+     * sharing the same deviceId are told apart by their order. Devices that are no longer collected are dropped.
+     * Changed devices that have been tracked before are published with {@link #LAST_CHANGED_PROPERTIES}.
+     *
+     * @param devices devices collected during the cycle
+     * @return devices to publish, unchanged devices are replaced with the previously published instances
+     */
+    synchronized List<AggregatedDevice> update(List<AggregatedDevice> devices) {
+        long currentTimestamp = clock.getAsLong();
+        long nextSequence = changeSequence + 1;
+        Map<String, TrackedDevice> updatedDevices = new HashMap<>(devices.size() * 4 / 3 + 1);
+        Map<String, Integer> deviceIdCounts = new HashMap<>();
+        List<AggregatedDevice> publishedDevices = new ArrayList<>(devices.size());
+        int changedCount = 0;
+        for (AggregatedDevice device : devices) {
+            int deviceIdCount = deviceIdCounts.merge(device.getDeviceId(), 1, Integer::sum);
+            String deviceKey = deviceIdCount == 1 ? device.getDeviceId() : device.getDeviceId() + "#" + deviceIdCount;
+            TrackedDevice previous = trackedDevices.get(deviceKey);
+            if (previous != null && previous.device == device) {
+                updatedDevices.put(deviceKey, previous);
+                publishedDevices.add(device);
+                continue;
+            }
+            Map<String, Boolean> changedProperties = new HashMap<>();
+            if (previous != null && !diff(previous.device, device, changedProperties)) {
+                updatedDevices.put(deviceKey, previous);
+                publishedDevices.add(previous.device);
+                continue;
+            }
+            TrackedDevice trackedDevice;
+            if (previous == null) {
+                Map<String, Long> propertyTimestamps = new HashMap<>();
+                nonNull(device.getProperties()).keySet().forEach(propertyName -> {
+                    if (!LAST_CHANGED_PROPERTIES.equals(propertyName)) {
+                        propertyTimestamps.put(propertyName, currentTimestamp);
+                    }
+                });
+                indexControls(device.getControllableProperties()).keySet().forEach(controlName -> propertyTimestamps.put(controlName, currentTimestamp));
+                trackedDevice = new TrackedDevice(device, nextSequence, currentTimestamp, propertyTimestamps);
+            } else {
+                Map<String, Long> propertyTimestamps = new HashMap<>(previous.propertyTimestamps);
+                changedProperties.forEach((name, present) -> {
+                    if (present) {
+                        propertyTimestamps.put(name, currentTimestamp);
+                    } else {
+                        propertyTimestamps.remove(name);
+                    }
+                });
+                trackedDevice = new TrackedDevice(device, nextSequence, previous.trackedTimestamp, propertyTimestamps);
+                publishLastChangedProperties(trackedDevice);
+            }
+            changedCount++;
+            updatedDevices.put(deviceKey, trackedDevice);
+            publishedDevices.add(device);
+        }
+        if (changedCount > 0 || updatedDevices.size() != trackedDevices.size()) {
+            changeSequence = nextSequence;
+        }
+        trackedDevices = updatedDevices;
+        lastUpdateChangedCount = changedCount;
+        lastUpdateReusedCount = devices.size() - changedCount;
+        return publishedDevices;
+    }
+
+    /**
+     * Get devices changed since the previous call. The first call returns all the devices.
+     *
+     * @return list of the changed devices
+     */
+    synchronized List<AggregatedDevice> retrieveChangedDevices() {
+        List<AggregatedDevice> changedDevices = new ArrayList<>();
+        trackedDevices.values().forEach(trackedDevice -> {
+            if (trackedDevice.changeSequence > retrievedSequence) {
+                changedDevices.add(trackedDevice.device);
+            }
+        });
+        retrievedSequence = changeSequence;
+        return changedDevices;
+    }
+
+    /**
+     * Get the times the properties and controls of the device have last changed at
+     *
+     * @param deviceId id of the device
+     * @return map of "propertyName:lastChangedTimestamp" pairs, empty if the device is not tracked
+     */
+    synchronized Map<String, Long> getPropertyTimestamps(String deviceId) {
+        TrackedDevice trackedDevice = trackedDevices.get(deviceId);
+        return trackedDevice == null ? Collections.emptyMap() : Collections.unmodifiableMap(trackedDevice.propertyTimestamps);
+    }
+
+    /**
+     * Get number of devices changed during the last update
+     *
+     * @return changed device count
+     */
+    synchronized int getLastUpdateChangedCount() {
+        return lastUpdateChangedCount;
+    }
+
+    /**
+     * Get number of devices reported with the previously published instances after the last update
+     *
+     * @return reused device count
+     */
+    synchronized int getLastUpdateReusedCount() {
+        return lastUpdateReusedCount;
+    }
+
+    /**
+     * Drop all the tracked devices, so the next retrieval returns all the devices
+     */
+    synchronized void clear() {
+        trackedDevices = new HashMap<>();
+        changeSequence = 0;
+        retrievedSequence = -1;
+    }
+
+    /**
+     * Add {@link #LAST_CHANGED_PROPERTIES} to the changed device: properties and controls changed since the device
+     * was first tracked, most recently changed first. The properties map is replaced, rather than modified.
+     *
+     * @param trackedDevice changed device, along with its change history
+     */
+    private static void publishLastChangedProperties(TrackedDevice trackedDevice) {
+        List<Map.Entry<String, Long>> changedProperties = new ArrayList<>();
+        trackedDevice.propertyTimestamps.entrySet().forEach(propertyTimestamp -> {
+            if (propertyTimestamp.getValue() > trackedDevice.trackedTimestamp) {
+                changedProperties.add(propertyTimestamp);
+            }
+        });
+        Map<String, String> properties = new HashMap<>(nonNull(trackedDevice.device.getProperties()));
+        if (changedProperties.isEmpty()) {
+            properties.remove(LAST_CHANGED_PROPERTIES);
+        } else {
+            changedProperties.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+            StringBuilder lastChangedProperties = new StringBuilder();
+            changedProperties.forEach(propertyTimestamp -> lastChangedProperties.append(Instant.ofEpochMilli(propertyTimestamp.getValue()))
+                    .append(' ').append(propertyTimestamp.getKey()).append('\n'));
+            properties.put(LAST_CHANGED_PROPERTIES, lastChangedProperties.toString());
+        }
+        trackedDevice.device.setProperties(properties);
+    }
+
+    /**
+     * Compare two instances of the same device. {@link #LAST_CHANGED_PROPERTIES} is derived from the changes,
+     * so it's not compared.
+     *
+     * @param previous previously published device
+     * @param current newly collected device
+     * @param changedProperties map to collect "propertyName:present" pairs of the changed properties and controls into,
+     * present is false if the property or control is gone
+     * @return true if the device has changed, false otherwise
+     */
+    private static boolean diff(AggregatedDevice previous, AggregatedDevice current, Map<String, Boolean> changedProperties) {
+        boolean changed = !Objects.equals(previous.getDeviceOnline(), current.getDeviceOnline())
+                || !Objects.equals(previous.getDeviceName(), current.getDeviceName())
+                || !Objects.equals(previous.getDeviceModel(), current.getDeviceModel())
+                || !Objects.equals(previous.getSerialNumber(), current.getSerialNumber());
+
+        Map<String, String> previousProperties = nonNull(previous.getProperties());
+        Map<String, String> currentProperties = nonNull(current.getProperties());
+        currentProperties.forEach((propertyName, value) -> {
+            if (!LAST_CHANGED_PROPERTIES.equals(propertyName) && !Objects.equals(previousProperties.get(propertyName), value)) {
+                changedProperties.put(propertyName, true);
+            }
+        });
+        previousProperties.keySet().forEach(propertyName -> {
+            if (!LAST_CHANGED_PROPERTIES.equals(propertyName) && !currentProperties.containsKey(propertyName)) {
+                changedProperties.put(propertyName, false);
+            }
+        });
+
+        Map<String, AdvancedControllableProperty> previousControls = indexControls(previous.getControllableProperties());
+        Map<String, AdvancedControllableProperty> currentControls = indexControls(current.getControllableProperties());
+        currentControls.forEach((controlName, control) -> {
+            if (!sameControl(previousControls.get(controlName), control)) {
+                changedProperties.put(controlName, true);
+            }
+        });
+        previousControls.keySet().forEach(controlName -> {
+            if (!currentControls.containsKey(controlName)) {
+                changedProperties.put(controlName, false);
+            }
+        });
+        return changed || !changedProperties.isEmpty();
+    }
+
+    /**
+     * Compare controls by name, value and type, control timestamps are ignored.
+     *
+     * @param previous previous control, or null
+     * @param current current control, or null
+     * @return true if the controls are the same, false otherwise
+     */
+    private static boolean sameControl(AdvancedControllableProperty previous, AdvancedControllableProperty current) {
+        if (previous == null || current == null) {
+            return previous == current;
+        }
+        return Objects.equals(previous.getName(), current.getName())
+                && Objects.equals(String.valueOf(previous.getValue()), String.valueOf(current.getValue()))
+                && sameType(previous.getType(), current.getType());
+    }
+
+    /**
+     * Compare control types field by field: toString() of the control types does not cover all the fields,
+     * e.g. Button.toString() leaves the grace period out.
+     *
+     * @param previous previous control type, or null
+     * @param current current control type, or null
+     * @return true if the control types are the same, false otherwise
+     */
+    static boolean sameType(AdvancedControllableProperty.ControllableType previous, AdvancedControllableProperty.ControllableType current) {
+        if (previous == null || current == null || previous.getClass() != current.getClass()) {
+            return previous == current;
+        }
+        if (previous instanceof AdvancedControllableProperty.DropDown) {
+            AdvancedControllableProperty.DropDown previousDropDown = (AdvancedControllableProperty.DropDown) previous;
+            AdvancedControllableProperty.DropDown currentDropDown = (AdvancedControllableProperty.DropDown) current;
+            return Arrays.equals(previousDropDown.getOptions(), currentDropDown.getOptions())
+                    && Arrays.equals(previousDropDown.getLabels(), currentDropDown.getLabels());
+        }
+        if (previous instanceof AdvancedControllableProperty.Button) {
+            AdvancedControllableProperty.Button previousButton = (AdvancedControllableProperty.Button) previous;
+            AdvancedControllableProperty.Button currentButton = (AdvancedControllableProperty.Button) current;
+            return Objects.equals(previousButton.getLabel(), currentButton.getLabel())
+                    && Objects.equals(previousButton.getLabelPressed(), currentButton.getLabelPressed())
+                    && Objects.equals(previousButton.getGracePeriod(), currentButton.getGracePeriod());
+        }
+        if (previous instanceof AdvancedControllableProperty.Preset) {
+            AdvancedControllableProperty.Preset previousPreset = (AdvancedControllableProperty.Preset) previous;
+            AdvancedControllableProperty.Preset currentPreset = (AdvancedControllableProperty.Preset) current;
+            return Arrays.equals(previousPreset.getOptions(), currentPreset.getOptions())
+                    && Arrays.equals(previousPreset.getLabels(), currentPreset.getLabels());
+        }
+        if (previous instanceof AdvancedControllableProperty.Switch) {
+            AdvancedControllableProperty.Switch previousSwitch = (AdvancedControllableProperty.Switch) previous;
+            AdvancedControllableProperty.Switch currentSwitch = (AdvancedControllableProperty.Switch) current;
+            return Objects.equals(previousSwitch.getLabelOn(), currentSwitch.getLabelOn())
+                    && Objects.equals(previousSwitch.getLabelOff(), currentSwitch.getLabelOff());
+        }
+        if (previous instanceof AdvancedControllableProperty.Slider) {
+            AdvancedControllableProperty.Slider previousSlider = (AdvancedControllableProperty.Slider) previous;
+            AdvancedControllableProperty.Slider currentSlider = (AdvancedControllableProperty.Slider) current;
+            return Objects.equals(previousSlider.getLabelStart(), currentSlider.getLabelStart())
+                    && Objects.equals(previousSlider.getLabelEnd(), currentSlider.getLabelEnd())
+                    && Objects.equals(previousSlider.getRangeStart(), currentSlider.getRangeStart())
+                    && Objects.equals(previousSlider.getRangeEnd(), currentSlider.getRangeEnd());
+        }
+        // Numeric and Text controls have no fields of their own
+        return true;
+    }
+
+    private static Map<String, String> nonNull(Map<String, String> properties) {
+        return properties == null ? Collections.emptyMap() : properties;
+    }
+
+    private static Map<String, AdvancedControllableProperty> indexControls(List<AdvancedControllableProperty> controls) {
+        if (controls == null || controls.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, AdvancedControllableProperty> indexedControls = new HashMap<>();
+        controls.forEach(control -> indexedControls.put(control.getName(), control));
+        return indexedControls;
+    }
+}
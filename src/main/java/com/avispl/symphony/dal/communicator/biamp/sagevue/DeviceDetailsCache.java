@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-device cache of the data retrieved during previous polling cycles, used by the incremental refresh mode.
+ * Each /devices list entry is fingerprinted, so device details (/devices/{model}/{serialNumber}) are only requested
+ * for devices that are new, have changed since the last cycle or have not been refreshed for too long.
+ * Mapped {@link AggregatedDevice} instances are kept along with the fingerprint of the enriched list entry
+ * they were created from, so unchanged devices are not mapped again.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class DeviceDetailsCache {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Container for "serialNumber:cacheEntry" pairs
+     */
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Cached data of a single device
+     */
+    private static class CacheEntry {
+        private long listFingerprint;
+        private String ipAddress;
+        private long refreshTimestamp;
+        private long mappingFingerprint;
+        private List<AggregatedDevice> mappedDevices;
+    }
+
+    /**
+     * Calculate fingerprint of the device json entry
+     *
+     * @param deviceNode json entry to calculate fingerprint for
+     * @return 64-bit FNV-1a hash of the entry json text
+     */
+    static long fingerprint(JsonNode deviceNode) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : deviceNode.toString().getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Check whether device details have to be requested for the device
+     *
+     * @param serialNumber device serial number
+     * @param listFingerprint fingerprint of the current /devices list entry of the device
+     * @param maxAge time (ms) after which device details are requested even if the device has not changed
+     * @return true if the device is new, has changed or its details are older than maxAge, false otherwise
+     */
+    boolean requiresRefresh(String serialNumber, long listFingerprint, long maxAge) {
+        CacheEntry entry = entries.get(serialNumber);
+        return entry == null || entry.refreshTimestamp == 0 || entry.listFingerprint != listFingerprint
+                || System.currentTimeMillis() - entry.refreshTimestamp > maxAge;
+    }
+
+    /**
+     * Save device details, retrieved for the device
+     *
+     * @param serialNumber device serial number
+     * @param listFingerprint fingerprint of the /devices list entry the details were retrieved for
+     * @param ipAddress device ip address
+     */
+    void updateDetails(String serialNumber, long listFingerprint, String ipAddress) {
+        CacheEntry entry = entries.computeIfAbsent(serialNumber, s -> new CacheEntry());
+        synchronized (entry) {
+            entry.listFingerprint = listFingerprint;
+            entry.ipAddress = ipAddress;
+            entry.refreshTimestamp = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Get device ip address, retrieved during one of the previous cycles
+     *
+     * @param serialNumber device serial number
+     * @return cached ip address or null if the device details were never retrieved
+     */
+    String getIpAddress(String serialNumber) {
+        CacheEntry entry = entries.get(serialNumber);
+        if (entry == null) {
+            return null;
+        }
+        synchronized (entry) {
+            return entry.ipAddress;
+        }
+    }
+
+    /**
+     * Get the time the device details were last retrieved at
+     *
+     * @param serialNumber device serial number
+     * @return refresh timestamp, or 0 if the device details were never retrieved
+     */
+    long getRefreshTimestamp(String serialNumber) {
+        CacheEntry entry = entries.get(serialNumber);
+        if (entry == null) {
+            return 0;
+        }
+        synchronized (entry) {
+            return entry.refreshTimestamp;
+        }
+    }
+
+    /**
+     * Get devices, mapped out of the same device json entry during one of the previous cycles
+     *
+     * @param serialNumber device serial number
+     * @param mappingFingerprint fingerprint of the enriched /devices list entry
+     * @return list of mapped devices, or null if the device entry has changed since it was mapped
+     */
+    List<AggregatedDevice> getMappedDevices(String serialNumber, long mappingFingerprint) {
+        CacheEntry entry = entries.get(serialNumber);
+        if (entry == null) {
+            return null;
+        }
+        synchronized (entry) {
+            return entry.mappedDevices != null && entry.mappingFingerprint == mappingFingerprint ? entry.mappedDevices : null;
+        }
+    }
+
+    /**
+     * Save devices mapped out of the device json entry
+     *
+     * @param serialNumber device serial number
+     * @param mappingFingerprint fingerprint of the enriched /devices list entry
+     * @param mappedDevices devices, mapped out of the entry
+     */
+    void updateMappedDevices(String serialNumber, long mappingFingerprint, List<AggregatedDevice> mappedDevices) {
+        CacheEntry entry = entries.computeIfAbsent(serialNumber, s -> new CacheEntry());
+        synchronized (entry) {
+            entry.mappingFingerprint = mappingFingerprint;
+            entry.mappedDevices = mappedDevices;
+        }
+    }
+
+    /**
+     * Remove cached data of the devices that are no longer listed by SageVue
+     *
+     * @param serialNumbers serial numbers of the devices to keep
+     */
+    void retainAll(Set<String> serialNumbers) {
+        entries.keySet().retainAll(serialNumbers);
+    }
+
+    /**
+     * Drop all cached data
+     */
+    void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Fixed set of locks, striped by a key (device serial number or system id), used to serialize control operations
+ * issued for the same device, while controls of different devices and devices collection cycles run independently.
+ * Two keys may share a stripe, which only means their controls are serialized too - the number of locks
+ * stays constant no matter how many devices the aggregator has.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class DeviceLocks {
+    private final ReentrantLock[] locks;
+
+    /**
+     * Create a set of locks
+     *
+     * @param stripes number of locks, rounded up to a power of two
+     */
+    DeviceLocks(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Get the lock that guards a given key
+     *
+     * @param key device serial number or system id
+     * @return lock assigned to the key
+     */
+    ReentrantLock getLock(String key) {
+        return locks[stripe(key)];
+    }
+
+    /**
+     * Get the locks that guard given keys, in the order they have to be acquired in.
+     * Locks are always acquired in the stripe order, so two threads locking overlapping sets of keys never deadlock.
+     *
+     * @param keys device serial numbers
+     * @return distinct locks, assigned to the keys, ordered by stripe
+     */
+    List<ReentrantLock> getLocks(Collection<String> keys) {
+        return keys.stream().map(this::stripe).distinct().sorted().map(stripe -> locks[stripe]).collect(Collectors.toList());
+    }
+
+    /**
+     * Get the stripe a key falls into
+     *
+     * @param key device serial number or system id
+     * @return lock index
+     */
+    private int stripe(String key) {
+        int hash = key == null ? 0 : key.hashCode();
+        // spread the higher bits, same as HashMap does, since only the lower bits select a stripe
+        hash ^= hash >>> 16;
+        return hash & (locks.length - 1);
+    }
+}
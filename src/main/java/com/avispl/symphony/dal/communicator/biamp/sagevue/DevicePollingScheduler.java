@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decides which devices get their details (/devices/{model}/{serialNumber}) requested during a devices collection cycle.
+ * Every device is assigned a refresh tier, based on its /devices list entry and the controls issued for it:
+ * <ul>
+ *     <li>{@link Tier#FAST} - devices with a recent control, a transitional (non-empty) OccupiedStatus, or faults</li>
+ *     <li>{@link Tier#OFFLINE} - devices with a non-zero Status</li>
+ *     <li>{@link Tier#STABLE} - all the other devices</li>
+ * </ul>
+ * A device is polled once its tier interval has passed since the previous poll, or right away if its list entry
+ * has changed (unless it's offline). Due devices are polled in the tier order, the longest waiting first,
+ * limited by the per-cycle request budget - the rest are polled during the next cycles.
+ * Control and poll timestamps are kept in the {@link DeviceStateStore}, so only the listed devices are tracked.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class DevicePollingScheduler {
+    /**
+     * Device refresh tier, in the polling priority order
+     */
+    enum Tier {
+        FAST, STABLE, OFFLINE
+    }
+
+    private final Map<Tier, Long> pollingIntervals = new EnumMap<>(Tier.class);
+    /**
+     * Time (ms) a device stays in the fast tier after a control was issued for it
+     */
+    private final long recentControlPeriod;
+    /**
+     * Max number of devices polled per cycle, 0 or less for no limit
+     */
+    private final int requestBudget;
+    /**
+     * Control and poll timestamps of the listed devices
+     */
+    private final DeviceStateStore deviceStateStore;
+
+    /**
+     * Device listed during the current cycle
+     */
+    static final class Candidate {
+        private final String serialNumber;
+        private final String modelName;
+        private final Tier tier;
+        private final boolean changed;
+
+        private Candidate(String serialNumber, String modelName, Tier tier, boolean changed) {
+            this.serialNumber = serialNumber;
+            this.modelName = modelName;
+            this.tier = tier;
+            this.changed = changed;
+        }
+    }
+
+    /**
+     * Devices selected for polling during the current cycle
+     */
+    static final class Selection {
+        private final Map<String, String> devices = new LinkedHashMap<>();
+        private final Map<Tier, Integer> tierDeviceCounts = new EnumMap<>(Tier.class);
+        private int deferredCount;
+
+        /**
+         * @return map of "serialNumber:modelName" pairs of the devices to poll
+         */
+        Map<String, String> getDevices() {
+            return devices;
+        }
+
+        /**
+         * @return number of listed devices in each tier
+         */
+        Map<Tier, Integer> getTierDeviceCounts() {
+            return tierDeviceCounts;
+        }
+
+        /**
+         * @return number of due devices postponed till the next cycles because of the request budget
+         */
+        int getDeferredCount() {
+            return deferredCount;
+        }
+    }
+
+    /**
+     * Create a scheduler
+     *
+     * @param deviceStateStore store to keep control and poll timestamps of the listed devices in
+     * @param fastPollingInterval polling interval (ms) of the fast tier devices
+     * @param stablePollingInterval polling interval (ms) of the stable tier devices
+     * @param offlinePollingInterval polling interval (ms) of the offline tier devices
+     * @param recentControlPeriod time (ms) a device stays in the fast tier after a control was issued for it
+     * @param requestBudget max number of devices polled per cycle, 0 or less for no limit
+     */
+    DevicePollingScheduler(DeviceStateStore deviceStateStore, long fastPollingInterval, long stablePollingInterval,
+                           long offlinePollingInterval, long recentControlPeriod, int requestBudget) {
+        this.deviceStateStore = deviceStateStore;
+        pollingIntervals.put(Tier.FAST, fastPollingInterval);
+        pollingIntervals.put(Tier.STABLE, stablePollingInterval);
+        pollingIntervals.put(Tier.OFFLINE, offlinePollingInterval);
+        this.recentControlPeriod = recentControlPeriod;
+        this.requestBudget = requestBudget;
+    }
+
+    /**
+     * Record a control issued for the device, so it's polled in the fast tier for a while
+     *
+     * @param serialNumber device serial number
+     */
+    void recordControl(String serialNumber) {
+        deviceStateStore.recordControl(serialNumber);
+    }
+
+    /**
+     * Create a polling candidate out of the device /devices list entry
+     *
+     * @param serialNumber device serial number
+     * @param modelName device model name
+     * @param deviceNode /devices list entry, before enrichment
+     * @param changed whether the list entry has changed since the device details were retrieved
+     * @return polling candidate
+     */
+    Candidate createCandidate(String serialNumber, String modelName, JsonNode deviceNode, boolean changed) {
+        return new Candidate(serialNumber, modelName, assignTier(serialNumber, deviceNode), changed);
+    }
+
+    /**
+     * Assign a refresh tier to the device
+     *
+     * @param serialNumber device serial number
+     * @param deviceNode /devices list entry, before enrichment
+     * @return device tier
+     */
+    Tier assignTier(String serialNumber, JsonNode deviceNode) {
+        long controlTimestamp = deviceStateStore.getControlTimestamp(serialNumber);
+        if (controlTimestamp > 0 && System.currentTimeMillis() - controlTimestamp < recentControlPeriod) {
+            return Tier.FAST;
+        }
+        if (!deviceNode.path("OccupiedStatus").asText().isEmpty()) {
+            return Tier.FAST;
+        }
+        if (deviceNode.path("Status").asInt() != 0) {
+            return Tier.OFFLINE;
+        }
+        if (deviceNode.path("Faults").size() > 0) {
+            return Tier.FAST;
+        }
+        return Tier.STABLE;
+    }
+
+    /**
+     * Select devices to poll during the current cycle, and mark them as polled
+     *
+     * @param candidates all the devices listed during the current cycle
+     * @return selected devices
+     */
+    Selection selectDevices(List<Candidate> candidates) {
+        long currentTimestamp = System.currentTimeMillis();
+        Selection selection = new Selection();
+        List<Candidate> dueCandidates = new ArrayList<>();
+        Map<Candidate, Long> candidatePollTimestamps = new HashMap<>();
+        for (Candidate candidate : candidates) {
+            selection.tierDeviceCounts.merge(candidate.tier, 1, Integer::sum);
+            long pollTimestamp = deviceStateStore.getPollTimestamp(candidate.serialNumber);
+            if (pollTimestamp == 0 || (candidate.changed && candidate.tier != Tier.OFFLINE)
+                    || currentTimestamp - pollTimestamp >= pollingIntervals.get(candidate.tier)) {
+                dueCandidates.add(candidate);
+                candidatePollTimestamps.put(candidate, pollTimestamp);
+            }
+        }
+        dueCandidates.sort(Comparator.<Candidate, Tier>comparing(candidate -> candidate.tier)
+                .thenComparingLong(candidatePollTimestamps::get));
+
+        int selectedCount = requestBudget > 0 ? Math.min(requestBudget, dueCandidates.size()) : dueCandidates.size();
+        for (Candidate candidate : dueCandidates.subList(0, selectedCount)) {
+            selection.devices.put(candidate.serialNumber, candidate.modelName);
+            deviceStateStore.recordPoll(candidate.serialNumber, currentTimestamp);
+        }
+        selection.deferredCount = dueCandidates.size() - selectedCount;
+        return selection;
+    }
+}
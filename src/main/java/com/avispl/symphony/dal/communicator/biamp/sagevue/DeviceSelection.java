@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Selection of the devices and systems the aggregator manages, by device model, SystemId and serial number pattern.
+ * Each criterion is a comma-separated list of values. An empty include list selects everything, exclude lists
+ * take precedence over include lists. Model names are matched ignoring case, serial number patterns may contain
+ * * and ? wildcards.
+ * <p>
+ * The selection is applied to the /devices payload before any per-device request is issued, so the devices that
+ * are not selected cost nothing but the /devices payload itself.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class DeviceSelection {
+    private final Set<String> includedModels;
+    private final Set<String> excludedModels;
+    private final Set<String> includedSystemIds;
+    private final Set<String> excludedSystemIds;
+    private final Pattern includedSerialNumbers;
+    private final Pattern excludedSerialNumbers;
+
+    /**
+     * Create a device selection
+     *
+     * @param includedModels comma-separated device models to select, empty to select all the models
+     * @param excludedModels comma-separated device models to skip
+     * @param includedSystemIds comma-separated ids of the systems to select, empty to select all the systems
+     * @param excludedSystemIds comma-separated ids of the systems to skip
+     * @param includedSerialNumbers comma-separated serial number patterns to select, empty to select all the devices
+     * @param excludedSerialNumbers comma-separated serial number patterns to skip
+     */
+    DeviceSelection(String includedModels, String excludedModels, String includedSystemIds, String excludedSystemIds,
+                    String includedSerialNumbers, String excludedSerialNumbers) {
+        this.includedModels = parseValues(includedModels, true);
+        this.excludedModels = parseValues(excludedModels, true);
+        this.includedSystemIds = parseValues(includedSystemIds, false);
+        this.excludedSystemIds = parseValues(excludedSystemIds, false);
+        this.includedSerialNumbers = compilePatterns(includedSerialNumbers);
+        this.excludedSerialNumbers = compilePatterns(excludedSerialNumbers);
+    }
+
+    /**
+     * Check whether the selection skips any devices
+     *
+     * @return true if there's at least one criterion configured, false if all the devices are selected
+     */
+    boolean isFiltering() {
+        return !includedModels.isEmpty() || !excludedModels.isEmpty() || !includedSystemIds.isEmpty() || !excludedSystemIds.isEmpty()
+                || includedSerialNumbers != null || excludedSerialNumbers != null;
+    }
+
+    /**
+     * Check whether devices of the model are selected
+     *
+     * @param modelName device model name
+     * @return true if the model is selected, false otherwise
+     */
+    boolean isModelSelected(String modelName) {
+        String model = modelName.toLowerCase(Locale.ROOT);
+        return !excludedModels.contains(model) && (includedModels.isEmpty() || includedModels.contains(model));
+    }
+
+    /**
+     * Check whether the system is selected
+     *
+     * @param systemId system id, empty if the device does not belong to a system
+     * @return true if the system is selected, false otherwise
+     */
+    boolean isSystemSelected(String systemId) {
+        return !excludedSystemIds.contains(systemId) && (includedSystemIds.isEmpty() || includedSystemIds.contains(systemId));
+    }
+
+    /**
+     * Check whether the device of a selected model is selected
+     *
+     * @param serialNumber device serial number
+     * @param systemId id of the system the device belongs to, empty if none
+     * @return true if the device is selected, false otherwise
+     */
+    boolean isDeviceSelected(String serialNumber, String systemId) {
+        return isSystemSelected(systemId)
+                && (excludedSerialNumbers == null || !excludedSerialNumbers.matcher(serialNumber).matches())
+                && (includedSerialNumbers == null || includedSerialNumbers.matcher(serialNumber).matches());
+    }
+
+    /**
+     * Remove the devices that are not selected from the /devices json: the arrays of the models that are not selected
+     * are dropped as a whole, the remaining arrays are filtered by system and serial number.
+     *
+     * @param devicesJson /devices json, with an array of devices per "{model}Devices" field
+     * @return number of the devices removed
+     */
+    int filterDevices(JsonNode devicesJson) {
+        if (!isFiltering() || !devicesJson.isObject()) {
+            return 0;
+        }
+        int removedCount = 0;
+        Iterator<Map.Entry<String, JsonNode>> fields = devicesJson.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!field.getKey().endsWith("Devices")) {
+                continue;
+            }
+            JsonNode devices = field.getValue();
+            if (!isModelSelected(field.getKey().replaceAll("Devices", ""))) {
+                removedCount += devices.size();
+                fields.remove();
+                continue;
+            }
+            if (devices instanceof ArrayNode) {
+                Iterator<JsonNode> iterator = devices.elements();
+                while (iterator.hasNext()) {
+                    JsonNode device = iterator.next();
+                    if (!isDeviceSelected(device.at("/SerialNumber").asText(), device.at("/SystemId").asText())) {
+                        iterator.remove();
+                        removedCount++;
+                    }
+                }
+            }
+        }
+        return removedCount;
+    }
+
+    /**
+     * Split a comma-separated list of values
+     *
+     * @param values comma-separated values, may be null
+     * @param ignoreCase whether to convert the values to lower case
+     * @return set of non-empty values
+     */
+    private static Set<String> parseValues(String values, boolean ignoreCase) {
+        if (values == null || values.trim().isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> parsedValues = new HashSet<>();
+        for (String value : values.split(",")) {
+            String trimmedValue = value.trim();
+            if (!trimmedValue.isEmpty()) {
+                parsedValues.add(ignoreCase ? trimmedValue.toLowerCase(Locale.ROOT) : trimmedValue);
+            }
+        }
+        return parsedValues;
+    }
+
+    /**
+     * Compile a comma-separated list of wildcard patterns into a single regular expression
+     *
+     * @param patterns comma-separated patterns with * and ? wildcards, may be null
+     * @return compiled pattern, or null if there are no patterns
+     */
+    private static Pattern compilePatterns(String patterns) {
+        Set<String> parsedPatterns = parseValues(patterns, false);
+        if (parsedPatterns.isEmpty()) {
+            return null;
+        }
+        StringBuilder regex = new StringBuilder();
+        for (String pattern : parsedPatterns) {
+            if (regex.length() > 0) {
+                regex.append('|');
+            }
+            for (String literal : pattern.split("((?<=[*?])|(?=[*?]))")) {
+                if ("*".equals(literal)) {
+                    regex.append(".*");
+                } else if ("?".equals(literal)) {
+                    regex.append('.');
+                } else if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal));
+                }
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Compact per-device state of the aggregator - the single source of device models, systems and protection flags
+ * for controls, and of control and poll timestamps for device polling.
+ * Every listed device is assigned an ordinal, kept for as long as the device is listed, and recycled once the device
+ * is gone. Serial numbers are resolved to ordinals in O(1), per-device values are kept in primitive arrays and bitsets
+ * indexed by the ordinal, and device models are stored as indexes into a table of distinct model names.
+ * The published devices themselves are not kept, nor modified by the store.
+ * <p>
+ * Device state accesses are synchronized on the store. Every access but {@link #updateDevices(Map, Map, Set, Set)}
+ * is O(1), and the update runs once per devices collection cycle, so controls never wait for more than the update itself.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class DeviceStateStore {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final String DEVICE_STATE_GROUP = "DeviceState#";
+
+    /**
+     * Container for "serialNumber:ordinal" pairs
+     */
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    /**
+     * Ordinals of the devices that are no longer listed, to assign to the new devices
+     */
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    /**
+     * Distinct model names, indexed by {@link #modelIndexes}
+     */
+    private final List<String> models = new ArrayList<>();
+    private final Map<String, Integer> modelIds = new HashMap<>();
+
+    private int[] modelIndexes = new int[INITIAL_CAPACITY];
+    /**
+     * Interned ids of the systems the devices belong to
+     */
+    private String[] systemIds = new String[INITIAL_CAPACITY];
+    private long[] controlTimestamps = new long[INITIAL_CAPACITY];
+    private long[] pollTimestamps = new long[INITIAL_CAPACITY];
+    private final BitSet protectedDevices = new BitSet();
+    /**
+     * Devices reported with IsControlled flag set by SageVue
+     */
+    private final BitSet controlledDevices = new BitSet();
+    private int ordinalCount;
+
+    /**
+     * Replace the listed devices with the devices collected during the current cycle. Devices that are still listed
+     * keep their ordinals and timestamps, devices that are no longer listed are dropped.
+     *
+     * @param deviceModels map of "serialNumber:modelName" pairs of the listed devices
+     * @param deviceSystems map of "serialNumber:systemId" pairs of the listed devices that belong to a system
+     * @param protectedSerialNumbers serial numbers of the protected devices
+     * @param controlledSerialNumbers serial numbers of the controlled devices
+     */
+    synchronized void updateDevices(Map<String, String> deviceModels, Map<String, String> deviceSystems, Set<String> protectedSerialNumbers,
+                                    Set<String> controlledSerialNumbers) {
+        Iterator<Map.Entry<String, Integer>> iterator = ordinals.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Integer> entry = iterator.next();
+            if (!deviceModels.containsKey(entry.getKey())) {
+                iterator.remove();
+                release(entry.getValue());
+            }
+        }
+        // devices of the same system share a single copy of the system id
+        Map<String, String> systems = new HashMap<>();
+        deviceModels.forEach((serialNumber, modelName) -> {
+            int ordinal = ordinals.computeIfAbsent(serialNumber, this::allocate);
+            modelIndexes[ordinal] = modelIds.computeIfAbsent(modelName, model -> {
+                models.add(model);
+                return models.size() - 1;
+            });
+            String systemId = deviceSystems.get(serialNumber);
+            systemIds[ordinal] = systemId == null ? null : systems.computeIfAbsent(systemId, id -> id);
+            protectedDevices.set(ordinal, protectedSerialNumbers.contains(serialNumber));
+            controlledDevices.set(ordinal, controlledSerialNumbers.contains(serialNumber));
+        });
+    }
+
+    /**
+     * Get model name of the device
+     *
+     * @param serialNumber device serial number
+     * @return model name, or null if the device is not listed
+     */
+    synchronized String getModel(String serialNumber) {
+        int ordinal = getOrdinal(serialNumber);
+        return ordinal < 0 ? null : models.get(modelIndexes[ordinal]);
+    }
+
+    /**
+     * Get id of the system the device belongs to
+     *
+     * @param serialNumber device serial number
+     * @return system id, or null if the device is not listed or does not belong to a system
+     */
+    synchronized String getSystemId(String serialNumber) {
+        int ordinal = getOrdinal(serialNumber);
+        return ordinal < 0 ? null : systemIds[ordinal];
+    }
+
+    /**
+     * Check whether the device is protected
+     *
+     * @param serialNumber device serial number
+     * @return true if the device is listed and protected, false otherwise
+     */
+    synchronized boolean isProtected(String serialNumber) {
+        int ordinal = getOrdinal(serialNumber);
+        return ordinal >= 0 && protectedDevices.get(ordinal);
+    }
+
+    /**
+     * Get numbers of the listed, protected and controlled devices
+     *
+     * @return map of "statisticName:value" pairs
+     */
+    synchronized Map<String, String> getStatistics() {
+        Map<String, String> statistics = new TreeMap<>();
+        statistics.put(DEVICE_STATE_GROUP + "ListedDevices", String.valueOf(ordinals.size()));
+        statistics.put(DEVICE_STATE_GROUP + "ProtectedDevices", String.valueOf(protectedDevices.cardinality()));
+        statistics.put(DEVICE_STATE_GROUP + "ControlledDevices", String.valueOf(controlledDevices.cardinality()));
+        return statistics;
+    }
+
+    /**
+     * Record a control issued for the device. Controls of the devices that are not listed are not recorded.
+     *
+     * @param serialNumber device serial number
+     */
+    synchronized void recordControl(String serialNumber) {
+        int ordinal = getOrdinal(serialNumber);
+        if (ordinal >= 0) {
+            controlTimestamps[ordinal] = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Get the time the last control was issued for the device at
+     *
+     * @param serialNumber device serial number
+     * @return control timestamp, or 0 if no control was issued
+     */
+    synchronized long getControlTimestamp(String serialNumber) {
+        int ordinal = getOrdinal(serialNumber);
+        return ordinal < 0 ? 0 : controlTimestamps[ordinal];
+    }
+
+    /**
+     * Record device details poll of the device
+     *
+     * @param serialNumber device serial number
+     * @param pollTimestamp time the device was polled at
+     */
+    synchronized void recordPoll(String serialNumber, long pollTimestamp) {
+        int ordinal = getOrdinal(serialNumber);
+        if (ordinal >= 0) {
+            pollTimestamps[ordinal] = pollTimestamp;
+        }
+    }
+
+    /**
+     * Get the time the device details were last polled at
+     *
+     * @param serialNumber device serial number
+     * @return poll timestamp, or 0 if the device was never polled
+     */
+    synchronized long getPollTimestamp(String serialNumber) {
+        int ordinal = getOrdinal(serialNumber);
+        return ordinal < 0 ? 0 : pollTimestamps[ordinal];
+    }
+
+    /**
+     * Drop all the devices
+     */
+    synchronized void clear() {
+        ordinals.clear();
+        freeOrdinals.clear();
+        models.clear();
+        modelIds.clear();
+        modelIndexes = new int[INITIAL_CAPACITY];
+        systemIds = new String[INITIAL_CAPACITY];
+        controlTimestamps = new long[INITIAL_CAPACITY];
+        pollTimestamps = new long[INITIAL_CAPACITY];
+        protectedDevices.clear();
+        controlledDevices.clear();
+        ordinalCount = 0;
+    }
+
+    /**
+     * Assign an ordinal to a new device, reusing the ordinals of the devices that are no longer listed
+     *
+     * @param serialNumber device serial number
+     * @return device ordinal
+     */
+    private int allocate(String serialNumber) {
+        Integer freeOrdinal = freeOrdinals.poll();
+        int ordinal = freeOrdinal != null ? freeOrdinal : ordinalCount++;
+        if (ordinal >= modelIndexes.length) {
+            int capacity = modelIndexes.length * 2;
+            modelIndexes = Arrays.copyOf(modelIndexes, capacity);
+            systemIds = Arrays.copyOf(systemIds, capacity);
+            controlTimestamps = Arrays.copyOf(controlTimestamps, capacity);
+            pollTimestamps = Arrays.copyOf(pollTimestamps, capacity);
+        }
+        return ordinal;
+    }
+
+    /**
+     * Reset the state of the ordinal and make it available for the new devices
+     *
+     * @param ordinal ordinal of the device that is no longer listed
+     */
+    private void release(int ordinal) {
+        modelIndexes[ordinal] = 0;
+        systemIds[ordinal] = null;
+        controlTimestamps[ordinal] = 0;
+        pollTimestamps[ordinal] = 0;
+        protectedDevices.clear(ordinal);
+        controlledDevices.clear(ordinal);
+        freeOrdinals.push(ordinal);
+    }
+
+    /**
+     * Get ordinal of the device
+     *
+     * @param serialNumber device serial number
+     * @return device ordinal, or -1 if the device is not listed
+     */
+    private int getOrdinal(String serialNumber) {
+        Integer ordinal = ordinals.get(serialNumber);
+        return ordinal == null ? -1 : ordinal;
+    }
+}
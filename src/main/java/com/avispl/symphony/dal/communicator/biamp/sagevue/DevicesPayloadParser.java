@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming parser of the SageVue /devices payload.
+ * Instead of reading the whole payload into a String and a json tree, the payload is read token by token:
+ * each "*Devices" array is walked element by element, and only the device fields, referenced by the model mapping
+ * or used by the adapter itself, are kept in the resulting device nodes. The rest of the payload ("*Errors" arrays,
+ * device labels, descriptions etc.) is skipped without being materialized.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class DevicesPayloadParser {
+    /**
+     * Device fields, used by the adapter regardless of the model mapping
+     */
+    private static final Set<String> ADAPTER_FIELDS = new HashSet<>(Arrays.asList("SerialNumber", "Model", "FirmwareVersion",
+            "Faults", "Status", "OccupiedStatus", "IsProtected", "IsControlled", "SystemId"));
+    /**
+     * Json field references in the model mapping expressions, e.g. at("/FirmwareVersion") or get("FirmwareVersion")
+     */
+    private static final Pattern FIELD_REFERENCE_PATTERN = Pattern.compile("(?:at|get)\\(\"/?([A-Za-z0-9_]+)");
+
+    private final ObjectMapper objectMapper;
+    /**
+     * Names of the device fields to keep
+     */
+    private final Set<String> retainedFields;
+
+    /**
+     * DevicesPayloadParser constructor
+     *
+     * @param objectMapper mapper to read device field values with
+     * @param retainedFields names of the device fields to keep, all the other fields are skipped
+     */
+    DevicesPayloadParser(ObjectMapper objectMapper, Set<String> retainedFields) {
+        this.objectMapper = objectMapper;
+        this.retainedFields = retainedFields;
+    }
+
+    /**
+     * Retrieves {@link #retainedFields}
+     *
+     * @return value of {@link #retainedFields}
+     */
+    Set<String> getRetainedFields() {
+        return retainedFields;
+    }
+
+    /**
+     * Collect names of the device fields, referenced by the model mapping expressions and the adapter itself
+     *
+     * @param mapping model mapping, loaded from model-mapping.yml
+     * @return set of the device field names
+     */
+    static Set<String> collectReferencedFields(Map<String, PropertiesMapping> mapping) {
+        Set<String> fields = new HashSet<>(ADAPTER_FIELDS);
+        mapping.values().forEach(propertiesMapping -> {
+            collectReferencedFields(String.valueOf(propertiesMapping.getFilter()), fields);
+            collectReferencedFields(String.valueOf(propertiesMapping.getProperties()), fields);
+            collectReferencedFields(String.valueOf(propertiesMapping.getDeviceProperties()), fields);
+            collectReferencedFields(String.valueOf(propertiesMapping.getStatistics()), fields);
+            collectReferencedFields(String.valueOf(propertiesMapping.getDynamicStatistics()), fields);
+            collectReferencedFields(String.valueOf(propertiesMapping.getControlProperties()), fields);
+        });
+        return fields;
+    }
+
+    /**
+     * Parse /devices payload
+     *
+     * @param parser json parser, positioned before the payload root object
+     * @return ObjectNode containing "*Devices" arrays with the retained device fields
+     * @throws IOException if the payload could not be read or is malformed
+     */
+    ObjectNode parse(JsonParser parser) throws IOException {
+        ObjectNode devices = JsonNodeFactory.instance.objectNode();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Unexpected /devices payload format: root object is expected");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (fieldName.endsWith("Devices") && token == JsonToken.START_ARRAY) {
+                ArrayNode devicesArray = devices.putArray(fieldName);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    devicesArray.add(parseDevice(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return devices;
+    }
+
+    /**
+     * Read a single device object, keeping only {@link #retainedFields}
+     *
+     * @param parser json parser, positioned at the device object start
+     * @return ObjectNode with the retained device fields
+     * @throws IOException if the payload could not be read or is malformed
+     */
+    private ObjectNode parseDevice(JsonParser parser) throws IOException {
+        ObjectNode device = JsonNodeFactory.instance.objectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (retainedFields.contains(fieldName)) {
+                device.set(fieldName, objectMapper.readTree(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return device;
+    }
+
+    /**
+     * Collect field names referenced by the expression(s)
+     *
+     * @param expressions text containing mapping expressions
+     * @param fields set to add field names to
+     */
+    private static void collectReferencedFields(String expressions, Set<String> fields) {
+        Matcher matcher = FIELD_REFERENCE_PATTERN.matcher(expressions);
+        while (matcher.find()) {
+            fields.add(matcher.group(1));
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fault history of the devices. Faults are tracked by their "FaultId|IndicatorId" key: a fault is opened when the key
+ * appears in the device Faults array, and closed when it's gone. The last {@link #historySize} transitions of each
+ * device are kept in a fixed-size ring buffer, so the memory used per device is bounded regardless of how often the
+ * faults flap. Faults opened during the last hour are counted separately, per minute, so the hourly rate is not capped
+ * by the history size. Devices that have never reported a fault have no state at all.
+ * <p>
+ * The Faults array of each device is hashed field by field, without building any text, and the faults text is only
+ * rebuilt when the hash changes - so the devices with the same faults as during the previous cycle cost a hash per cycle.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class FaultTracker {
+    private static final String FAULTS_GROUP = "Faults#";
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private final int historySize;
+    /**
+     * Container for "serialNumber:deviceFaults" pairs of the devices that have reported faults
+     */
+    private final Map<String, DeviceFaults> devices = new HashMap<>();
+
+    /**
+     * Fault state and transitions history of a device
+     */
+    private class DeviceFaults {
+        private long fingerprint;
+        private String faultsText = "";
+        /**
+         * Container for "faultKey:openTimestamp" pairs of the active faults
+         */
+        private Map<String, Long> activeFaults = new HashMap<>();
+        private long firstSeenTimestamp;
+        /**
+         * Ring buffer of the transitions: time, fault key and whether the fault was opened or closed
+         */
+        private final long[] transitionTimestamps = new long[historySize];
+        private final String[] transitionFaults = new String[historySize];
+        private final boolean[] transitionOpened = new boolean[historySize];
+        private int transitionCount;
+        private String historyText = "";
+        /**
+         * Number of faults opened during each minute of the hour up to {@link #lastOpenMinute},
+         * indexed by the minute number modulo {@link #MINUTES_PER_HOUR}
+         */
+        private final int[] openedPerMinute = new int[MINUTES_PER_HOUR];
+        private long lastOpenMinute;
+
+        private void recordTransition(String faultKey, boolean opened, long timestamp) {
+            int index = transitionCount % historySize;
+            transitionTimestamps[index] = timestamp;
+            transitionFaults[index] = faultKey;
+            transitionOpened[index] = opened;
+            transitionCount++;
+            if (opened) {
+                recordOpen(timestamp);
+            }
+        }
+
+        private void recordOpen(long timestamp) {
+            long minute = timestamp / MINUTE;
+            if (minute <= lastOpenMinute - MINUTES_PER_HOUR) {
+                return;
+            }
+            // minutes since the last open are over, their counts are an hour old
+            for (long m = Math.max(lastOpenMinute + 1, minute - MINUTES_PER_HOUR + 1); m <= minute; m++) {
+                openedPerMinute[(int) (m % MINUTES_PER_HOUR)] = 0;
+            }
+            lastOpenMinute = Math.max(lastOpenMinute, minute);
+            openedPerMinute[(int) (minute % MINUTES_PER_HOUR)]++;
+        }
+
+        /**
+         * @return number of faults opened within the current minute and the 59 minutes before it
+         */
+        private int countOpenedLastHour(long currentTimestamp) {
+            long minute = currentTimestamp / MINUTE;
+            int count = 0;
+            for (long m = Math.max(0, Math.max(lastOpenMinute, minute) - MINUTES_PER_HOUR + 1); m <= Math.min(lastOpenMinute, minute); m++) {
+                count += openedPerMinute[(int) (m % MINUTES_PER_HOUR)];
+            }
+            return count;
+        }
+
+        /**
+         * @return transitions, newest first, one "time OPEN|CLOSE faultKey" line per transition
+         */
+        private String buildHistoryText() {
+            StringBuilder history = new StringBuilder();
+            for (int i = transitionCount - 1; i >= Math.max(0, transitionCount - historySize); i--) {
+                int index = i % historySize;
+                history.append(Instant.ofEpochMilli(transitionTimestamps[index])).append(transitionOpened[index] ? " OPEN " : " CLOSE ")
+                        .append(transitionFaults[index]).append("\n");
+            }
+            return history.toString();
+        }
+    }
+
+    /**
+     * Create a fault tracker
+     *
+     * @param historySize number of the last fault transitions kept per device
+     */
+    FaultTracker(int historySize) {
+        this.historySize = Math.max(1, historySize);
+    }
+
+    /**
+     * Track the faults of the device entry, and replace its Faults array with the faults text,
+     * one "FaultId|IndicatorId:Message" line per fault. For the devices that have reported faults, the entry
+     * is extended with ActiveFaultCount, FaultFirstSeen, FaultsPerHour and FaultHistory fields.
+     *
+     * @param serialNumber device serial number
+     * @param deviceNode device entry of the /devices json
+     * @param currentTimestamp current time
+     */
+    synchronized void update(String serialNumber, ObjectNode deviceNode, long currentTimestamp) {
+        ArrayNode faults = deviceNode.withArray("Faults");
+        DeviceFaults deviceFaults = devices.get(serialNumber);
+        if (deviceFaults == null) {
+            if (faults.size() == 0) {
+                return;
+            }
+            deviceFaults = new DeviceFaults();
+            deviceFaults.firstSeenTimestamp = currentTimestamp;
+            devices.put(serialNumber, deviceFaults);
+        }
+        long fingerprint = fingerprint(faults);
+        if (fingerprint != deviceFaults.fingerprint) {
+            deviceFaults.fingerprint = fingerprint;
+            deviceFaults.faultsText = faults.size() == 0 ? "" : SageVueCommunicator.buildDeviceFaults(faults);
+            updateActiveFaults(deviceFaults, faults, currentTimestamp);
+        }
+        if (faults.size() > 0) {
+            deviceNode.put("Faults", deviceFaults.faultsText);
+        }
+        deviceNode.put("ActiveFaultCount", deviceFaults.activeFaults.size());
+        deviceNode.put("FaultFirstSeen", Instant.ofEpochMilli(deviceFaults.firstSeenTimestamp).toString());
+        deviceNode.put("FaultsPerHour", deviceFaults.countOpenedLastHour(currentTimestamp));
+        deviceNode.put("FaultHistory", deviceFaults.historyText);
+    }
+
+    /**
+     * Drop the state of the devices that are no longer listed
+     *
+     * @param serialNumbers serial numbers of the listed devices
+     */
+    synchronized void retainAll(Set<String> serialNumbers) {
+        devices.keySet().retainAll(serialNumbers);
+    }
+
+    /**
+     * Get fault statistics of all the tracked devices
+     *
+     * @param currentTimestamp current time
+     * @return map of "statisticName:value" pairs
+     */
+    synchronized Map<String, String> getStatistics(long currentTimestamp) {
+        Map<String, String> statistics = new TreeMap<>();
+        int activeFaultCount = 0;
+        int faultyDeviceCount = 0;
+        int openedFaultCount = 0;
+        int maxFaultsPerHour = 0;
+        for (DeviceFaults deviceFaults : devices.values()) {
+            activeFaultCount += deviceFaults.activeFaults.size();
+            if (!deviceFaults.activeFaults.isEmpty()) {
+                faultyDeviceCount++;
+            }
+            int faultsPerHour = deviceFaults.countOpenedLastHour(currentTimestamp);
+            openedFaultCount += faultsPerHour;
+            maxFaultsPerHour = Math.max(maxFaultsPerHour, faultsPerHour);
+        }
+        statistics.put(FAULTS_GROUP + "ActiveFaults", String.valueOf(activeFaultCount));
+        statistics.put(FAULTS_GROUP + "FaultyDevices", String.valueOf(faultyDeviceCount));
+        statistics.put(FAULTS_GROUP + "OpenedLastHour", String.valueOf(openedFaultCount));
+        statistics.put(FAULTS_GROUP + "MaxDeviceFaultsPerHour", String.valueOf(maxFaultsPerHour));
+        return statistics;
+    }
+
+    /**
+     * Drop the state of all the devices
+     */
+    synchronized void clear() {
+        devices.clear();
+    }
+
+    /**
+     * Record the faults opened and closed since the previous update
+     *
+     * @param deviceFaults device fault state
+     * @param faults current Faults array of the device
+     * @param currentTimestamp current time
+     */
+    private void updateActiveFaults(DeviceFaults deviceFaults, ArrayNode faults, long currentTimestamp) {
+        Map<String, Long> activeFaults = new HashMap<>();
+        Set<String> faultKeys = new HashSet<>();
+        faults.forEach(fault -> faultKeys.add(fault.at("/FaultId").asText() + "|" + fault.at("/IndicatorId").asText()));
+        boolean changed = false;
+        for (String faultKey : faultKeys) {
+            Long openTimestamp = deviceFaults.activeFaults.get(faultKey);
+            if (openTimestamp == null) {
+                openTimestamp = currentTimestamp;
+                deviceFaults.recordTransition(faultKey, true, currentTimestamp);
+                changed = true;
+            }
+            activeFaults.put(faultKey, openTimestamp);
+        }
+        for (String faultKey : deviceFaults.activeFaults.keySet()) {
+            if (!activeFaults.containsKey(faultKey)) {
+                deviceFaults.recordTransition(faultKey, false, currentTimestamp);
+                changed = true;
+            }
+        }
+        deviceFaults.activeFaults = activeFaults;
+        if (changed) {
+            deviceFaults.historyText = deviceFaults.buildHistoryText();
+        }
+    }
+
+    /**
+     * Calculate 64-bit FNV-1a hash of the FaultId, IndicatorId and Message fields of the faults
+     *
+     * @param faults Faults array of the device
+     * @return faults fingerprint
+     */
+    private static long fingerprint(ArrayNode faults) {
+        long hash = FNV_OFFSET_BASIS;
+        for (JsonNode fault : faults) {
+            hash = hash(hash, fault.path("FaultId").asText());
+            hash = hash(hash, fault.path("IndicatorId").asText());
+            hash = hash(hash, fault.path("Message").asText());
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        // separator, so that "ab"+"c" and "a"+"bc" differ
+        hash ^= 0x1f;
+        return hash * FNV_PRIME;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Cache of the firmware versions SageVue offers for each device model (/firmware/{model}).
+ * Every device of the same model shares the same firmware catalogue, so the catalogue is fetched once per model
+ * and kept for {@link #ttl} milliseconds. When an entry expires - the stale versions are still served,
+ * while a fresh copy is requested in the background.
+ * Comma-separated AvailableFirmwareVersions values are cached per model and current firmware version as well,
+ * so they are not rebuilt for each device.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class FirmwareCatalogue {
+    /**
+     * Loads firmware versions for the model, returns null if the versions could not be retrieved
+     */
+    private final Function<String, List<String>> firmwareVersionsLoader;
+    /**
+     * Executor used for background refresh of expired entries
+     */
+    private final Executor refreshExecutor;
+    /**
+     * Container for "modelName:catalogueEntry" pairs. An entry is completed once the firmware versions are loaded,
+     * the loading itself is done outside of the map operations.
+     */
+    private final Map<String, CompletableFuture<CatalogueEntry>> entries = new ConcurrentHashMap<>();
+    /**
+     * Time (ms) after which the catalogue entry has to be refreshed
+     */
+    private final long ttl;
+    /**
+     * Time (ms) after which the firmware versions are requested again, if the previous attempt has failed
+     */
+    private static final long FAILED_LOAD_RETRY_INTERVAL = 60000;
+
+    /**
+     * Single model catalogue entry
+     */
+    private static class CatalogueEntry {
+        private final List<String> firmwareVersions;
+        private final long expirationTimestamp;
+        private final AtomicBoolean refreshInProgress = new AtomicBoolean();
+        /**
+         * Container for "currentFirmwareVersion:availableFirmwareVersions" pairs
+         */
+        private final Map<String, String> availableFirmwareVersions = new ConcurrentHashMap<>();
+
+        private CatalogueEntry(List<String> firmwareVersions, long expirationTimestamp) {
+            this.firmwareVersions = firmwareVersions;
+            this.expirationTimestamp = expirationTimestamp;
+        }
+    }
+
+    /**
+     * FirmwareCatalogue constructor
+     *
+     * @param firmwareVersionsLoader function that retrieves firmware versions for a model, or null in case of an error
+     * @param refreshExecutor executor to refresh expired entries with
+     * @param ttl time (ms) the catalogue entry stays valid for
+     */
+    FirmwareCatalogue(Function<String, List<String>> firmwareVersionsLoader, Executor refreshExecutor, long ttl) {
+        this.firmwareVersionsLoader = firmwareVersionsLoader;
+        this.refreshExecutor = refreshExecutor;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Get comma-separated list of firmware versions available for a device, including its current firmware version.
+     * If the model is not in the catalogue yet - it is fetched synchronously, concurrent callers for the same model
+     * wait for the single fetch to complete. If the entry is expired - it is refreshed in the background.
+     *
+     * @param modelName device model name
+     * @param currentFirmwareVersion firmware version the device is currently running
+     * @return String comma-separated list of available firmware versions
+     */
+    String getAvailableFirmwareVersions(String modelName, String currentFirmwareVersion) {
+        CompletableFuture<CatalogueEntry> entryFuture = getEntry(modelName);
+        CatalogueEntry entry = entryFuture.join();
+        if (System.currentTimeMillis() > entry.expirationTimestamp && entry.refreshInProgress.compareAndSet(false, true)) {
+            scheduleRefresh(modelName, entryFuture);
+        }
+        return entry.availableFirmwareVersions.computeIfAbsent(currentFirmwareVersion, version -> {
+            Set<String> firmwareVersions = new HashSet<>(entry.firmwareVersions);
+            firmwareVersions.add(version);
+            return String.join(",", firmwareVersions);
+        });
+    }
+
+    /**
+     * Drop the catalogue entry for the model, so it's fetched again next time it's requested
+     *
+     * @param modelName device model name
+     */
+    void invalidate(String modelName) {
+        entries.remove(modelName);
+    }
+
+    /**
+     * Add firmware versions of a model, retrieved earlier (e.g. from a warm start snapshot), unless the model
+     * is in the catalogue already. The entry is added as expired, so it's served right away and refreshed
+     * in the background the first time it's requested.
+     *
+     * @param modelName device model name
+     * @param firmwareVersions firmware versions of the model
+     */
+    void preload(String modelName, List<String> firmwareVersions) {
+        entries.putIfAbsent(modelName, CompletableFuture.completedFuture(new CatalogueEntry(firmwareVersions, 0)));
+    }
+
+    /**
+     * Get firmware versions of all the models in the catalogue, skipping the models that could not be retrieved
+     *
+     * @return map of "modelName:firmwareVersions" pairs
+     */
+    Map<String, List<String>> getFirmwareVersions() {
+        Map<String, List<String>> firmwareVersions = new HashMap<>();
+        entries.forEach((modelName, entryFuture) -> {
+            CatalogueEntry entry = entryFuture.isCompletedExceptionally() ? null : entryFuture.getNow(null);
+            if (entry != null && !entry.firmwareVersions.isEmpty()) {
+                firmwareVersions.put(modelName, entry.firmwareVersions);
+            }
+        });
+        return firmwareVersions;
+    }
+
+    /**
+     * Drop all the catalogue entries
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Get the catalogue entry of the model, loading it if the model is not in the catalogue yet.
+     * The caller that adds the entry loads it, concurrent callers for the same model get the same entry to wait for.
+     * If the loading fails - the entry is dropped, so the next caller loads it again.
+     *
+     * @param modelName device model name
+     * @return catalogue entry, completed or being loaded by another thread
+     */
+    private CompletableFuture<CatalogueEntry> getEntry(String modelName) {
+        CompletableFuture<CatalogueEntry> entryFuture = entries.get(modelName);
+        if (entryFuture != null) {
+            return entryFuture;
+        }
+        CompletableFuture<CatalogueEntry> newEntryFuture = new CompletableFuture<>();
+        entryFuture = entries.putIfAbsent(modelName, newEntryFuture);
+        if (entryFuture != null) {
+            return entryFuture;
+        }
+        try {
+            newEntryFuture.complete(loadEntry(modelName));
+        } catch (RuntimeException e) {
+            entries.remove(modelName, newEntryFuture);
+            newEntryFuture.completeExceptionally(e);
+        }
+        return newEntryFuture;
+    }
+
+    /**
+     * Load firmware versions and create a new catalogue entry.
+     * If the firmware versions could not be retrieved - an empty entry is created, which expires
+     * after {@link #FAILED_LOAD_RETRY_INTERVAL}, so a failing model endpoint is not requested for every device.
+     *
+     * @param modelName device model name
+     * @return new catalogue entry
+     */
+    private CatalogueEntry loadEntry(String modelName) {
+        List<String> firmwareVersions = firmwareVersionsLoader.apply(modelName);
+        long currentTimestamp = System.currentTimeMillis();
+        if (firmwareVersions == null) {
+            return new CatalogueEntry(Collections.emptyList(), currentTimestamp + Math.min(ttl, FAILED_LOAD_RETRY_INTERVAL));
+        }
+        return new CatalogueEntry(firmwareVersions, currentTimestamp + ttl);
+    }
+
+    /**
+     * Refresh expired entry in the background. Stale versions are kept if the refresh fails.
+     *
+     * @param modelName device model name
+     * @param staleEntryFuture entry to replace
+     */
+    private void scheduleRefresh(String modelName, CompletableFuture<CatalogueEntry> staleEntryFuture) {
+        CatalogueEntry staleEntry = staleEntryFuture.join();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    CatalogueEntry freshEntry = loadEntry(modelName);
+                    if (!freshEntry.firmwareVersions.isEmpty() || staleEntry.firmwareVersions.isEmpty()) {
+                        entries.replace(modelName, staleEntryFuture, CompletableFuture.completedFuture(freshEntry));
+                    }
+                } finally {
+                    staleEntry.refreshInProgress.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            staleEntry.refreshInProgress.set(false);
+        }
+    }
+}
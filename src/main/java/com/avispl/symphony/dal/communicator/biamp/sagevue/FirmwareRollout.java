@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Staged firmware rollout. Devices requested for a firmware update are queued and updated in waves of
+ * {@link #waveSize} devices. Within a wave, no more than {@link #maxConcurrentPerModel} devices of the same model
+ * and {@link #maxConcurrentPerSystem} devices of the same system are updated at the same time.
+ * Updating devices are tracked until their FirmwareVersion matches the target version with an empty OccupiedStatus
+ * (succeeded), or until they report a different version once the update is over or time out (failed).
+ * The next wave is started once all the devices of the current wave have settled. Once {@link #failureThreshold}
+ * devices of a wave have failed, the rollout is halted: devices that are updating already are still tracked,
+ * the queued devices are skipped. Firmware updates requested after that start a new rollout.
+ * <p>
+ * The rollout does not issue any requests itself - the caller starts the updates returned by
+ * {@link #startUpdates(long)} and reports the device states with {@link #recordStatus(String, String, String)}.
+ * All the methods are synchronized.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class FirmwareRollout {
+    /**
+     * Rollout state, reported as the FirmwareRollout#State statistic
+     */
+    private enum State {
+        IDLE, IN_PROGRESS, HALTED, COMPLETED
+    }
+
+    /**
+     * Device update state
+     */
+    private enum DeviceState {
+        PENDING, UPDATING, SUCCEEDED, FAILED
+    }
+
+    private static final String FIRMWARE_ROLLOUT_GROUP = "FirmwareRollout#";
+
+    private final int waveSize;
+    private final int maxConcurrentPerModel;
+    private final int maxConcurrentPerSystem;
+    private final int failureThreshold;
+    /**
+     * Time (ms) after which an update that has not settled is considered failed
+     */
+    private final long updateTimeout;
+
+    /**
+     * Devices queued for the next waves, in the order the updates were requested
+     */
+    private final Deque<DeviceUpdate> queue = new ArrayDeque<>();
+    /**
+     * Container for "serialNumber:deviceUpdate" pairs of the current wave
+     */
+    private final Map<String, DeviceUpdate> wave = new LinkedHashMap<>();
+    private State state = State.IDLE;
+    private int waveNumber;
+    private long succeededCount;
+    private long failedCount;
+    private long skippedCount;
+
+    /**
+     * Firmware update of a single device
+     */
+    private static class DeviceUpdate {
+        private final String serialNumber;
+        private final String modelName;
+        private final String systemId;
+        private final String firmwareVersion;
+        private DeviceState state = DeviceState.PENDING;
+        private long startTimestamp;
+        /**
+         * Whether the device has reported a non-empty OccupiedStatus since the update was started
+         */
+        private boolean occupied;
+
+        private DeviceUpdate(String serialNumber, String modelName, String systemId, String firmwareVersion) {
+            this.serialNumber = serialNumber;
+            this.modelName = modelName;
+            this.systemId = systemId;
+            this.firmwareVersion = firmwareVersion;
+        }
+    }
+
+    /**
+     * Create a rollout
+     *
+     * @param waveSize max number of devices in a wave
+     * @param maxConcurrentPerModel max number of devices of the same model updated at the same time, 0 or less for no limit
+     * @param maxConcurrentPerSystem max number of devices of the same system updated at the same time, 0 or less for no limit
+     * @param failureThreshold number of failed devices of a wave, after which the rollout is halted, 0 or less to never halt
+     * @param updateTimeout time (ms) after which an update that has not settled is considered failed
+     */
+    FirmwareRollout(int waveSize, int maxConcurrentPerModel, int maxConcurrentPerSystem, int failureThreshold, long updateTimeout) {
+        this.waveSize = Math.max(1, waveSize);
+        this.maxConcurrentPerModel = maxConcurrentPerModel;
+        this.maxConcurrentPerSystem = maxConcurrentPerSystem;
+        this.failureThreshold = failureThreshold;
+        this.updateTimeout = updateTimeout;
+    }
+
+    /**
+     * Queue a firmware update of the device. If the device is queued or updating already - the update is replaced,
+     * unless it has been started. If the rollout is halted or completed - a new rollout is started.
+     *
+     * @param serialNumber device serial number
+     * @param modelName device model name
+     * @param systemId id of the system the device belongs to, or null if unknown
+     * @param firmwareVersion firmware version to update the device to
+     * @return true if the update is queued, false if the device is being updated already
+     */
+    synchronized boolean enqueue(String serialNumber, String modelName, String systemId, String firmwareVersion) {
+        DeviceUpdate waveUpdate = wave.get(serialNumber);
+        if (waveUpdate != null && waveUpdate.state == DeviceState.UPDATING) {
+            return false;
+        }
+        if (state == State.HALTED || state == State.COMPLETED) {
+            if (hasUpdatingDevices()) {
+                // devices of the halted wave are still tracked, the new rollout starts once they settle
+                state = State.IN_PROGRESS;
+            } else {
+                reset();
+            }
+        }
+        queue.removeIf(deviceUpdate -> deviceUpdate.serialNumber.equals(serialNumber));
+        if (waveUpdate != null && waveUpdate.state == DeviceState.PENDING) {
+            wave.remove(serialNumber);
+        }
+        queue.add(new DeviceUpdate(serialNumber, modelName, systemId, firmwareVersion));
+        state = State.IN_PROGRESS;
+        return true;
+    }
+
+    /**
+     * Start the next wave if the current one has settled, and select the devices to start updating,
+     * limited by the per-model and per-system concurrency
+     *
+     * @param currentTimestamp current time
+     * @return map of "modelName:map of firmwareVersion:serialNumbers" groups of the devices to start updating
+     */
+    synchronized Map<String, Map<String, List<String>>> startUpdates(long currentTimestamp) {
+        Map<String, Map<String, List<String>>> updates = new LinkedHashMap<>();
+        if (state != State.IN_PROGRESS) {
+            return updates;
+        }
+        if (!hasUnsettledDevices()) {
+            if (queue.isEmpty()) {
+                state = State.COMPLETED;
+                return updates;
+            }
+            wave.clear();
+            waveNumber++;
+            while (wave.size() < waveSize && !queue.isEmpty()) {
+                DeviceUpdate deviceUpdate = queue.poll();
+                wave.put(deviceUpdate.serialNumber, deviceUpdate);
+            }
+        }
+        Map<String, Integer> modelUpdates = new HashMap<>();
+        Map<String, Integer> systemUpdates = new HashMap<>();
+        wave.values().forEach(deviceUpdate -> {
+            if (deviceUpdate.state == DeviceState.UPDATING) {
+                modelUpdates.merge(deviceUpdate.modelName, 1, Integer::sum);
+                if (deviceUpdate.systemId != null) {
+                    systemUpdates.merge(deviceUpdate.systemId, 1, Integer::sum);
+                }
+            }
+        });
+        for (DeviceUpdate deviceUpdate : wave.values()) {
+            if (deviceUpdate.state != DeviceState.PENDING
+                    || (maxConcurrentPerModel > 0 && modelUpdates.getOrDefault(deviceUpdate.modelName, 0) >= maxConcurrentPerModel)
+                    || (maxConcurrentPerSystem > 0 && deviceUpdate.systemId != null
+                    && systemUpdates.getOrDefault(deviceUpdate.systemId, 0) >= maxConcurrentPerSystem)) {
+                continue;
+            }
+            deviceUpdate.state = DeviceState.UPDATING;
+            deviceUpdate.startTimestamp = currentTimestamp;
+            modelUpdates.merge(deviceUpdate.modelName, 1, Integer::sum);
+            if (deviceUpdate.systemId != null) {
+                systemUpdates.merge(deviceUpdate.systemId, 1, Integer::sum);
+            }
+            updates.computeIfAbsent(deviceUpdate.modelName, model -> new LinkedHashMap<>())
+                    .computeIfAbsent(deviceUpdate.firmwareVersion, version -> new ArrayList<>()).add(deviceUpdate.serialNumber);
+        }
+        return updates;
+    }
+
+    /**
+     * Get devices that are being updated, to poll their state
+     *
+     * @return map of "serialNumber:modelName" pairs
+     */
+    synchronized Map<String, String> getUpdatingDevices() {
+        Map<String, String> updatingDevices = new LinkedHashMap<>();
+        wave.values().forEach(deviceUpdate -> {
+            if (deviceUpdate.state == DeviceState.UPDATING) {
+                updatingDevices.put(deviceUpdate.serialNumber, deviceUpdate.modelName);
+            }
+        });
+        return updatingDevices;
+    }
+
+    /**
+     * Record the state of an updating device. Devices that have not reported an OccupiedStatus yet,
+     * and still run a different version, are considered not started yet, and are tracked until {@link #expireUpdates(long)}
+     *
+     * @param serialNumber device serial number
+     * @param firmwareVersion firmware version the device reports
+     * @param occupiedStatus OccupiedStatus the device reports, empty if the device is not busy
+     */
+    synchronized void recordStatus(String serialNumber, String firmwareVersion, String occupiedStatus) {
+        DeviceUpdate deviceUpdate = wave.get(serialNumber);
+        if (deviceUpdate == null || deviceUpdate.state != DeviceState.UPDATING) {
+            return;
+        }
+        if (occupiedStatus != null && !occupiedStatus.isEmpty()) {
+            deviceUpdate.occupied = true;
+        } else if (deviceUpdate.firmwareVersion.equals(firmwareVersion)) {
+            settle(deviceUpdate, DeviceState.SUCCEEDED);
+        } else if (deviceUpdate.occupied) {
+            // the update is over, but the device runs a different version
+            settle(deviceUpdate, DeviceState.FAILED);
+        }
+    }
+
+    /**
+     * Record a device update that could not be started or tracked
+     *
+     * @param serialNumber device serial number
+     */
+    synchronized void recordFailure(String serialNumber) {
+        DeviceUpdate deviceUpdate = wave.get(serialNumber);
+        if (deviceUpdate != null && deviceUpdate.state == DeviceState.UPDATING) {
+            settle(deviceUpdate, DeviceState.FAILED);
+        }
+    }
+
+    /**
+     * Fail the updates that have not settled within {@link #updateTimeout}
+     *
+     * @param currentTimestamp current time
+     */
+    synchronized void expireUpdates(long currentTimestamp) {
+        // settling may halt the rollout, dropping the pending devices of the wave
+        new ArrayList<>(wave.values()).forEach(deviceUpdate -> {
+            if (deviceUpdate.state == DeviceState.UPDATING && currentTimestamp - deviceUpdate.startTimestamp > updateTimeout) {
+                settle(deviceUpdate, DeviceState.FAILED);
+            }
+        });
+    }
+
+    /**
+     * Get rollout progress as statistics
+     *
+     * @return map of "statisticName:value" pairs
+     */
+    synchronized Map<String, String> getStatistics() {
+        Map<String, String> statistics = new TreeMap<>();
+        int[] waveCounts = new int[DeviceState.values().length];
+        wave.values().forEach(deviceUpdate -> waveCounts[deviceUpdate.state.ordinal()]++);
+        statistics.put(FIRMWARE_ROLLOUT_GROUP + "State", state.name());
+        statistics.put(FIRMWARE_ROLLOUT_GROUP + "Wave", String.valueOf(waveNumber));
+        statistics.put(FIRMWARE_ROLLOUT_GROUP + "RemainingWaves", String.valueOf(state == State.HALTED ? 0 : (queue.size() + waveSize - 1) / waveSize));
+        statistics.put(FIRMWARE_ROLLOUT_GROUP + "WaveDevices", String.valueOf(wave.size()));
+        statistics.put(FIRMWARE_ROLLOUT_GROUP + "WavePendingDevices", String.valueOf(waveCounts[DeviceState.PENDING.ordinal()]));
+        statistics.put(FIRMWARE_ROLLOUT_GROUP + "WaveUpdatingDevices", String.valueOf(waveCounts[DeviceState.UPDATING.ordinal()]));
+        statistics.put(FIRMWARE_ROLLOUT_GROUP + "WaveSucceededDevices", String.valueOf(waveCounts[DeviceState.SUCCEEDED.ordinal()]));
+        statistics.put(FIRMWARE_ROLLOUT_GROUP + "WaveFailedDevices", String.valueOf(waveCounts[DeviceState.FAILED.ordinal()]));
+        statistics.put(FIRMWARE_ROLLOUT_GROUP + "QueuedDevices", String.valueOf(queue.size()));
+        statistics.put(FIRMWARE_ROLLOUT_GROUP + "SucceededDevices", String.valueOf(succeededCount));
+        statistics.put(FIRMWARE_ROLLOUT_GROUP + "FailedDevices", String.valueOf(failedCount));
+        statistics.put(FIRMWARE_ROLLOUT_GROUP + "SkippedDevices", String.valueOf(skippedCount));
+        return statistics;
+    }
+
+    /**
+     * Settle the device update, halting the rollout if too many devices of the wave have failed
+     *
+     * @param deviceUpdate device update to settle
+     * @param deviceState final state of the update
+     */
+    private void settle(DeviceUpdate deviceUpdate, DeviceState deviceState) {
+        deviceUpdate.state = deviceState;
+        if (deviceState == DeviceState.SUCCEEDED) {
+            succeededCount++;
+            return;
+        }
+        failedCount++;
+        if (failureThreshold <= 0 || state != State.IN_PROGRESS) {
+            return;
+        }
+        long waveFailedCount = wave.values().stream().filter(waveUpdate -> waveUpdate.state == DeviceState.FAILED).count();
+        if (waveFailedCount >= failureThreshold) {
+            state = State.HALTED;
+            Iterator<DeviceUpdate> iterator = wave.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().state == DeviceState.PENDING) {
+                    iterator.remove();
+                    skippedCount++;
+                }
+            }
+            skippedCount += queue.size();
+            queue.clear();
+        }
+    }
+
+    private boolean hasUpdatingDevices() {
+        return wave.values().stream().anyMatch(deviceUpdate -> deviceUpdate.state == DeviceState.UPDATING);
+    }
+
+    private boolean hasUnsettledDevices() {
+        return wave.values().stream().anyMatch(deviceUpdate -> deviceUpdate.state == DeviceState.PENDING || deviceUpdate.state == DeviceState.UPDATING);
+    }
+
+    /**
+     * Drop the finished rollout, so the next updates start a new one
+     */
+    private void reset() {
+        wave.clear();
+        waveNumber = 0;
+        succeededCount = 0;
+        failedCount = 0;
+        skippedCount = 0;
+    }
+}
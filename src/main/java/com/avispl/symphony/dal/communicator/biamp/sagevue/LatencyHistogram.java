@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of non-negative values (latencies), with a constant memory footprint.
+ * Values below 16 are counted exactly, larger values are counted in log-linear buckets: each power of two range
+ * is split into 8 sub-buckets, so a percentile is reported with at most 12.5% error - same approach HdrHistogram uses
+ * with a single significant digit.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class LatencyHistogram {
+    private static final int LINEAR_BUCKETS = 16;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_MAGNITUDE = 4;
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + (63 - LINEAR_MAGNITUDE) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Record a value
+     *
+     * @param value value to record, negative values are recorded as 0
+     */
+    void record(long value) {
+        long normalizedValue = Math.max(0, value);
+        counts.incrementAndGet(bucketIndex(normalizedValue));
+        totalCount.incrementAndGet();
+        long currentMax = maxValue.get();
+        while (normalizedValue > currentMax && !maxValue.compareAndSet(currentMax, normalizedValue)) {
+            currentMax = maxValue.get();
+        }
+    }
+
+    /**
+     * Retrieves number of recorded values
+     *
+     * @return number of recorded values
+     */
+    long getTotalCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Retrieves maximum recorded value
+     *
+     * @return maximum recorded value, 0 if nothing was recorded
+     */
+    long getMaxValue() {
+        return maxValue.get();
+    }
+
+    /**
+     * Get the value at a given percentile across multiple histograms
+     *
+     * @param percentile percentile, 0-100
+     * @param histograms histograms to calculate the percentile for
+     * @return upper bound of the bucket the percentile falls into, capped by the maximum recorded value,
+     * or 0 if nothing was recorded
+     */
+    static long getValueAtPercentile(double percentile, LatencyHistogram... histograms) {
+        long totalCount = 0;
+        long maxValue = 0;
+        for (LatencyHistogram histogram : histograms) {
+            totalCount += histogram.getTotalCount();
+            maxValue = Math.max(maxValue, histogram.getMaxValue());
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        long targetCount = Math.max(1, (long) Math.ceil(totalCount * Math.min(100, percentile) / 100));
+        long count = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            for (LatencyHistogram histogram : histograms) {
+                count += histogram.counts.get(index);
+            }
+            if (count >= targetCount) {
+                return Math.min(bucketUpperBound(index), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Get index of the bucket a value falls into
+     *
+     * @param value non-negative value
+     * @return bucket index
+     */
+    private static int bucketIndex(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (magnitude - LINEAR_MAGNITUDE) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Get the highest value that falls into the bucket
+     *
+     * @param index bucket index
+     * @return bucket upper bound
+     */
+    private static long bucketUpperBound(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int magnitude = (index - LINEAR_BUCKETS) / SUB_BUCKETS + LINEAR_MAGNITUDE;
+        int subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS;
+        long lowerBound = (long) (SUB_BUCKETS + subBucket) << (magnitude - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (magnitude - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Scheduler of the requests towards a SageVue server. No more than {@link #maxConcurrentRequests} requests are
+ * in flight at once, and, when {@link #maxRequestsPerSecond} is set, requests are started at no more than that rate,
+ * with bursts of up to {@link #burstSize} requests (token bucket). Waiting requests are started in {@link Priority} order,
+ * oldest first within the same priority, so controls are not queued behind the polling requests.
+ * To keep the lower priorities from starving, at least one of every {@link #AGED_REQUEST_SHARE} requests started
+ * is the oldest waiting request, once it has waited for longer than {@link #AGING_THRESHOLD_NANOS}.
+ * <p>
+ * Login requests are not limited by the number of requests in flight: requests in flight may be waiting for the session
+ * themselves, so a login request waiting for them to complete would never be started.
+ * Requests issued by a thread that is running a scheduled request already (e.g. a session renewal triggered while
+ * the request headers are populated) are issued right away.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class RequestScheduler {
+    /**
+     * Request priority classes, highest priority first. Firmware updates started by a staged rollout
+     * are issued after the user controls and the list requests, but ahead of the device polling.
+     */
+    enum Priority {
+        CONTROL("Control"), LOGIN("Login"), LIST("List"), ROLLOUT("Rollout"), DETAIL("Detail"), FIRMWARE("Firmware");
+
+        private final String statisticName;
+
+        Priority(String statisticName) {
+            this.statisticName = statisticName;
+        }
+    }
+
+    private static final String SCHEDULER_GROUP = "RequestScheduler#";
+    /**
+     * Wait time (ns) after which a request is started ahead of the higher priority ones, see {@link #AGED_REQUEST_SHARE}
+     */
+    static final long AGING_THRESHOLD_NANOS = TimeUnit.SECONDS.toNanos(10);
+    /**
+     * One of this many requests started is the oldest waiting request, if it has waited for longer
+     * than {@link #AGING_THRESHOLD_NANOS}
+     */
+    static final int AGED_REQUEST_SHARE = 4;
+
+    /**
+     * Maximum number of requests in flight, login requests excluded
+     */
+    private final int maxConcurrentRequests;
+    /**
+     * Maximum number of requests started per second, 0 or less for no rate limit
+     */
+    private final int maxRequestsPerSecond;
+    /**
+     * Maximum number of requests started at once when there were no requests for a while
+     */
+    private final int burstSize;
+    /**
+     * Source of the current time (ns) the token bucket is refilled and the wait times are measured with
+     */
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition stateChanged = lock.newCondition();
+    /**
+     * Requests waiting to be started, in the order they have to be started
+     */
+    private final TreeSet<Ticket> queue = new TreeSet<>(Comparator.comparingInt((Ticket ticket) -> ticket.priority.ordinal())
+            .thenComparingLong(ticket -> ticket.sequence));
+    /**
+     * Requests waiting to be started, oldest first
+     */
+    private final TreeSet<Ticket> arrivals = new TreeSet<>(Comparator.comparingLong((Ticket ticket) -> ticket.sequence));
+    private final ThreadLocal<Boolean> scheduledThread = new ThreadLocal<>();
+    private final LatencyHistogram[] waitTimes = new LatencyHistogram[Priority.values().length];
+    private final LongAdder throttledCount = new LongAdder();
+    private long sequence;
+    private int inFlightCount;
+    private int maxQueueDepth;
+    /**
+     * Number of requests started in priority order since the oldest waiting request was last started ahead of them
+     */
+    private int startsSinceAgedRequest;
+    private double tokens;
+    private long refillTimestamp;
+
+    /**
+     * Request waiting to be started
+     */
+    private static class Ticket {
+        private final Priority priority;
+        private final long sequence;
+        private final long enqueueTimestamp;
+
+        private Ticket(Priority priority, long sequence, long enqueueTimestamp) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.enqueueTimestamp = enqueueTimestamp;
+        }
+    }
+
+    /**
+     * Create a request scheduler
+     *
+     * @param maxConcurrentRequests maximum number of requests in flight, login requests excluded
+     * @param maxRequestsPerSecond maximum number of requests started per second, 0 or less for no rate limit
+     * @param burstSize maximum number of requests started at once, 0 or less to use {@code maxRequestsPerSecond}
+     */
+    RequestScheduler(int maxConcurrentRequests, int maxRequestsPerSecond, int burstSize) {
+        this(maxConcurrentRequests, maxRequestsPerSecond, burstSize, System::nanoTime);
+    }
+
+    /**
+     * Create a request scheduler with a custom time source
+     *
+     * @param maxConcurrentRequests maximum number of requests in flight, login requests excluded
+     * @param maxRequestsPerSecond maximum number of requests started per second, 0 or less for no rate limit
+     * @param burstSize maximum number of requests started at once, 0 or less to use {@code maxRequestsPerSecond}
+     * @param nanoClock source of the current time (ns), e.g. System::nanoTime
+     */
+    RequestScheduler(int maxConcurrentRequests, int maxRequestsPerSecond, int burstSize, LongSupplier nanoClock) {
+        this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+        this.maxRequestsPerSecond = Math.max(0, maxRequestsPerSecond);
+        this.burstSize = burstSize > 0 ? burstSize : Math.max(1, maxRequestsPerSecond);
+        this.nanoClock = nanoClock;
+        for (int i = 0; i < waitTimes.length; i++) {
+            waitTimes[i] = new LatencyHistogram();
+        }
+        tokens = this.burstSize;
+        refillTimestamp = nanoClock.getAsLong();
+    }
+
+    /**
+     * Issue a request once it's its turn
+     *
+     * @param priority request priority
+     * @param request request to issue
+     * @param <T> response type
+     * @return response
+     * @throws Exception if the request has failed, or the thread was interrupted while waiting
+     */
+    <T> T execute(Priority priority, Callable<T> request) throws Exception {
+        if (scheduledThread.get() != null) {
+            return request.call();
+        }
+        acquire(priority);
+        scheduledThread.set(Boolean.TRUE);
+        try {
+            return request.call();
+        } finally {
+            scheduledThread.remove();
+            release();
+        }
+    }
+
+    /**
+     * Get queue depth, requests in flight and per priority wait time statistics. The maximum wait time
+     * of a priority includes the requests still waiting, so a starving priority shows up before its requests are started.
+     *
+     * @return map of "statisticName:value" pairs
+     */
+    Map<String, String> getStatistics() {
+        Map<String, String> statistics = new TreeMap<>();
+        long[] oldestWaitTimes = new long[waitTimes.length];
+        lock.lock();
+        try {
+            statistics.put(SCHEDULER_GROUP + "QueueDepth", String.valueOf(queue.size()));
+            statistics.put(SCHEDULER_GROUP + "MaxQueueDepth", String.valueOf(maxQueueDepth));
+            statistics.put(SCHEDULER_GROUP + "InFlightRequests", String.valueOf(inFlightCount));
+            long currentTimestamp = nanoClock.getAsLong();
+            for (Ticket ticket : queue) {
+                int index = ticket.priority.ordinal();
+                oldestWaitTimes[index] = Math.max(oldestWaitTimes[index],
+                        TimeUnit.NANOSECONDS.toMillis(currentTimestamp - ticket.enqueueTimestamp));
+            }
+        } finally {
+            lock.unlock();
+        }
+        statistics.put(SCHEDULER_GROUP + "ThrottledRequests", String.valueOf(throttledCount.sum()));
+        for (Priority priority : Priority.values()) {
+            LatencyHistogram waitTime = waitTimes[priority.ordinal()];
+            String prefix = SCHEDULER_GROUP + priority.statisticName;
+            statistics.put(prefix + "Requests", String.valueOf(waitTime.getTotalCount()));
+            statistics.put(prefix + "WaitP50Ms", String.valueOf(LatencyHistogram.getValueAtPercentile(50, waitTime)));
+            statistics.put(prefix + "WaitP99Ms", String.valueOf(LatencyHistogram.getValueAtPercentile(99, waitTime)));
+            statistics.put(prefix + "WaitMaxMs", String.valueOf(Math.max(waitTime.getMaxValue(), oldestWaitTimes[priority.ordinal()])));
+        }
+        return statistics;
+    }
+
+    /**
+     * Wait until the request may be started, and account it as being in flight
+     *
+     * @param priority request priority
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    private void acquire(Priority priority) throws InterruptedException {
+        long startTimestamp = nanoClock.getAsLong();
+        boolean throttled = false;
+        lock.lock();
+        try {
+            Ticket ticket = new Ticket(priority, sequence++, startTimestamp);
+            queue.add(ticket);
+            arrivals.add(ticket);
+            maxQueueDepth = Math.max(maxQueueDepth, queue.size());
+            try {
+                while (true) {
+                    if (nextTicket() != ticket) {
+                        stateChanged.await();
+                        continue;
+                    }
+                    long tokenWait = takeToken();
+                    if (tokenWait == 0) {
+                        if (ticket.priority != Priority.LOGIN) {
+                            startsSinceAgedRequest = ticket == queue.first() ? startsSinceAgedRequest + 1 : 0;
+                        }
+                        break;
+                    }
+                    throttled = true;
+                    stateChanged.awaitNanos(tokenWait);
+                }
+            } finally {
+                // whether started or interrupted, the ticket no longer holds the next waiting request back
+                queue.remove(ticket);
+                arrivals.remove(ticket);
+                stateChanged.signalAll();
+            }
+            inFlightCount++;
+        } finally {
+            lock.unlock();
+        }
+        if (throttled) {
+            throttledCount.increment();
+        }
+        waitTimes[priority.ordinal()].record(TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - startTimestamp));
+    }
+
+    /**
+     * Account the request as completed
+     */
+    private void release() {
+        lock.lock();
+        try {
+            inFlightCount--;
+            stateChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the request to start next. Must be called with {@link #lock} held.
+     *
+     * @return first waiting request, or the oldest one if it's the turn of an aged request,
+     * first waiting login request if the maximum number of requests is in flight, or null if there's none
+     */
+    private Ticket nextTicket() {
+        if (queue.isEmpty()) {
+            return null;
+        }
+        if (inFlightCount < maxConcurrentRequests) {
+            Ticket oldestTicket = arrivals.first();
+            if (startsSinceAgedRequest >= AGED_REQUEST_SHARE - 1
+                    && nanoClock.getAsLong() - oldestTicket.enqueueTimestamp > AGING_THRESHOLD_NANOS) {
+                return oldestTicket;
+            }
+            return queue.first();
+        }
+        for (Ticket ticket : queue) {
+            if (ticket.priority == Priority.LOGIN) {
+                return ticket;
+            }
+            if (ticket.priority.ordinal() > Priority.LOGIN.ordinal()) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Take a token from the bucket, refilling it first. Must be called with {@link #lock} held.
+     *
+     * @return 0 if the token was taken, or time (ns) until the next token is available otherwise
+     */
+    private long takeToken() {
+        if (maxRequestsPerSecond == 0) {
+            return 0;
+        }
+        long currentTimestamp = nanoClock.getAsLong();
+        tokens = Math.min(burstSize, tokens + (currentTimestamp - refillTimestamp) * maxRequestsPerSecond / 1e9);
+        refillTimestamp = currentTimestamp;
+        if (tokens >= 1) {
+            tokens--;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) * 1e9 / maxRequestsPerSecond));
+    }
+}
@@ -10,24 +10,47 @@ import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
 import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
 import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
 import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
 import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
 import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.http.client.HttpClient;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
 
 import javax.security.auth.login.FailedLoginException;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
@@ -44,46 +67,1399 @@ import static java.util.Collections.*;
  * @since 1.0
  */
 public class SageVueCommunicator extends RestCommunicator implements Aggregator, Monitorable, Controller {
-    private String loginId;
+    /**
+     * SageVue session (LoginId) holder
+     */
+    private SessionManager sessionManager;
     private ObjectMapper objectMapper;
     /**
-     * List of protected devices within an aggregator to use during control operations
+     * Device models and protection flags, listed during the last devices collection cycle, to use during control
+     * operations, along with the control and poll timestamps used by {@link #devicePollingScheduler}
+     */
+    private final DeviceStateStore deviceStateStore = new DeviceStateStore();
+    /**
+     * Container for the firmware versions selected for an update each device in aggregator.
+     */
+    private final Map<String, String> devicesFirmwareVersions = new ConcurrentHashMap<>();
+    /**
+     * Locks serializing control operations issued for the same device or system
+     */
+    private final DeviceLocks deviceLocks = new DeviceLocks(CONTROL_LOCK_STRIPES);
+    /**
+     * device properties processor for json data extraction, using yml mapping
+     * */
+    private AggregatedDeviceProcessor aggregatedDeviceProcessor;
+    /**
+     * Adapter metadata, collected from the version.properties
+     */
+    private Properties adapterProperties;
+    /**
+     * Device adapter instantiation timestamp.
+     */
+    private long adapterInitializationTimestamp;
+    /**
+     * Number of worker threads used to retrieve device details (/devices/{model}/{serialNumber}) in parallel
+     */
+    private int deviceDetailsThreadCount = 8;
+    /**
+     * Maximum number of requests the adapter is allowed to have in flight towards the SageVue server at once
+     */
+    private int maxConcurrentRequests = 8;
+    /**
+     * Maximum number of requests per second the adapter is allowed to issue to the SageVue server, 0 or less - no limit
+     */
+    private int maxRequestsPerSecond = 0;
+    /**
+     * Number of requests the adapter is allowed to issue at once, after not issuing any requests for a while,
+     * when {@link #maxRequestsPerSecond} is set. 0 or less - same as {@link #maxRequestsPerSecond}
+     */
+    private int requestBurstSize = 0;
+    /**
+     * Executor that runs device details requests during the devices enrichment stage
+     */
+    private ExecutorService deviceDetailsExecutor;
+    /**
+     * Scheduler of the SageVue requests, limiting the requests by {@link #maxConcurrentRequests}, {@link #maxRequestsPerSecond}
+     * and {@link #requestBurstSize}
+     */
+    private RequestScheduler requestScheduler;
+    /**
+     * Time (ms) the firmware versions, retrieved for a device model, are kept in {@link #firmwareCatalogue}
+     */
+    private long firmwareCatalogueTtl = 1800000;
+    /**
+     * Firmware versions available for each device model
+     */
+    private FirmwareCatalogue firmwareCatalogue;
+    /**
+     * If enabled - device details are only requested for the devices that are new, changed since the previous cycle,
+     * or were not refreshed for longer than {@link #deviceDetailsMaxAge}. Unchanged devices are not mapped again.
+     */
+    private boolean incrementalRefresh;
+    /**
+     * Time (ms) after which device details are requested even if the device has not changed, in incremental refresh mode
+     */
+    private long deviceDetailsMaxAge = 600000;
+    /**
+     * Device details and mapped devices, retrieved during previous cycles
+     */
+    private final DeviceDetailsCache deviceDetailsCache = new DeviceDetailsCache();
+    /**
+     * Diffs collected devices against the published ones, see {@link #emitChangedDevicesOnly}
+     */
+    private final DeviceChangeTracker deviceChangeTracker = new DeviceChangeTracker();
+    /**
+     * If enabled - device details are requested at the rate of the device refresh tier, see {@link DevicePollingScheduler}:
+     * every {@link #fastTierPollingInterval} ms for the devices with recent controls, faults or a transitional
+     * OccupiedStatus, every {@link #offlineTierPollingInterval} ms for the offline devices, and every
+     * {@link #stableTierPollingInterval} ms for the rest, limited by {@link #maxDeviceDetailsRequestsPerCycle}
+     */
+    private boolean adaptivePolling;
+    /**
+     * Device details polling interval (ms) of the fast tier devices, 0 to poll them every cycle
+     */
+    private long fastTierPollingInterval = 0;
+    /**
+     * Device details polling interval (ms) of the stable tier devices
+     */
+    private long stableTierPollingInterval = 600000;
+    /**
+     * Device details polling interval (ms) of the offline tier devices
+     */
+    private long offlineTierPollingInterval = 3600000;
+    /**
+     * Time (ms) a device is polled in the fast tier after a control was issued for it
+     */
+    private long recentControlPeriod = 600000;
+    /**
+     * Max number of device details requests per devices collection cycle in adaptive polling mode, 0 for no limit.
+     * Devices that don't fit into the budget are polled during the next cycles, the longest waiting first.
+     */
+    private int maxDeviceDetailsRequestsPerCycle = 0;
+    /**
+     * Device details polling scheduler, used in adaptive polling mode
+     */
+    private DevicePollingScheduler devicePollingScheduler;
+    /**
+     * If enabled - /systems payload is requested at most once per {@link #pollingInterval}, shared by the monitoring
+     * calls and the devices collection cycles, which fill /devices entries with the fields only /systems provides
+     * and skip device details requests for the devices /systems provides the IpAddress of
+     */
+    private boolean reuseSystemsPayload = true;
+    /**
+     * /systems payload cache, see {@link #reuseSystemsPayload}
+     */
+    private SystemsPayloadCache systemsPayloadCache;
+    /**
+     * Time (ms) after the devices collection cycle start, after which the device details requests that have not
+     * been issued yet are skipped, and the devices keep their details retrieved during the previous cycles.
+     * 0 or less - the cycle deadline is {@link #pollingInterval}
+     */
+    private long cycleDeadline = 0;
+    /**
+     * Number of consecutive failures of a route (device details, firmware versions of a device model, or /systems),
+     * after which the route is not requested for {@link #circuitBreakerCoolDownPeriod} ms. 0 or less - routes are
+     * always requested.
+     * Device details routes are tracked per device model: a model route is opened by the server failures and timeouts,
+     * which skips the details of all the model devices for the cool-down period, while 404 responses for
+     * removed devices do not count.
+     */
+    private int circuitBreakerFailureThreshold = 5;
+    /**
+     * Time (ms) a route with an open circuit breaker is not requested for, see {@link #circuitBreakerFailureThreshold}
+     */
+    private long circuitBreakerCoolDownPeriod = 60000;
+    /**
+     * Circuit breakers of the routes, see {@link #circuitBreakerFailureThreshold}
+     */
+    private CircuitBreakers circuitBreakers;
+    /**
+     * Whether retrieveMultipleStatistics() only reports the devices whose properties or controls have changed
+     * since the previous retrieval. Unchanged devices are always reported with the previously published instances.
+     */
+    private boolean emitChangedDevicesOnly = false;
+    /**
+     * Number of the last fault open/close transitions kept per device, see {@link FaultTracker}
+     */
+    private int faultHistorySize = 16;
+    /**
+     * Fault state and history of the devices
+     */
+    private FaultTracker faultTracker;
+    /**
+     * Comma-separated device models (e.g. Tesira,Atom) the aggregator manages. Empty - all the models are managed.
+     * Devices that are not selected by {@link #includeDeviceModels}, {@link #excludeDeviceModels},
+     * {@link #includeSystemIds}, {@link #excludeSystemIds}, {@link #includeSerialNumbers} and {@link #excludeSerialNumbers}
+     * are dropped from the /devices payload before any per-device request, and are not reported.
+     */
+    private String includeDeviceModels;
+    /**
+     * Comma-separated device models the aggregator skips
+     */
+    private String excludeDeviceModels;
+    /**
+     * Comma-separated SystemIds of the systems the aggregator manages, with their devices. Empty - all the systems are managed
+     */
+    private String includeSystemIds;
+    /**
+     * Comma-separated SystemIds of the systems the aggregator skips, with their devices
+     */
+    private String excludeSystemIds;
+    /**
+     * Comma-separated serial number patterns, with * and ? wildcards, of the devices the aggregator manages.
+     * Empty - all the devices are managed
+     */
+    private String includeSerialNumbers;
+    /**
+     * Comma-separated serial number patterns, with * and ? wildcards, of the devices the aggregator skips
+     */
+    private String excludeSerialNumbers;
+    /**
+     * Selection of the managed devices and systems, see {@link #includeDeviceModels}
+     */
+    private DeviceSelection deviceSelection;
+    /**
+     * Max number of devices in a firmware rollout wave. If greater than 0 - FirmwareUpdate controls are queued
+     * into a staged rollout instead of being requested right away: the devices are updated wave by wave,
+     * the next wave is started once all the devices of the current one have settled. 0 or less - firmware
+     * updates are requested right away
+     */
+    private int firmwareRolloutWaveSize = 0;
+    /**
+     * Max number of devices of the same model updated at the same time during a firmware rollout, 0 or less for no limit
+     */
+    private int firmwareRolloutMaxConcurrentPerModel = 0;
+    /**
+     * Max number of devices of the same system updated at the same time during a firmware rollout, 0 or less for no limit
+     */
+    private int firmwareRolloutMaxConcurrentPerSystem = 0;
+    /**
+     * Number of failed devices of a firmware rollout wave, after which the rollout is halted and the queued devices
+     * are skipped. 0 or less - the rollout is never halted
+     */
+    private int firmwareRolloutFailureThreshold = 1;
+    /**
+     * Interval (ms) at which the devices updated by a firmware rollout are polled, and the next devices are started
+     */
+    private long firmwareRolloutPollingInterval = 5000;
+    /**
+     * Time (ms) after which a device update of a firmware rollout that has not settled is considered failed
+     */
+    private long firmwareUpdateTimeout = 1800000;
+    /**
+     * Staged firmware rollout, if {@link #firmwareRolloutWaveSize} is greater than 0, null otherwise
+     */
+    private FirmwareRollout firmwareRollout;
+    /**
+     * Executor that advances {@link #firmwareRollout} every {@link #firmwareRolloutPollingInterval} ms,
+     * independently of the devices collection cycles
+     */
+    private ScheduledExecutorService firmwareRolloutExecutor;
+    /**
+     * If enabled - /devices payload is parsed while it's being read from the connection, keeping only the device fields
+     * used by the model mapping and the adapter, instead of reading the whole payload into a String and a json tree
+     */
+    private boolean streamDevicesPayload = true;
+    /**
+     * Streaming parser of the /devices payload
+     */
+    private DevicesPayloadParser devicesPayloadParser;
+    /**
+     * If enabled - devices are mapped with {@link #compiledModelMapping}, which has all the model mapping expressions
+     * parsed once during initialization, instead of {@link #aggregatedDeviceProcessor}, that parses them for every device
+     */
+    private boolean precompiledModelMapping = true;
+    /**
+     * Model mapping, compiled during initialization
+     */
+    private CompiledModelMapping compiledModelMapping;
+
+    /**
+     * Request, session, lock and devices collection metrics, reported as aggregator statistics
+     */
+    private AggregatorMetrics aggregatorMetrics = new AggregatorMetrics();
+
+    /**
+     * Interval (ms) between two consecutive devices collection cycles
+     */
+    private long pollingInterval = 60000;
+    /**
+     * Maximum interval (ms) between two consecutive devices collection attempts, when collection keeps failing.
+     * Each failed attempt doubles the interval, starting from {@link #pollingInterval}
+     */
+    private long maxPollingBackoffInterval = 600000;
+    /**
+     * Time (ms) after which the SageVue session (LoginId) is renewed proactively, before SageVue rejects it.
+     * 0 or less - the session is only renewed once SageVue rejects it.
+     */
+    private long sessionRenewalInterval = 1200000;
+    /**
+     * If enabled - SageVue requests are issued with {@link SageVueRequestFactory}: a connection pool sized by the
+     * number of concurrent requests the adapter issues, kept alive for {@link #connectionKeepAliveTime} ms,
+     * per-request connection state and timeouts based on the endpoint class
+     */
+    private boolean pooledTransport = true;
+    /**
+     * Time (ms) an idle pooled connection is kept open to be reused by the next requests.
+     * 0 or less - connections are not reused, every request opens a new connection.
+     */
+    private long connectionKeepAliveTime = 90000;
+    /**
+     * If enabled - responses are requested gzip-encoded, and decompressed while they're being read
+     */
+    private boolean compressResponses = true;
+    /**
+     * Connect timeout (ms) of the SageVue requests, in pooled transport mode
+     */
+    private int connectTimeout = 5000;
+    /**
+     * Read timeout (ms) of /devices and /systems requests, in pooled transport mode
+     */
+    private int listRequestTimeout = 60000;
+    /**
+     * Read timeout (ms) of device details and firmware catalogue requests, in pooled transport mode
+     */
+    private int detailsRequestTimeout = 10000;
+    /**
+     * Read timeout (ms) of login and control requests, in pooled transport mode
+     */
+    private int controlRequestTimeout = 30000;
+    /**
+     * Rest template of the pooled transport, sharing the http client of {@link #transportDefaultRestTemplate}
+     */
+    private volatile RestTemplate transportRestTemplate;
+    /**
+     * Default rest template {@link #transportRestTemplate} is built along with, replaced whenever the http client is recreated
+     */
+    private volatile RestTemplate transportDefaultRestTemplate;
+    /**
+     * Set while the last pooled transport request of the thread was rejected with 401, so the {@link #disconnect()}
+     * that follows the rejection keeps the http client open
+     */
+    private final ThreadLocal<Boolean> sessionRejected = new ThreadLocal<>();
+    /**
+     * If enabled - the last good devices collection result is persisted to {@link #warmStartSnapshotDirectory}
+     * after every cycle, and restored when the adapter is initialized, so the devices are served and controls
+     * are accepted before the first devices collection cycle completes
+     */
+    private boolean warmStart = true;
+    /**
+     * Directory the warm start snapshot is kept in. System temporary directory, if not set.
+     */
+    private String warmStartSnapshotDirectory;
+    /**
+     * Time (ms) after which the warm start snapshot is considered outdated and is not restored anymore
+     */
+    private long warmStartSnapshotMaxAge = 86400000;
+    /**
+     * Warm start snapshot store, null if {@link #warmStart} is disabled
+     */
+    private WarmStartSnapshot warmStartSnapshot;
+    /**
+     * Additional SageVue servers polled by this adapter along with the main one, comma-separated list of
+     * [protocol://][login:password@]host[:port] entries. Omitted parts are taken from the main server configuration.
+     * Devices of the additional servers are reported with "serverId/serialNumber" device ids,
+     * and their systems - as "System serverId/systemId" controls.
+     */
+    private String servers;
+    /**
+     * Communicators of the additional servers, by server id. Each server has its own session, connection pool,
+     * device details and control worker threads and devices snapshot, and is polled concurrently with the others,
+     * so a failing server never affects the rest.
+     */
+    private volatile Map<String, SageVueCommunicator> memberServers = emptyMap();
+    /**
+     * Executor that runs devices collection cycles of all the servers and /systems requests of the additional servers,
+     * if there are additional servers
+     */
+    private ExecutorService serverCollectionExecutor;
+    /**
+     * Main server communicator, if this communicator polls one of the additional servers, null otherwise
+     */
+    private SageVueCommunicator parentServer;
+    /**
+     * Id of the additional server this communicator polls, null for the main server
+     */
+    private String serverId;
+    /**
+     * If enabled - controls issued within a single {@link #controlProperties(List)} call are batched:
+     * firmware updates of the same model and version are requested with a single Firmware/{model} request,
+     * and device reboots are requested in parallel, limited by {@link #maxConcurrentControls}
+     */
+    private boolean batchControls = true;
+    /**
+     * Maximum number of device control requests (reboots) issued in parallel, in batched controls mode
+     */
+    private int maxConcurrentControls = 8;
+    /**
+     * Executor that runs device control requests in batched controls mode
+     */
+    private ExecutorService controlExecutor;
+    /**
+     * Timestamp (ms) of the next devices collection cycle
+     */
+    private volatile long nextDevicesCollectionIterationTimestamp;
+    /**
+     * Timestamp (ms) until which the aggregator is considered active. Updated every time the aggregator data is read.
+     * When the timestamp is in the past - devices collection is paused.
+     */
+    private volatile long validRetrieveStatisticsTimestamp;
+    /**
+     * Snapshot of the aggregated devices, retrieved during the last successful devices collection cycle,
+     * grouped by deviceId. Replaced as a whole after each cycle, so readers always see a consistent snapshot.
+     */
+    private volatile Map<String, List<AggregatedDevice>> aggregatedDevices = emptyMap();
+    /**
+     * Executor that runs {@link #deviceDataLoader}
+     */
+    private ExecutorService dataCollectionExecutor;
+    /**
+     * Background devices collection process
+     */
+    private SageVueDeviceDataLoader deviceDataLoader;
+
+    private static final String BASE_URL = "/biampsagevue/api/";
+    private static final String LOGIN_URI = "login";
+    /**
+     * Separator of the server id and device serial number (or system id) of the additional servers devices
+     */
+    private static final String SERVER_SEPARATOR = "/";
+    /**
+     * Number of locks in {@link #deviceLocks}
+     */
+    private static final int CONTROL_LOCK_STRIPES = 64;
+    /**
+     * Time (ms) the devices collection stays active after the aggregator data was last read
+     */
+    private static final long RETRIEVE_STATISTICS_TIMEOUT = 3 * 60 * 1000;
+    /**
+     * Interval (ms) at which the devices collection process checks whether a new cycle has to be started
+     */
+    private static final long DATA_COLLECTION_TICK = 500;
+
+    /**
+     * Process that is running constantly and collects devices data from SageVue API in the background,
+     * so the monitoring calls are served from the latest snapshot instead of waiting for the SageVue requests.
+     * Cycles are started every {@link #pollingInterval} ms, failed cycles are retried with an exponential backoff,
+     * limited by {@link #maxPollingBackoffInterval}. The collection is paused while nobody reads the aggregator data.
+     */
+    class SageVueDeviceDataLoader implements Runnable {
+        private volatile boolean inProgress = true;
+        private int failedCycles;
+        private final AtomicBoolean cycleInProgress = new AtomicBoolean();
+
+        @Override
+        public void run() {
+            while (inProgress) {
+                long currentTimestamp = System.currentTimeMillis();
+                if (validRetrieveStatisticsTimestamp < currentTimestamp) {
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("SageVue: aggregator data is not being read, devices collection is paused.");
+                    }
+                } else if (!memberServers.isEmpty()) {
+                    scheduleCollection(serverCollectionExecutor);
+                    memberServers.values().forEach(memberServer -> memberServer.deviceDataLoader.scheduleCollection(serverCollectionExecutor));
+                } else if (nextDevicesCollectionIterationTimestamp <= currentTimestamp) {
+                    collectDevices();
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(DATA_COLLECTION_TICK);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("SageVue: devices collection process is stopped.");
+            }
+        }
+
+        /**
+         * Run a single devices collection cycle and publish the result, or schedule the next attempt with a backoff
+         */
+        private void collectDevices() {
+            long cycleStartTimestamp = System.currentTimeMillis();
+            try {
+                List<AggregatedDevice> devices = fetchDevicesList();
+                publishAggregatedDevices(devices);
+                aggregatorMetrics.recordCycle(System.currentTimeMillis() - cycleStartTimestamp, true, devices.size());
+                failedCycles = 0;
+                nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + pollingInterval;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                inProgress = false;
+            } catch (Exception e) {
+                aggregatorMetrics.recordCycle(System.currentTimeMillis() - cycleStartTimestamp, false, 0);
+                failedCycles++;
+                long backoffInterval = Math.min(pollingInterval << Math.min(failedCycles, 16), maxPollingBackoffInterval);
+                nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + backoffInterval;
+                logger.error("SageVue: unable to collect devices, next attempt in " + backoffInterval + "ms", e);
+            }
+        }
+
+        /**
+         * Start a devices collection cycle with the executor, if it's due and the previous cycle has completed.
+         * Used when there are additional servers, so the cycles of different servers run concurrently.
+         *
+         * @param executor executor to run the cycle with
+         */
+        void scheduleCollection(Executor executor) {
+            if (nextDevicesCollectionIterationTimestamp > System.currentTimeMillis() || !cycleInProgress.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        collectDevices();
+                    } finally {
+                        cycleInProgress.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                cycleInProgress.set(false);
+            }
+        }
+
+        /**
+         * Stop the devices collection process
+         */
+        void stop() {
+            inProgress = false;
+        }
+    }
+
+    /**
+     * Setting ignoring certificates to allow all https connections.
+     * Instantiating ObjectMapper to deserialize response payloads
+     */
+    public SageVueCommunicator() throws IOException {
+        super();
+        setTrustAllCertificates(true);
+        adapterProperties = new Properties();
+        adapterProperties.load(getClass().getResourceAsStream("/version.properties"));
+        objectMapper = new ObjectMapper();
+    }
+
+    /**
+     * Retrieves {@link #deviceDetailsThreadCount}
+     *
+     * @return value of {@link #deviceDetailsThreadCount}
+     */
+    public int getDeviceDetailsThreadCount() {
+        return deviceDetailsThreadCount;
+    }
+
+    /**
+     * Sets {@link #deviceDetailsThreadCount} value
+     *
+     * @param deviceDetailsThreadCount new value of {@link #deviceDetailsThreadCount}
+     */
+    public void setDeviceDetailsThreadCount(int deviceDetailsThreadCount) {
+        this.deviceDetailsThreadCount = deviceDetailsThreadCount;
+    }
+
+    /**
+     * Retrieves {@link #maxConcurrentRequests}
+     *
+     * @return value of {@link #maxConcurrentRequests}
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Sets {@link #maxConcurrentRequests} value
+     *
+     * @param maxConcurrentRequests new value of {@link #maxConcurrentRequests}
+     */
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    /**
+     * Retrieves {@link #maxRequestsPerSecond}
+     *
+     * @return value of {@link #maxRequestsPerSecond}
+     */
+    public int getMaxRequestsPerSecond() {
+        return maxRequestsPerSecond;
+    }
+
+    /**
+     * Sets {@link #maxRequestsPerSecond} value
+     *
+     * @param maxRequestsPerSecond new value of {@link #maxRequestsPerSecond}
+     */
+    public void setMaxRequestsPerSecond(int maxRequestsPerSecond) {
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+    }
+
+    /**
+     * Retrieves {@link #requestBurstSize}
+     *
+     * @return value of {@link #requestBurstSize}
+     */
+    public int getRequestBurstSize() {
+        return requestBurstSize;
+    }
+
+    /**
+     * Sets {@link #requestBurstSize} value
+     *
+     * @param requestBurstSize new value of {@link #requestBurstSize}
+     */
+    public void setRequestBurstSize(int requestBurstSize) {
+        this.requestBurstSize = requestBurstSize;
+    }
+
+    /**
+     * Retrieves {@link #firmwareCatalogueTtl}
+     *
+     * @return value of {@link #firmwareCatalogueTtl}
+     */
+    public long getFirmwareCatalogueTtl() {
+        return firmwareCatalogueTtl;
+    }
+
+    /**
+     * Sets {@link #firmwareCatalogueTtl} value
+     *
+     * @param firmwareCatalogueTtl new value of {@link #firmwareCatalogueTtl}
+     */
+    public void setFirmwareCatalogueTtl(long firmwareCatalogueTtl) {
+        this.firmwareCatalogueTtl = firmwareCatalogueTtl;
+    }
+
+    /**
+     * Retrieves {@link #incrementalRefresh}
+     *
+     * @return value of {@link #incrementalRefresh}
+     */
+    public boolean isIncrementalRefresh() {
+        return incrementalRefresh;
+    }
+
+    /**
+     * Sets {@link #incrementalRefresh} value
+     *
+     * @param incrementalRefresh new value of {@link #incrementalRefresh}
+     */
+    public void setIncrementalRefresh(boolean incrementalRefresh) {
+        this.incrementalRefresh = incrementalRefresh;
+    }
+
+    /**
+     * Retrieves {@link #deviceDetailsMaxAge}
+     *
+     * @return value of {@link #deviceDetailsMaxAge}
+     */
+    public long getDeviceDetailsMaxAge() {
+        return deviceDetailsMaxAge;
+    }
+
+    /**
+     * Sets {@link #deviceDetailsMaxAge} value
+     *
+     * @param deviceDetailsMaxAge new value of {@link #deviceDetailsMaxAge}
+     */
+    public void setDeviceDetailsMaxAge(long deviceDetailsMaxAge) {
+        this.deviceDetailsMaxAge = deviceDetailsMaxAge;
+    }
+
+    /**
+     * Retrieves {@link #adaptivePolling}
+     *
+     * @return value of {@link #adaptivePolling}
+     */
+    public boolean isAdaptivePolling() {
+        return adaptivePolling;
+    }
+
+    /**
+     * Sets {@link #adaptivePolling} value
+     *
+     * @param adaptivePolling new value of {@link #adaptivePolling}
+     */
+    public void setAdaptivePolling(boolean adaptivePolling) {
+        this.adaptivePolling = adaptivePolling;
+    }
+
+    /**
+     * Retrieves {@link #fastTierPollingInterval}
+     *
+     * @return value of {@link #fastTierPollingInterval}
+     */
+    public long getFastTierPollingInterval() {
+        return fastTierPollingInterval;
+    }
+
+    /**
+     * Sets {@link #fastTierPollingInterval} value
+     *
+     * @param fastTierPollingInterval new value of {@link #fastTierPollingInterval}
+     */
+    public void setFastTierPollingInterval(long fastTierPollingInterval) {
+        this.fastTierPollingInterval = fastTierPollingInterval;
+    }
+
+    /**
+     * Retrieves {@link #stableTierPollingInterval}
+     *
+     * @return value of {@link #stableTierPollingInterval}
+     */
+    public long getStableTierPollingInterval() {
+        return stableTierPollingInterval;
+    }
+
+    /**
+     * Sets {@link #stableTierPollingInterval} value
+     *
+     * @param stableTierPollingInterval new value of {@link #stableTierPollingInterval}
+     */
+    public void setStableTierPollingInterval(long stableTierPollingInterval) {
+        this.stableTierPollingInterval = stableTierPollingInterval;
+    }
+
+    /**
+     * Retrieves {@link #offlineTierPollingInterval}
+     *
+     * @return value of {@link #offlineTierPollingInterval}
+     */
+    public long getOfflineTierPollingInterval() {
+        return offlineTierPollingInterval;
+    }
+
+    /**
+     * Sets {@link #offlineTierPollingInterval} value
+     *
+     * @param offlineTierPollingInterval new value of {@link #offlineTierPollingInterval}
+     */
+    public void setOfflineTierPollingInterval(long offlineTierPollingInterval) {
+        this.offlineTierPollingInterval = offlineTierPollingInterval;
+    }
+
+    /**
+     * Retrieves {@link #recentControlPeriod}
+     *
+     * @return value of {@link #recentControlPeriod}
+     */
+    public long getRecentControlPeriod() {
+        return recentControlPeriod;
+    }
+
+    /**
+     * Sets {@link #recentControlPeriod} value
+     *
+     * @param recentControlPeriod new value of {@link #recentControlPeriod}
+     */
+    public void setRecentControlPeriod(long recentControlPeriod) {
+        this.recentControlPeriod = recentControlPeriod;
+    }
+
+    /**
+     * Retrieves {@link #maxDeviceDetailsRequestsPerCycle}
+     *
+     * @return value of {@link #maxDeviceDetailsRequestsPerCycle}
+     */
+    public int getMaxDeviceDetailsRequestsPerCycle() {
+        return maxDeviceDetailsRequestsPerCycle;
+    }
+
+    /**
+     * Sets {@link #maxDeviceDetailsRequestsPerCycle} value
+     *
+     * @param maxDeviceDetailsRequestsPerCycle new value of {@link #maxDeviceDetailsRequestsPerCycle}
+     */
+    public void setMaxDeviceDetailsRequestsPerCycle(int maxDeviceDetailsRequestsPerCycle) {
+        this.maxDeviceDetailsRequestsPerCycle = maxDeviceDetailsRequestsPerCycle;
+    }
+
+    /**
+     * Retrieves {@link #reuseSystemsPayload}
+     *
+     * @return value of {@link #reuseSystemsPayload}
+     */
+    public boolean isReuseSystemsPayload() {
+        return reuseSystemsPayload;
+    }
+
+    /**
+     * Sets {@link #reuseSystemsPayload} value
+     *
+     * @param reuseSystemsPayload new value of {@link #reuseSystemsPayload}
+     */
+    public void setReuseSystemsPayload(boolean reuseSystemsPayload) {
+        this.reuseSystemsPayload = reuseSystemsPayload;
+    }
+
+    /**
+     * Retrieves {@link #cycleDeadline}
+     *
+     * @return value of {@link #cycleDeadline}
+     */
+    public long getCycleDeadline() {
+        return cycleDeadline;
+    }
+
+    /**
+     * Sets {@link #cycleDeadline} value
+     *
+     * @param cycleDeadline new value of {@link #cycleDeadline}
+     */
+    public void setCycleDeadline(long cycleDeadline) {
+        this.cycleDeadline = cycleDeadline;
+    }
+
+    /**
+     * Retrieves {@link #circuitBreakerFailureThreshold}
+     *
+     * @return value of {@link #circuitBreakerFailureThreshold}
+     */
+    public int getCircuitBreakerFailureThreshold() {
+        return circuitBreakerFailureThreshold;
+    }
+
+    /**
+     * Sets {@link #circuitBreakerFailureThreshold} value
+     *
+     * @param circuitBreakerFailureThreshold new value of {@link #circuitBreakerFailureThreshold}
+     */
+    public void setCircuitBreakerFailureThreshold(int circuitBreakerFailureThreshold) {
+        this.circuitBreakerFailureThreshold = circuitBreakerFailureThreshold;
+    }
+
+    /**
+     * Retrieves {@link #circuitBreakerCoolDownPeriod}
+     *
+     * @return value of {@link #circuitBreakerCoolDownPeriod}
+     */
+    public long getCircuitBreakerCoolDownPeriod() {
+        return circuitBreakerCoolDownPeriod;
+    }
+
+    /**
+     * Sets {@link #circuitBreakerCoolDownPeriod} value
+     *
+     * @param circuitBreakerCoolDownPeriod new value of {@link #circuitBreakerCoolDownPeriod}
+     */
+    public void setCircuitBreakerCoolDownPeriod(long circuitBreakerCoolDownPeriod) {
+        this.circuitBreakerCoolDownPeriod = circuitBreakerCoolDownPeriod;
+    }
+
+    /**
+     * Retrieves {@link #emitChangedDevicesOnly}
+     *
+     * @return value of {@link #emitChangedDevicesOnly}
+     */
+    public boolean isEmitChangedDevicesOnly() {
+        return emitChangedDevicesOnly;
+    }
+
+    /**
+     * Sets {@link #emitChangedDevicesOnly} value
+     *
+     * @param emitChangedDevicesOnly new value of {@link #emitChangedDevicesOnly}
+     */
+    public void setEmitChangedDevicesOnly(boolean emitChangedDevicesOnly) {
+        this.emitChangedDevicesOnly = emitChangedDevicesOnly;
+    }
+
+    /**
+     * Retrieves {@link #faultHistorySize}
+     *
+     * @return value of {@link #faultHistorySize}
+     */
+    public int getFaultHistorySize() {
+        return faultHistorySize;
+    }
+
+    /**
+     * Sets {@link #faultHistorySize} value
+     *
+     * @param faultHistorySize new value of {@link #faultHistorySize}
+     */
+    public void setFaultHistorySize(int faultHistorySize) {
+        this.faultHistorySize = faultHistorySize;
+    }
+
+    /**
+     * Retrieves {@link #includeDeviceModels}
+     *
+     * @return value of {@link #includeDeviceModels}
+     */
+    public String getIncludeDeviceModels() {
+        return includeDeviceModels;
+    }
+
+    /**
+     * Sets {@link #includeDeviceModels} value
+     *
+     * @param includeDeviceModels new value of {@link #includeDeviceModels}
+     */
+    public void setIncludeDeviceModels(String includeDeviceModels) {
+        this.includeDeviceModels = includeDeviceModels;
+    }
+
+    /**
+     * Retrieves {@link #excludeDeviceModels}
+     *
+     * @return value of {@link #excludeDeviceModels}
+     */
+    public String getExcludeDeviceModels() {
+        return excludeDeviceModels;
+    }
+
+    /**
+     * Sets {@link #excludeDeviceModels} value
+     *
+     * @param excludeDeviceModels new value of {@link #excludeDeviceModels}
+     */
+    public void setExcludeDeviceModels(String excludeDeviceModels) {
+        this.excludeDeviceModels = excludeDeviceModels;
+    }
+
+    /**
+     * Retrieves {@link #includeSystemIds}
+     *
+     * @return value of {@link #includeSystemIds}
+     */
+    public String getIncludeSystemIds() {
+        return includeSystemIds;
+    }
+
+    /**
+     * Sets {@link #includeSystemIds} value
+     *
+     * @param includeSystemIds new value of {@link #includeSystemIds}
+     */
+    public void setIncludeSystemIds(String includeSystemIds) {
+        this.includeSystemIds = includeSystemIds;
+    }
+
+    /**
+     * Retrieves {@link #excludeSystemIds}
+     *
+     * @return value of {@link #excludeSystemIds}
+     */
+    public String getExcludeSystemIds() {
+        return excludeSystemIds;
+    }
+
+    /**
+     * Sets {@link #excludeSystemIds} value
+     *
+     * @param excludeSystemIds new value of {@link #excludeSystemIds}
+     */
+    public void setExcludeSystemIds(String excludeSystemIds) {
+        this.excludeSystemIds = excludeSystemIds;
+    }
+
+    /**
+     * Retrieves {@link #includeSerialNumbers}
+     *
+     * @return value of {@link #includeSerialNumbers}
+     */
+    public String getIncludeSerialNumbers() {
+        return includeSerialNumbers;
+    }
+
+    /**
+     * Sets {@link #includeSerialNumbers} value
+     *
+     * @param includeSerialNumbers new value of {@link #includeSerialNumbers}
+     */
+    public void setIncludeSerialNumbers(String includeSerialNumbers) {
+        this.includeSerialNumbers = includeSerialNumbers;
+    }
+
+    /**
+     * Retrieves {@link #excludeSerialNumbers}
+     *
+     * @return value of {@link #excludeSerialNumbers}
+     */
+    public String getExcludeSerialNumbers() {
+        return excludeSerialNumbers;
+    }
+
+    /**
+     * Sets {@link #excludeSerialNumbers} value
+     *
+     * @param excludeSerialNumbers new value of {@link #excludeSerialNumbers}
+     */
+    public void setExcludeSerialNumbers(String excludeSerialNumbers) {
+        this.excludeSerialNumbers = excludeSerialNumbers;
+    }
+
+    /**
+     * Retrieves {@link #firmwareRolloutWaveSize}
+     *
+     * @return value of {@link #firmwareRolloutWaveSize}
+     */
+    public int getFirmwareRolloutWaveSize() {
+        return firmwareRolloutWaveSize;
+    }
+
+    /**
+     * Sets {@link #firmwareRolloutWaveSize} value
+     *
+     * @param firmwareRolloutWaveSize new value of {@link #firmwareRolloutWaveSize}
+     */
+    public void setFirmwareRolloutWaveSize(int firmwareRolloutWaveSize) {
+        this.firmwareRolloutWaveSize = firmwareRolloutWaveSize;
+    }
+
+    /**
+     * Retrieves {@link #firmwareRolloutMaxConcurrentPerModel}
+     *
+     * @return value of {@link #firmwareRolloutMaxConcurrentPerModel}
+     */
+    public int getFirmwareRolloutMaxConcurrentPerModel() {
+        return firmwareRolloutMaxConcurrentPerModel;
+    }
+
+    /**
+     * Sets {@link #firmwareRolloutMaxConcurrentPerModel} value
+     *
+     * @param firmwareRolloutMaxConcurrentPerModel new value of {@link #firmwareRolloutMaxConcurrentPerModel}
+     */
+    public void setFirmwareRolloutMaxConcurrentPerModel(int firmwareRolloutMaxConcurrentPerModel) {
+        this.firmwareRolloutMaxConcurrentPerModel = firmwareRolloutMaxConcurrentPerModel;
+    }
+
+    /**
+     * Retrieves {@link #firmwareRolloutMaxConcurrentPerSystem}
+     *
+     * @return value of {@link #firmwareRolloutMaxConcurrentPerSystem}
+     */
+    public int getFirmwareRolloutMaxConcurrentPerSystem() {
+        return firmwareRolloutMaxConcurrentPerSystem;
+    }
+
+    /**
+     * Sets {@link #firmwareRolloutMaxConcurrentPerSystem} value
+     *
+     * @param firmwareRolloutMaxConcurrentPerSystem new value of {@link #firmwareRolloutMaxConcurrentPerSystem}
+     */
+    public void setFirmwareRolloutMaxConcurrentPerSystem(int firmwareRolloutMaxConcurrentPerSystem) {
+        this.firmwareRolloutMaxConcurrentPerSystem = firmwareRolloutMaxConcurrentPerSystem;
+    }
+
+    /**
+     * Retrieves {@link #firmwareRolloutFailureThreshold}
+     *
+     * @return value of {@link #firmwareRolloutFailureThreshold}
+     */
+    public int getFirmwareRolloutFailureThreshold() {
+        return firmwareRolloutFailureThreshold;
+    }
+
+    /**
+     * Sets {@link #firmwareRolloutFailureThreshold} value
+     *
+     * @param firmwareRolloutFailureThreshold new value of {@link #firmwareRolloutFailureThreshold}
+     */
+    public void setFirmwareRolloutFailureThreshold(int firmwareRolloutFailureThreshold) {
+        this.firmwareRolloutFailureThreshold = firmwareRolloutFailureThreshold;
+    }
+
+    /**
+     * Retrieves {@link #firmwareRolloutPollingInterval}
+     *
+     * @return value of {@link #firmwareRolloutPollingInterval}
+     */
+    public long getFirmwareRolloutPollingInterval() {
+        return firmwareRolloutPollingInterval;
+    }
+
+    /**
+     * Sets {@link #firmwareRolloutPollingInterval} value
+     *
+     * @param firmwareRolloutPollingInterval new value of {@link #firmwareRolloutPollingInterval}
+     */
+    public void setFirmwareRolloutPollingInterval(long firmwareRolloutPollingInterval) {
+        this.firmwareRolloutPollingInterval = firmwareRolloutPollingInterval;
+    }
+
+    /**
+     * Retrieves {@link #firmwareUpdateTimeout}
+     *
+     * @return value of {@link #firmwareUpdateTimeout}
+     */
+    public long getFirmwareUpdateTimeout() {
+        return firmwareUpdateTimeout;
+    }
+
+    /**
+     * Sets {@link #firmwareUpdateTimeout} value
+     *
+     * @param firmwareUpdateTimeout new value of {@link #firmwareUpdateTimeout}
+     */
+    public void setFirmwareUpdateTimeout(long firmwareUpdateTimeout) {
+        this.firmwareUpdateTimeout = firmwareUpdateTimeout;
+    }
+
+    /**
+     * Retrieves {@link #streamDevicesPayload}
+     *
+     * @return value of {@link #streamDevicesPayload}
+     */
+    public boolean isStreamDevicesPayload() {
+        return streamDevicesPayload;
+    }
+
+    /**
+     * Sets {@link #streamDevicesPayload} value
+     *
+     * @param streamDevicesPayload new value of {@link #streamDevicesPayload}
+     */
+    public void setStreamDevicesPayload(boolean streamDevicesPayload) {
+        this.streamDevicesPayload = streamDevicesPayload;
+    }
+
+    /**
+     * Retrieves {@link #precompiledModelMapping}
+     *
+     * @return value of {@link #precompiledModelMapping}
+     */
+    public boolean isPrecompiledModelMapping() {
+        return precompiledModelMapping;
+    }
+
+    /**
+     * Sets {@link #precompiledModelMapping} value
+     *
+     * @param precompiledModelMapping new value of {@link #precompiledModelMapping}
+     */
+    public void setPrecompiledModelMapping(boolean precompiledModelMapping) {
+        this.precompiledModelMapping = precompiledModelMapping;
+    }
+
+    /**
+     * Retrieves {@link #pollingInterval}
+     *
+     * @return value of {@link #pollingInterval}
+     */
+    public long getPollingInterval() {
+        return pollingInterval;
+    }
+
+    /**
+     * Sets {@link #pollingInterval} value
+     *
+     * @param pollingInterval new value of {@link #pollingInterval}
+     */
+    public void setPollingInterval(long pollingInterval) {
+        this.pollingInterval = pollingInterval;
+    }
+
+    /**
+     * Retrieves {@link #maxPollingBackoffInterval}
+     *
+     * @return value of {@link #maxPollingBackoffInterval}
+     */
+    public long getMaxPollingBackoffInterval() {
+        return maxPollingBackoffInterval;
+    }
+
+    /**
+     * Sets {@link #maxPollingBackoffInterval} value
+     *
+     * @param maxPollingBackoffInterval new value of {@link #maxPollingBackoffInterval}
+     */
+    public void setMaxPollingBackoffInterval(long maxPollingBackoffInterval) {
+        this.maxPollingBackoffInterval = maxPollingBackoffInterval;
+    }
+
+    /**
+     * Retrieves {@link #sessionRenewalInterval}
+     *
+     * @return value of {@link #sessionRenewalInterval}
+     */
+    public long getSessionRenewalInterval() {
+        return sessionRenewalInterval;
+    }
+
+    /**
+     * Sets {@link #sessionRenewalInterval} value
+     *
+     * @param sessionRenewalInterval new value of {@link #sessionRenewalInterval}
+     */
+    public void setSessionRenewalInterval(long sessionRenewalInterval) {
+        this.sessionRenewalInterval = sessionRenewalInterval;
+    }
+
+    /**
+     * Retrieves {@link #pooledTransport}
+     *
+     * @return value of {@link #pooledTransport}
+     */
+    public boolean isPooledTransport() {
+        return pooledTransport;
+    }
+
+    /**
+     * Sets {@link #pooledTransport} value
+     *
+     * @param pooledTransport new value of {@link #pooledTransport}
+     */
+    public void setPooledTransport(boolean pooledTransport) {
+        this.pooledTransport = pooledTransport;
+    }
+
+    /**
+     * Retrieves {@link #connectionKeepAliveTime}
+     *
+     * @return value of {@link #connectionKeepAliveTime}
+     */
+    public long getConnectionKeepAliveTime() {
+        return connectionKeepAliveTime;
+    }
+
+    /**
+     * Sets {@link #connectionKeepAliveTime} value
+     *
+     * @param connectionKeepAliveTime new value of {@link #connectionKeepAliveTime}
+     */
+    public void setConnectionKeepAliveTime(long connectionKeepAliveTime) {
+        this.connectionKeepAliveTime = connectionKeepAliveTime;
+    }
+
+    /**
+     * Retrieves {@link #compressResponses}
+     *
+     * @return value of {@link #compressResponses}
+     */
+    public boolean isCompressResponses() {
+        return compressResponses;
+    }
+
+    /**
+     * Sets {@link #compressResponses} value
+     *
+     * @param compressResponses new value of {@link #compressResponses}
      */
-    private List<String> protectedDevices = new ArrayList<>();
+    public void setCompressResponses(boolean compressResponses) {
+        this.compressResponses = compressResponses;
+    }
+
     /**
-     * Container for the firmware versions selected for an update each device in aggregator.
+     * Retrieves {@link #connectTimeout}
+     *
+     * @return value of {@link #connectTimeout}
      */
-    private Map<String, String> devicesFirmwareVersions = new HashMap<>();
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
     /**
-     * Container for "deviceId:deviceModel" pairs to use the correct API endpoint during control actions
+     * Sets {@link #connectTimeout} value
+     *
+     * @param connectTimeout new value of {@link #connectTimeout}
      */
-    private Map<String, String> deviceModels = new HashMap<>();
-    private final ReentrantLock lock = new ReentrantLock();
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
     /**
-     * device properties processor for json data extraction, using yml mapping
-     * */
-    private AggregatedDeviceProcessor aggregatedDeviceProcessor;
+     * Retrieves {@link #listRequestTimeout}
+     *
+     * @return value of {@link #listRequestTimeout}
+     */
+    public int getListRequestTimeout() {
+        return listRequestTimeout;
+    }
+
     /**
-     * Adapter metadata, collected from the version.properties
+     * Sets {@link #listRequestTimeout} value
+     *
+     * @param listRequestTimeout new value of {@link #listRequestTimeout}
      */
-    private Properties adapterProperties;
+    public void setListRequestTimeout(int listRequestTimeout) {
+        this.listRequestTimeout = listRequestTimeout;
+    }
+
     /**
-     * Device adapter instantiation timestamp.
+     * Retrieves {@link #detailsRequestTimeout}
+     *
+     * @return value of {@link #detailsRequestTimeout}
      */
-    private long adapterInitializationTimestamp;
+    public int getDetailsRequestTimeout() {
+        return detailsRequestTimeout;
+    }
 
-    private static final String BASE_URL = "/biampsagevue/api/";
+    /**
+     * Sets {@link #detailsRequestTimeout} value
+     *
+     * @param detailsRequestTimeout new value of {@link #detailsRequestTimeout}
+     */
+    public void setDetailsRequestTimeout(int detailsRequestTimeout) {
+        this.detailsRequestTimeout = detailsRequestTimeout;
+    }
 
     /**
-     * Setting ignoring certificates to allow all https connections.
-     * Instantiating ObjectMapper to deserialize response payloads
+     * Retrieves {@link #controlRequestTimeout}
+     *
+     * @return value of {@link #controlRequestTimeout}
      */
-    public SageVueCommunicator() throws IOException {
-        super();
-        setTrustAllCertificates(true);
-        adapterProperties = new Properties();
-        adapterProperties.load(getClass().getResourceAsStream("/version.properties"));
-        objectMapper = new ObjectMapper();
+    public int getControlRequestTimeout() {
+        return controlRequestTimeout;
+    }
+
+    /**
+     * Sets {@link #controlRequestTimeout} value
+     *
+     * @param controlRequestTimeout new value of {@link #controlRequestTimeout}
+     */
+    public void setControlRequestTimeout(int controlRequestTimeout) {
+        this.controlRequestTimeout = controlRequestTimeout;
+    }
+
+    /**
+     * Retrieves {@link #warmStart}
+     *
+     * @return value of {@link #warmStart}
+     */
+    public boolean isWarmStart() {
+        return warmStart;
+    }
+
+    /**
+     * Sets {@link #warmStart} value
+     *
+     * @param warmStart new value of {@link #warmStart}
+     */
+    public void setWarmStart(boolean warmStart) {
+        this.warmStart = warmStart;
+    }
+
+    /**
+     * Retrieves {@link #warmStartSnapshotDirectory}
+     *
+     * @return value of {@link #warmStartSnapshotDirectory}
+     */
+    public String getWarmStartSnapshotDirectory() {
+        return warmStartSnapshotDirectory;
+    }
+
+    /**
+     * Sets {@link #warmStartSnapshotDirectory} value
+     *
+     * @param warmStartSnapshotDirectory new value of {@link #warmStartSnapshotDirectory}
+     */
+    public void setWarmStartSnapshotDirectory(String warmStartSnapshotDirectory) {
+        this.warmStartSnapshotDirectory = warmStartSnapshotDirectory;
+    }
+
+    /**
+     * Retrieves {@link #warmStartSnapshotMaxAge}
+     *
+     * @return value of {@link #warmStartSnapshotMaxAge}
+     */
+    public long getWarmStartSnapshotMaxAge() {
+        return warmStartSnapshotMaxAge;
+    }
+
+    /**
+     * Sets {@link #warmStartSnapshotMaxAge} value
+     *
+     * @param warmStartSnapshotMaxAge new value of {@link #warmStartSnapshotMaxAge}
+     */
+    public void setWarmStartSnapshotMaxAge(long warmStartSnapshotMaxAge) {
+        this.warmStartSnapshotMaxAge = warmStartSnapshotMaxAge;
+    }
+
+    /**
+     * Retrieves {@link #servers}
+     *
+     * @return value of {@link #servers}
+     */
+    public String getServers() {
+        return servers;
+    }
+
+    /**
+     * Sets {@link #servers} value
+     *
+     * @param servers new value of {@link #servers}
+     */
+    public void setServers(String servers) {
+        this.servers = servers;
+    }
+
+    /**
+     * Retrieves {@link #batchControls}
+     *
+     * @return value of {@link #batchControls}
+     */
+    public boolean isBatchControls() {
+        return batchControls;
+    }
+
+    /**
+     * Sets {@link #batchControls} value
+     *
+     * @param batchControls new value of {@link #batchControls}
+     */
+    public void setBatchControls(boolean batchControls) {
+        this.batchControls = batchControls;
+    }
+
+    /**
+     * Retrieves {@link #maxConcurrentControls}
+     *
+     * @return value of {@link #maxConcurrentControls}
+     */
+    public int getMaxConcurrentControls() {
+        return maxConcurrentControls;
+    }
+
+    /**
+     * Sets {@link #maxConcurrentControls} value
+     *
+     * @param maxConcurrentControls new value of {@link #maxConcurrentControls}
+     */
+    public void setMaxConcurrentControls(int maxConcurrentControls) {
+        this.maxConcurrentControls = maxConcurrentControls;
     }
 
     /***
@@ -93,9 +1469,354 @@ public class SageVueCommunicator extends RestCommunicator implements Aggregator,
     @Override
     protected void internalInit() throws Exception {
         adapterInitializationTimestamp = System.currentTimeMillis();
-        Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML("sagevue/model-mapping.yml", getClass());
-        aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
+        aggregatorMetrics = new AggregatorMetrics();
+        sessionManager = new SessionManager(this::login, sessionRenewalInterval);
+        if (parentServer == null) {
+            Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML("sagevue/model-mapping.yml", getClass());
+            aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
+            compiledModelMapping = new CompiledModelMapping(mapping);
+            devicesPayloadParser = new DevicesPayloadParser(objectMapper, DevicesPayloadParser.collectReferencedFields(mapping));
+        } else {
+            // additional servers share the model mapping of the main server
+            aggregatedDeviceProcessor = parentServer.aggregatedDeviceProcessor;
+            compiledModelMapping = parentServer.compiledModelMapping;
+            devicesPayloadParser = parentServer.devicesPayloadParser;
+        }
+        // every server has its own worker threads, so a stalled server doesn't hold the requests of the others back
+        deviceDetailsExecutor = Executors.newFixedThreadPool(Math.max(1, deviceDetailsThreadCount));
+        controlExecutor = Executors.newFixedThreadPool(Math.max(1, maxConcurrentControls));
+        requestScheduler = new RequestScheduler(maxConcurrentRequests, maxRequestsPerSecond, requestBurstSize);
+        systemsPayloadCache = new SystemsPayloadCache(devicesPayloadParser.getRetainedFields());
+        circuitBreakers = new CircuitBreakers(circuitBreakerFailureThreshold, circuitBreakerCoolDownPeriod);
+        faultTracker = new FaultTracker(faultHistorySize);
+        deviceSelection = new DeviceSelection(includeDeviceModels, excludeDeviceModels, includeSystemIds, excludeSystemIds,
+                includeSerialNumbers, excludeSerialNumbers);
+        devicePollingScheduler = new DevicePollingScheduler(deviceStateStore, fastTierPollingInterval, stableTierPollingInterval,
+                offlineTierPollingInterval, recentControlPeriod, maxDeviceDetailsRequestsPerCycle);
+        firmwareCatalogue = new FirmwareCatalogue(this::getFirmwareVersions, deviceDetailsExecutor, firmwareCatalogueTtl);
+        if (firmwareRolloutWaveSize > 0) {
+            firmwareRollout = new FirmwareRollout(firmwareRolloutWaveSize, firmwareRolloutMaxConcurrentPerModel,
+                    firmwareRolloutMaxConcurrentPerSystem, firmwareRolloutFailureThreshold, firmwareUpdateTimeout);
+            long rolloutPollingInterval = Math.max(DATA_COLLECTION_TICK, firmwareRolloutPollingInterval);
+            firmwareRolloutExecutor = Executors.newSingleThreadScheduledExecutor();
+            firmwareRolloutExecutor.scheduleWithFixedDelay(this::advanceFirmwareRollout, rolloutPollingInterval,
+                    rolloutPollingInterval, TimeUnit.MILLISECONDS);
+        }
+        if (pooledTransport) {
+            setupConnectionPool();
+        }
         super.internalInit();
+        if (warmStart) {
+            restoreWarmStartSnapshot();
+        }
+
+        // the first devices collection cycle is started right away, so the data is ready by the time it's requested
+        nextDevicesCollectionIterationTimestamp = 0;
+        updateValidRetrieveStatisticsTimestamp();
+        deviceDataLoader = new SageVueDeviceDataLoader();
+        if (parentServer != null) {
+            // cycles of the additional servers are started by the main server devices collection process
+            return;
+        }
+        initMemberServers();
+        dataCollectionExecutor = Executors.newSingleThreadExecutor();
+        dataCollectionExecutor.submit(deviceDataLoader);
+    }
+
+    /**
+     * Create and initialize communicators of the additional {@link #servers}, with the configuration of the main server.
+     * A server that fails to initialize is skipped, so it doesn't prevent the other servers from being polled.
+     */
+    private void initMemberServers() {
+        List<SageVueServerAddress> serverAddresses = SageVueServerAddress.parse(servers, getProtocol(), getPort(), getLogin(), getPassword());
+        if (serverAddresses.isEmpty()) {
+            return;
+        }
+        Map<String, SageVueCommunicator> initializedServers = new LinkedHashMap<>();
+        for (SageVueServerAddress serverAddress : serverAddresses) {
+            try {
+                SageVueCommunicator memberServer = createMemberServer(serverAddress);
+                memberServer.init();
+                initializedServers.put(serverAddress.getServerId(), memberServer);
+            } catch (Exception e) {
+                logger.error("SageVue: unable to initialize server " + serverAddress.getServerId(), e);
+            }
+        }
+        if (initializedServers.isEmpty()) {
+            return;
+        }
+        // a collection cycle of every server, along with a /systems request of every additional server
+        serverCollectionExecutor = Executors.newFixedThreadPool(initializedServers.size() * 2 + 1);
+        memberServers = unmodifiableMap(initializedServers);
+    }
+
+    /**
+     * Create a communicator of an additional server, copying the configuration of this communicator
+     *
+     * @param serverAddress server address and credentials
+     * @return new communicator, not initialized yet
+     */
+    private SageVueCommunicator createMemberServer(SageVueServerAddress serverAddress) throws IOException {
+        SageVueCommunicator memberServer = new SageVueCommunicator();
+        memberServer.parentServer = this;
+        memberServer.serverId = serverAddress.getServerId();
+        memberServer.setProtocol(serverAddress.getProtocol());
+        memberServer.setHost(serverAddress.getHost());
+        memberServer.setPort(serverAddress.getPort());
+        memberServer.setLogin(serverAddress.getLogin());
+        memberServer.setPassword(serverAddress.getPassword());
+        memberServer.setContentType(getContentType());
+        memberServer.setAuthenticationScheme(getAuthenticationScheme());
+        memberServer.setTimeout(getTimeout());
+        memberServer.setTrustAllCertificates(getTrustAllCertificates());
+        memberServer.setMaxConcurrentRequests(maxConcurrentRequests);
+        memberServer.setDeviceDetailsThreadCount(deviceDetailsThreadCount);
+        memberServer.setMaxConcurrentControls(maxConcurrentControls);
+        memberServer.setMaxRequestsPerSecond(maxRequestsPerSecond);
+        memberServer.setRequestBurstSize(requestBurstSize);
+        memberServer.setFirmwareCatalogueTtl(firmwareCatalogueTtl);
+        memberServer.setIncrementalRefresh(incrementalRefresh);
+        memberServer.setDeviceDetailsMaxAge(deviceDetailsMaxAge);
+        memberServer.setAdaptivePolling(adaptivePolling);
+        memberServer.setFastTierPollingInterval(fastTierPollingInterval);
+        memberServer.setStableTierPollingInterval(stableTierPollingInterval);
+        memberServer.setOfflineTierPollingInterval(offlineTierPollingInterval);
+        memberServer.setRecentControlPeriod(recentControlPeriod);
+        memberServer.setMaxDeviceDetailsRequestsPerCycle(maxDeviceDetailsRequestsPerCycle);
+        memberServer.setStreamDevicesPayload(streamDevicesPayload);
+        memberServer.setReuseSystemsPayload(reuseSystemsPayload);
+        memberServer.setCycleDeadline(cycleDeadline);
+        memberServer.setCircuitBreakerFailureThreshold(circuitBreakerFailureThreshold);
+        memberServer.setCircuitBreakerCoolDownPeriod(circuitBreakerCoolDownPeriod);
+        memberServer.setEmitChangedDevicesOnly(emitChangedDevicesOnly);
+        memberServer.setFaultHistorySize(faultHistorySize);
+        memberServer.setIncludeDeviceModels(includeDeviceModels);
+        memberServer.setExcludeDeviceModels(excludeDeviceModels);
+        memberServer.setIncludeSystemIds(includeSystemIds);
+        memberServer.setExcludeSystemIds(excludeSystemIds);
+        memberServer.setIncludeSerialNumbers(includeSerialNumbers);
+        memberServer.setExcludeSerialNumbers(excludeSerialNumbers);
+        memberServer.setFirmwareRolloutWaveSize(firmwareRolloutWaveSize);
+        memberServer.setFirmwareRolloutMaxConcurrentPerModel(firmwareRolloutMaxConcurrentPerModel);
+        memberServer.setFirmwareRolloutMaxConcurrentPerSystem(firmwareRolloutMaxConcurrentPerSystem);
+        memberServer.setFirmwareRolloutFailureThreshold(firmwareRolloutFailureThreshold);
+        memberServer.setFirmwareRolloutPollingInterval(firmwareRolloutPollingInterval);
+        memberServer.setFirmwareUpdateTimeout(firmwareUpdateTimeout);
+        memberServer.setPrecompiledModelMapping(precompiledModelMapping);
+        memberServer.setPollingInterval(pollingInterval);
+        memberServer.setMaxPollingBackoffInterval(maxPollingBackoffInterval);
+        memberServer.setSessionRenewalInterval(sessionRenewalInterval);
+        memberServer.setPooledTransport(pooledTransport);
+        memberServer.setConnectionKeepAliveTime(connectionKeepAliveTime);
+        memberServer.setCompressResponses(compressResponses);
+        memberServer.setConnectTimeout(connectTimeout);
+        memberServer.setListRequestTimeout(listRequestTimeout);
+        memberServer.setDetailsRequestTimeout(detailsRequestTimeout);
+        memberServer.setControlRequestTimeout(controlRequestTimeout);
+        memberServer.setWarmStart(warmStart);
+        memberServer.setWarmStartSnapshotDirectory(warmStartSnapshotDirectory);
+        memberServer.setWarmStartSnapshotMaxAge(warmStartSnapshotMaxAge);
+        memberServer.setBatchControls(batchControls);
+        return memberServer;
+    }
+
+    /**
+     * Restore devices, device models, protection flags and the firmware catalogue from the warm start snapshot.
+     * The restored devices are served until the first devices collection cycle, which is started right away,
+     * replaces them with the actual SageVue data.
+     */
+    private void restoreWarmStartSnapshot() {
+        String snapshotDirectory = StringUtils.isEmpty(warmStartSnapshotDirectory) ? System.getProperty("java.io.tmpdir") : warmStartSnapshotDirectory;
+        String snapshotFileName = ("sagevue-" + getHost() + "-" + getPort()).replaceAll("[^A-Za-z0-9.-]", "_") + ".json.gz";
+        warmStartSnapshot = new WarmStartSnapshot(objectMapper, Paths.get(snapshotDirectory, snapshotFileName));
+        try {
+            WarmStartSnapshot.Content snapshot = warmStartSnapshot.load(warmStartSnapshotMaxAge);
+            if (snapshot == null) {
+                return;
+            }
+            snapshot.getFirmwareVersions().forEach(firmwareCatalogue::preload);
+            // the snapshot may have been taken with a different device selection
+            deviceSelection.filterDevices(snapshot.getDevices());
+            updateDeviceStates(snapshot.getDevices());
+            List<AggregatedDevice> devices = extractDevices(snapshot.getDevices());
+            publishAggregatedDevices(devices);
+            long snapshotAge = System.currentTimeMillis() - snapshot.getTimestamp();
+            aggregatorMetrics.recordWarmStart(devices.size(), snapshotAge);
+            if (logger.isInfoEnabled()) {
+                logger.info("SageVue: restored " + devices.size() + " devices from the warm start snapshot, taken " + snapshotAge + "ms ago");
+            }
+        } catch (Exception e) {
+            logger.warn("SageVue: unable to restore warm start snapshot " + warmStartSnapshot.getSnapshotFile(), e);
+        }
+    }
+
+    /**
+     * Persist the devices collection result to the warm start snapshot, if enabled.
+     * Failures are logged, since the snapshot only speeds up the next start.
+     *
+     * @param devicesJson enriched /devices json
+     */
+    private void saveWarmStartSnapshot(JsonNode devicesJson) {
+        WarmStartSnapshot snapshot = warmStartSnapshot;
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            snapshot.save(devicesJson, firmwareCatalogue.getFirmwareVersions());
+        } catch (IOException e) {
+            logger.warn("SageVue: unable to save warm start snapshot " + snapshot.getSnapshotFile(), e);
+        }
+    }
+
+    /**
+     * Size the connection pool by the number of requests the adapter may issue at once - device details workers,
+     * parallel controls, plus a connection for the login and /systems requests, unless the pool size is configured
+     * explicitly, and keep idle connections open for {@link #connectionKeepAliveTime} ms
+     */
+    private void setupConnectionPool() {
+        if (getMaxConnectionsPerRoute() <= 0) {
+            setMaxConnectionsPerRoute(Math.max(maxConcurrentRequests, deviceDetailsThreadCount) + maxConcurrentControls + 1);
+        }
+        if (getMaxConnectionsTotal() < getMaxConnectionsPerRoute()) {
+            setMaxConnectionsTotal(getMaxConnectionsPerRoute());
+        }
+        if (connectionKeepAliveTime > 0) {
+            setEvictExpiredConnections(true);
+            setEvictIdleConnections(true);
+            setConnectionsMaxIdleTime((int) Math.min(Integer.MAX_VALUE, connectionKeepAliveTime));
+        }
+    }
+
+    /**
+     * In pooled transport mode - replaces the default rest template with the one based on {@link SageVueRequestFactory},
+     * sharing the http client (and its connection pool), the message converters, the error handler and the interceptors
+     * (e.g. request compression) of the default template.
+     * The template is rebuilt whenever the http client is recreated.
+     */
+    @Override
+    protected RestTemplate obtainRestTemplate() throws Exception {
+        RestTemplate defaultRestTemplate = super.obtainRestTemplate();
+        if (!pooledTransport) {
+            return defaultRestTemplate;
+        }
+        // the default template is published after the transport one, so the transport template read after it is never older
+        if (transportDefaultRestTemplate == defaultRestTemplate) {
+            return transportRestTemplate;
+        }
+        Lock lock = httpClientLock.writeLock();
+        lock.lock();
+        try {
+            if (transportDefaultRestTemplate == super.obtainRestTemplate()) {
+                return transportRestTemplate;
+            }
+            // the default template's request factory is wrapped once it has interceptors, so the client is obtained
+            // directly; this rebuilds the default template for the same client, and the write lock keeps both in sync
+            HttpClient httpClient = obtainHttpClient(false);
+            defaultRestTemplate = super.obtainRestTemplate();
+            RestTemplate restTemplate = new RestTemplate(new SageVueRequestFactory(httpClient, connectTimeout, listRequestTimeout,
+                    detailsRequestTimeout, controlRequestTimeout));
+            restTemplate.setMessageConverters(defaultRestTemplate.getMessageConverters());
+            restTemplate.setErrorHandler(defaultRestTemplate.getErrorHandler());
+            List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>(defaultRestTemplate.getInterceptors());
+            interceptors.add(this::detectSessionRejection);
+            restTemplate.setInterceptors(interceptors);
+            transportRestTemplate = restTemplate;
+            transportDefaultRestTemplate = defaultRestTemplate;
+            return restTemplate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Mark the pooled transport requests rejected with 401 in {@link #sessionRejected}
+     *
+     * @param request request to issue
+     * @param body request body
+     * @param execution request execution chain
+     * @return response
+     * @throws IOException if the request has failed
+     */
+    private ClientHttpResponse detectSessionRejection(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        sessionRejected.remove();
+        ClientHttpResponse response = execution.execute(request, body);
+        if (response.getRawStatusCode() == HttpStatus.UNAUTHORIZED.value()) {
+            sessionRejected.set(Boolean.TRUE);
+        }
+        return response;
+    }
+
+    /**
+     * In pooled transport mode - keeps the http client (and its connection pool) open when the communicator disconnects
+     * because a request was rejected with 401, since that would close the client under the concurrent requests.
+     * SageVue sessions are not bound to connections, and rejected requests are retried with a new session
+     * by {@link #requestWithSession(String, Callable)}, so there's nothing to reset. Disconnects caused by
+     * the connection errors still close the client, so it's rebuilt by the next request.
+     */
+    @Override
+    public void disconnect() throws Exception {
+        if (sessionRejected.get() != null) {
+            sessionRejected.remove();
+            return;
+        }
+        super.disconnect();
+    }
+
+    /**
+     * Stops devices collection process and device details workers before the communicator is destroyed
+     */
+    @Override
+    protected void internalDestroy() {
+        if (deviceDataLoader != null) {
+            deviceDataLoader.stop();
+            deviceDataLoader = null;
+        }
+        if (dataCollectionExecutor != null) {
+            dataCollectionExecutor.shutdownNow();
+            dataCollectionExecutor = null;
+        }
+        if (serverCollectionExecutor != null) {
+            serverCollectionExecutor.shutdownNow();
+            serverCollectionExecutor = null;
+        }
+        memberServers.values().forEach(SageVueCommunicator::destroy);
+        memberServers = emptyMap();
+        aggregatedDevices = emptyMap();
+        if (deviceDetailsExecutor != null) {
+            deviceDetailsExecutor.shutdownNow();
+        }
+        deviceDetailsExecutor = null;
+        if (controlExecutor != null) {
+            controlExecutor.shutdownNow();
+        }
+        controlExecutor = null;
+        if (firmwareRolloutExecutor != null) {
+            firmwareRolloutExecutor.shutdownNow();
+            firmwareRolloutExecutor = null;
+        }
+        firmwareRollout = null;
+        if (firmwareCatalogue != null) {
+            firmwareCatalogue.clear();
+        }
+        deviceDetailsCache.clear();
+        deviceChangeTracker.clear();
+        deviceStateStore.clear();
+        if (systemsPayloadCache != null) {
+            systemsPayloadCache.clear();
+        }
+        if (circuitBreakers != null) {
+            circuitBreakers.clear();
+        }
+        if (faultTracker != null) {
+            faultTracker.clear();
+        }
+        if (sessionManager != null) {
+            sessionManager.invalidate();
+        }
+        transportDefaultRestTemplate = null;
+        transportRestTemplate = null;
+        warmStartSnapshot = null;
+        super.internalDestroy();
     }
 
     /**
@@ -106,23 +1827,32 @@ public class SageVueCommunicator extends RestCommunicator implements Aggregator,
      * <p>
      * Device controllable properties:
      * Reboot - requests a device reboot
-     * FirmwareUpdate - requests a device firmware update
+     * FirmwareUpdate - requests a device firmware update, or queues it into {@link #firmwareRollout} if enabled
      * AvailableFirmwareVersions - this is a dropdown, containing all the options for the firmware update
      * of a particular device model. When the control is triggered for this one - the selected firmware version
      * is put into the map, containing "serialNumber:firmwareVersion" pairs.
+     * <p>
+     * Controls of the same device (or system) are serialized, controls of different devices run in parallel
+     * and never wait for the devices collection cycle, since they only read {@link #deviceStateStore}.
      */
     @Override
     public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-        lock.lock();
-        try {
+        SageVueCommunicator memberServer = resolveMemberServer(controllableProperty);
+        if (memberServer != null) {
+            memberServer.controlProperty(toMemberServerControl(controllableProperty));
+            return;
+        }
+        String property = controllableProperty.getProperty();
+        String deviceId = controllableProperty.getDeviceId();
+        String value = String.valueOf(controllableProperty.getValue());
+        boolean systemControl = property.startsWith("System");
+        String systemId = systemControl ? property.replaceAll("[^\\d.]", "") : null;
 
-            String property = controllableProperty.getProperty();
-            String deviceId = controllableProperty.getDeviceId();
-            String value = String.valueOf(controllableProperty.getValue());
-            String modelName = deviceModels.get(deviceId);
+        ReentrantLock lock = acquireLock(systemControl ? "System" + systemId : deviceId);
+        try {
+            String modelName = deviceStateStore.getModel(deviceId);
 
-            if (property.startsWith("System")) {
-                String systemId = property.replaceAll("[^\\d.]", "");
+            if (systemControl) {
                 switch (value) {
                     case "1":
                         protectSystem(systemId);
@@ -133,6 +1863,7 @@ public class SageVueCommunicator extends RestCommunicator implements Aggregator,
                     default:
                         break;
                 }
+                systemsPayloadCache.invalidate();
             } else {
                 switch (property) {
                     case "Reboot":
@@ -143,7 +1874,11 @@ public class SageVueCommunicator extends RestCommunicator implements Aggregator,
                         if (StringUtils.isEmpty(newFirmwareVersion)) {
                             return;
                         }
-                        requestFirmwareUpdate(deviceId, newFirmwareVersion, modelName);
+                        if (firmwareRollout != null) {
+                            enqueueFirmwareUpdate(deviceId, newFirmwareVersion, modelName);
+                        } else {
+                            requestFirmwareUpdate(singletonList(deviceId), newFirmwareVersion, modelName, RequestScheduler.Priority.CONTROL);
+                        }
                         break;
                     case "AvailableFirmwareVersions":
                         devicesFirmwareVersions.put(deviceId, value);
@@ -154,33 +1889,365 @@ public class SageVueCommunicator extends RestCommunicator implements Aggregator,
                 }
             }
         } finally {
-            lock.unlock();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Processes multiple control actions. In batched controls mode ({@link #batchControls}) controls of the same device
+     * (or system) are applied in the order provided, while controls of different devices are applied in parallel,
+     * using up to {@link #maxConcurrentControls} threads.
+     * FirmwareUpdate controls are grouped by device model and the firmware version selected at the moment
+     * the control is processed, and each group is requested with a single Firmware/{model} request, once the controls
+     * provided before it are applied to all the devices of the group. Controls provided after a FirmwareUpdate control
+     * are applied to the device only once its firmware update is requested.
+     * With {@link #firmwareRolloutWaveSize} set, FirmwareUpdate controls are queued into {@link #firmwareRollout} instead.
+     * All the controls are attempted, even if some of them fail. Failures are then reported per device,
+     * within a single {@link CommandFailureException}.
+     */
+    @Override
+    public void controlProperties(List<ControllableProperty> controllablePropertyList) throws Exception {
+        if (CollectionUtils.isEmpty(controllablePropertyList)) {
+            throw new IllegalArgumentException("Controllable properties cannot be null or empty");
+        }
+        if (!batchControls) {
+            for (ControllableProperty controllableProperty : controllablePropertyList) {
+                controlProperty(controllableProperty);
+            }
+            return;
+        }
+
+        Map<String, Exception> failedControls = new LinkedHashMap<>();
+        List<ControllableProperty> serverControls = new ArrayList<>();
+        Map<SageVueCommunicator, List<ControllableProperty>> memberServerControls = new LinkedHashMap<>();
+        for (ControllableProperty controllableProperty : controllablePropertyList) {
+            try {
+                SageVueCommunicator memberServer = resolveMemberServer(controllableProperty);
+                if (memberServer == null) {
+                    serverControls.add(controllableProperty);
+                } else {
+                    memberServerControls.computeIfAbsent(memberServer, server -> new ArrayList<>()).add(toMemberServerControl(controllableProperty));
+                }
+            } catch (IllegalArgumentException e) {
+                failedControls.put(controllableProperty.getDeviceId() + " " + controllableProperty.getProperty(), e);
+            }
+        }
+        if (!serverControls.isEmpty()) {
+            applyBatchControls(serverControls, failedControls);
+        }
+        for (Map.Entry<SageVueCommunicator, List<ControllableProperty>> memberControls : memberServerControls.entrySet()) {
+            try {
+                memberControls.getKey().controlProperties(memberControls.getValue());
+            } catch (Exception e) {
+                failedControls.put("Server " + memberControls.getKey().serverId, e);
+            }
+        }
+        reportFailedControls(failedControls);
+    }
+
+    /**
+     * Apply controls of this server in batched controls mode, collecting the failures.
+     * Controls are grouped by device (or system) and applied in rounds: each round applies the controls of every device
+     * up to its next FirmwareUpdate control, and then requests the firmware updates reached, batched by model and version.
+     *
+     * @param controllablePropertyList controls to apply
+     * @param failedControls map to collect "deviceId property:error" pairs into
+     */
+    private void applyBatchControls(List<ControllableProperty> controllablePropertyList, Map<String, Exception> failedControls) throws InterruptedException {
+        Map<String, Deque<ControllableProperty>> deviceControls = new LinkedHashMap<>();
+        for (ControllableProperty controllableProperty : controllablePropertyList) {
+            String property = controllableProperty.getProperty();
+            String target = property.startsWith("System") ? property : controllableProperty.getDeviceId();
+            deviceControls.computeIfAbsent(target, key -> new ArrayDeque<>()).add(controllableProperty);
+        }
+        while (!deviceControls.isEmpty()) {
+            applyControlsUntilFirmwareUpdate(deviceControls.values(), failedControls);
+
+            Map<String, Map<String, List<String>>> firmwareUpdates = new LinkedHashMap<>();
+            for (Deque<ControllableProperty> controls : deviceControls.values()) {
+                ControllableProperty controllableProperty = controls.poll();
+                if (controllableProperty == null) {
+                    continue;
+                }
+                String deviceId = controllableProperty.getDeviceId();
+                String modelName = deviceStateStore.getModel(deviceId);
+                String newFirmwareVersion = devicesFirmwareVersions.get(deviceId);
+                if (modelName == null) {
+                    failedControls.put(deviceId + " FirmwareUpdate", new IllegalStateException("Device model is unknown"));
+                } else if (!StringUtils.isEmpty(newFirmwareVersion)) {
+                    firmwareUpdates.computeIfAbsent(modelName, model -> new LinkedHashMap<>())
+                            .computeIfAbsent(newFirmwareVersion, version -> new ArrayList<>()).add(deviceId);
+                }
+            }
+            firmwareUpdates.forEach((modelName, versionUpdates) -> versionUpdates.forEach((firmwareVersion, deviceSerialNumbers) -> {
+                try {
+                    requestBatchFirmwareUpdate(deviceSerialNumbers, firmwareVersion, modelName);
+                } catch (Exception e) {
+                    deviceSerialNumbers.forEach(deviceSerialNumber -> failedControls.put(deviceSerialNumber + " FirmwareUpdate", e));
+                }
+            }));
+            deviceControls.values().removeIf(Deque::isEmpty);
+        }
+    }
+
+    /**
+     * Apply the controls of each device in order, up to the next FirmwareUpdate control that has to be batched.
+     * Devices are processed in parallel, using {@link #controlExecutor}.
+     *
+     * @param deviceControls per device queues of the controls to apply
+     * @param failedControls map to collect "deviceId property:error" pairs into
+     */
+    private void applyControlsUntilFirmwareUpdate(Collection<Deque<ControllableProperty>> deviceControls, Map<String, Exception> failedControls) throws InterruptedException {
+        List<Future<Map<String, Exception>>> deviceTasks = new ArrayList<>();
+        for (Deque<ControllableProperty> controls : deviceControls) {
+            if (controls.isEmpty() || isBatchedFirmwareUpdate(controls.peek())) {
+                continue;
+            }
+            deviceTasks.add(controlExecutor.submit(() -> {
+                Map<String, Exception> deviceFailures = new LinkedHashMap<>();
+                while (!controls.isEmpty() && !isBatchedFirmwareUpdate(controls.peek())) {
+                    ControllableProperty controllableProperty = controls.poll();
+                    try {
+                        controlProperty(controllableProperty);
+                    } catch (Exception e) {
+                        deviceFailures.put(controllableProperty.getDeviceId() + " " + controllableProperty.getProperty(), e);
+                    }
+                }
+                return deviceFailures;
+            }));
+        }
+        for (Future<Map<String, Exception>> deviceTask : deviceTasks) {
+            try {
+                failedControls.putAll(deviceTask.get());
+            } catch (ExecutionException e) {
+                logger.error("SageVue: unable to apply device controls", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Check whether the control is a FirmwareUpdate control, requested along with the other devices of the same model
+     *
+     * @param controllableProperty control to check
+     * @return true if the firmware update is batched, false otherwise
+     */
+    private boolean isBatchedFirmwareUpdate(ControllableProperty controllableProperty) {
+        return "FirmwareUpdate".equals(controllableProperty.getProperty()) && firmwareRollout == null;
+    }
+
+    /**
+     * Find the additional server that owns the device or the system a control is issued for
+     *
+     * @param controllableProperty control to route
+     * @return communicator of the additional server, or null if the control belongs to this server
+     * @throws IllegalArgumentException if the control refers to a server that is not configured
+     */
+    private SageVueCommunicator resolveMemberServer(ControllableProperty controllableProperty) {
+        Map<String, SageVueCommunicator> currentMemberServers = memberServers;
+        if (currentMemberServers.isEmpty()) {
+            return null;
+        }
+        String property = controllableProperty.getProperty();
+        String target = property.startsWith("System") ? property.substring("System".length()).trim() : controllableProperty.getDeviceId();
+        int separatorIndex = target == null ? -1 : target.lastIndexOf(SERVER_SEPARATOR);
+        if (separatorIndex < 0) {
+            return null;
+        }
+        String targetServerId = target.substring(0, separatorIndex);
+        SageVueCommunicator memberServer = currentMemberServers.get(targetServerId);
+        if (memberServer == null) {
+            throw new IllegalArgumentException("SageVue server " + targetServerId + " is not configured");
+        }
+        return memberServer;
+    }
+
+    /**
+     * Build a copy of the control, addressed to the additional server, without the server id in deviceId and system property name
+     *
+     * @param controllableProperty control of an additional server device or system
+     * @return control to pass to the additional server communicator
+     */
+    private static ControllableProperty toMemberServerControl(ControllableProperty controllableProperty) {
+        ControllableProperty memberServerControl = new ControllableProperty();
+        String property = controllableProperty.getProperty();
+        String deviceId = controllableProperty.getDeviceId();
+        memberServerControl.setProperty(property.startsWith("System") ? "System " + property.substring(property.lastIndexOf(SERVER_SEPARATOR) + 1) : property);
+        memberServerControl.setDeviceId(deviceId == null ? null : deviceId.substring(deviceId.lastIndexOf(SERVER_SEPARATOR) + 1));
+        memberServerControl.setValue(controllableProperty.getValue());
+        return memberServerControl;
+    }
+
+    /**
+     * Request a firmware update for multiple devices of the same model, serializing it with
+     * the other controls of these devices. Devices that have their firmware version selection changed
+     * or reset in the meantime are skipped.
+     *
+     * @param deviceSerialNumbers serial numbers of the devices to update
+     * @param firmwareVersion     firmware version to use
+     * @param deviceModel         model of the devices
+     */
+    private void requestBatchFirmwareUpdate(List<String> deviceSerialNumbers, String firmwareVersion, String deviceModel) throws Exception {
+        List<ReentrantLock> locks = deviceLocks.getLocks(deviceSerialNumbers);
+        long waitStartTime = System.nanoTime();
+        locks.forEach(ReentrantLock::lock);
+        aggregatorMetrics.recordLockWait(System.nanoTime() - waitStartTime);
+        try {
+            List<String> selectedDevices = deviceSerialNumbers.stream()
+                    .filter(deviceSerialNumber -> firmwareVersion.equals(devicesFirmwareVersions.get(deviceSerialNumber)))
+                    .collect(Collectors.toList());
+            if (!selectedDevices.isEmpty()) {
+                requestFirmwareUpdate(selectedDevices, firmwareVersion, deviceModel, RequestScheduler.Priority.CONTROL);
+            }
+        } finally {
+            locks.forEach(ReentrantLock::unlock);
         }
     }
 
-    @Override
-    public void controlProperties(List<ControllableProperty> controllablePropertyList) throws Exception {
-        if (CollectionUtils.isEmpty(controllablePropertyList)) {
-            throw new IllegalArgumentException("Controllable properties cannot be null or empty");
+    /**
+     * Queue a firmware update of the device into {@link #firmwareRollout}
+     *
+     * @param deviceSerialNumber serial number of the device to update
+     * @param firmwareVersion firmware version to use
+     * @param deviceModel model of the device
+     * @throws IllegalStateException if the device model is unknown, or the device is being updated already
+     */
+    private void enqueueFirmwareUpdate(String deviceSerialNumber, String firmwareVersion, String deviceModel) {
+        if (deviceModel == null) {
+            throw new IllegalStateException("Device model is unknown");
         }
-        for (ControllableProperty controllableProperty : controllablePropertyList) {
-            controlProperty(controllableProperty);
+        devicesFirmwareVersions.remove(deviceSerialNumber);
+        if (!firmwareRollout.enqueue(deviceSerialNumber, deviceModel, deviceStateStore.getSystemId(deviceSerialNumber), firmwareVersion)) {
+            throw new IllegalStateException("Firmware update of the device is in progress");
+        }
+    }
+
+    /**
+     * Advance {@link #firmwareRollout}: poll the devices that are being updated, then start updating the next devices,
+     * grouped by model and firmware version. Devices that could not be polled are retried during the next iteration,
+     * until their update times out.
+     */
+    private void advanceFirmwareRollout() {
+        try {
+            firmwareRollout.getUpdatingDevices().forEach((deviceSerialNumber, deviceModel) -> {
+                JsonNode device = getDevice(deviceSerialNumber, deviceModel);
+                if (device != null && !device.isMissingNode()) {
+                    firmwareRollout.recordStatus(deviceSerialNumber, device.at("/FirmwareVersion").asText(), device.at("/OccupiedStatus").asText());
+                }
+            });
+            long currentTimestamp = System.currentTimeMillis();
+            firmwareRollout.expireUpdates(currentTimestamp);
+            firmwareRollout.startUpdates(currentTimestamp).forEach((deviceModel, versionUpdates) -> versionUpdates.forEach((firmwareVersion, deviceSerialNumbers) -> {
+                try {
+                    requestRolloutFirmwareUpdate(deviceSerialNumbers, firmwareVersion, deviceModel);
+                } catch (Exception e) {
+                    logger.error("SageVue: unable to start firmware update of " + deviceModel + " devices " + deviceSerialNumbers, e);
+                    deviceSerialNumbers.forEach(firmwareRollout::recordFailure);
+                }
+            }));
+        } catch (Exception e) {
+            // an exception would cancel the subsequent iterations
+            logger.error("SageVue: firmware rollout iteration has failed", e);
+        }
+    }
+
+    /**
+     * Request a firmware update of the rollout devices, serializing it with the other controls of these devices.
+     * Rollout waves are scheduled with {@link RequestScheduler.Priority#ROLLOUT}, so they don't hold the user controls back.
+     *
+     * @param deviceSerialNumbers serial numbers of the devices to update
+     * @param firmwareVersion     firmware version to use
+     * @param deviceModel         model of the devices
+     */
+    private void requestRolloutFirmwareUpdate(List<String> deviceSerialNumbers, String firmwareVersion, String deviceModel) throws Exception {
+        List<ReentrantLock> locks = deviceLocks.getLocks(deviceSerialNumbers);
+        long waitStartTime = System.nanoTime();
+        locks.forEach(ReentrantLock::lock);
+        aggregatorMetrics.recordLockWait(System.nanoTime() - waitStartTime);
+        try {
+            requestFirmwareUpdate(deviceSerialNumbers, firmwareVersion, deviceModel, RequestScheduler.Priority.ROLLOUT);
+        } finally {
+            locks.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    /**
+     * Log the failed controls and report them with a single exception, listing the failure for each device control
+     *
+     * @param failedControls map of "deviceId property:error" pairs
+     * @throws CommandFailureException if there's at least one failed control
+     */
+    private void reportFailedControls(Map<String, Exception> failedControls) {
+        if (failedControls.isEmpty()) {
+            return;
         }
+        StringBuilder failures = new StringBuilder();
+        failedControls.forEach((control, error) -> {
+            logger.error("SageVue: control " + control + " has failed", error);
+            failures.append(control).append(": ").append(error.getMessage()).append("\n");
+        });
+        CommandFailureException commandFailureException = new CommandFailureException(getHost(), "controlProperties",
+                failures.toString(), failedControls.values().iterator().next());
+        failedControls.values().stream().skip(1).distinct().forEach(commandFailureException::addSuppressed);
+        throw commandFailureException;
     }
 
+    /**
+     * Devices are collected by {@link SageVueDeviceDataLoader} in the background,
+     * so the latest collected snapshot is returned right away.
+     * With {@link #emitChangedDevicesOnly} - only the devices changed since the previous call are returned.
+     */
     @Override
     public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
-        return fetchDevicesList();
+        updateValidRetrieveStatisticsTimestamp();
+        List<AggregatedDevice> devices = new ArrayList<>();
+        if (emitChangedDevicesOnly) {
+            devices.addAll(deviceChangeTracker.retrieveChangedDevices());
+            memberServers.values().forEach(memberServer -> devices.addAll(memberServer.deviceChangeTracker.retrieveChangedDevices()));
+            return devices;
+        }
+        aggregatedDevices.values().forEach(devices::addAll);
+        memberServers.values().forEach(memberServer -> memberServer.aggregatedDevices.values().forEach(devices::addAll));
+        return devices;
     }
 
     @Override
     public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
-        return retrieveMultipleStatistics()
-                .stream()
-                .filter(aggregatedDevice -> list.contains(aggregatedDevice.getDeviceId()))
+        updateValidRetrieveStatisticsTimestamp();
+        Map<String, List<AggregatedDevice>> devicesSnapshot = aggregatedDevices;
+        Map<String, SageVueCommunicator> currentMemberServers = memberServers;
+        return list.stream()
+                .distinct()
+                .map(deviceId -> {
+                    int separatorIndex = deviceId.lastIndexOf(SERVER_SEPARATOR);
+                    SageVueCommunicator memberServer = separatorIndex < 0 ? null : currentMemberServers.get(deviceId.substring(0, separatorIndex));
+                    return (memberServer == null ? devicesSnapshot : memberServer.aggregatedDevices).getOrDefault(deviceId, emptyList());
+                })
+                .flatMap(List::stream)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Replace the aggregated devices snapshot with the newly collected devices.
+     * Devices that have not changed since the previous cycle are published with the previous instances.
+     *
+     * @param devices list of devices collected during the last cycle
+     */
+    private void publishAggregatedDevices(List<AggregatedDevice> devices) {
+        List<AggregatedDevice> publishedDevices = deviceChangeTracker.update(devices);
+        aggregatorMetrics.recordDeviceChanges(deviceChangeTracker.getLastUpdateChangedCount(), deviceChangeTracker.getLastUpdateReusedCount());
+        Map<String, List<AggregatedDevice>> devicesSnapshot = new LinkedHashMap<>();
+        publishedDevices.forEach(aggregatedDevice ->
+                devicesSnapshot.computeIfAbsent(aggregatedDevice.getDeviceId(), deviceId -> new ArrayList<>()).add(aggregatedDevice));
+        aggregatedDevices = unmodifiableMap(devicesSnapshot);
+    }
+
+    /**
+     * Extend the period during which devices collection stays active, since the aggregator data is being read
+     */
+    private void updateValidRetrieveStatisticsTimestamp() {
+        validRetrieveStatisticsTimestamp = System.currentTimeMillis() + RETRIEVE_STATISTICS_TIMEOUT;
+    }
+
     /**
      * Since the SageVue api does not only allow to control devices on a per-device basis, but also
      * is able to group devices within certain "Systems" - we need to have an ability to protect/unprotect those systems.
@@ -193,13 +2260,78 @@ public class SageVueCommunicator extends RestCommunicator implements Aggregator,
      */
     @Override
     public List<Statistics> getMultipleStatistics() throws Exception {
+        updateValidRetrieveStatisticsTimestamp();
         ExtendedStatistics statistics = new ExtendedStatistics();
         List<AdvancedControllableProperty> controls = new ArrayList<>();
         Map<String, String> multipleStatistics = new HashMap<>();
-        ArrayNode systems = getSystems(false).withArray("Systems");
+        // systems of the additional servers are requested in parallel with the main server ones
+        Map<SageVueCommunicator, Future<JsonNode>> memberServerSystems = new LinkedHashMap<>();
+        for (SageVueCommunicator memberServer : memberServers.values()) {
+            memberServerSystems.put(memberServer, serverCollectionExecutor.submit(memberServer::retrieveSystems));
+        }
+        addSystemControls(retrieveSystems().withArray("Systems"), "", multipleStatistics, controls);
+        for (Map.Entry<SageVueCommunicator, Future<JsonNode>> systems : memberServerSystems.entrySet()) {
+            SageVueCommunicator memberServer = systems.getKey();
+            String statisticsGroup = "Server " + memberServer.serverId + "#";
+            try {
+                addSystemControls(systems.getValue().get().withArray("Systems"), memberServer.serverId + SERVER_SEPARATOR, multipleStatistics, controls);
+                multipleStatistics.put(statisticsGroup + "Status", "OK");
+            } catch (ExecutionException e) {
+                logger.error("SageVue: unable to retrieve systems of server " + memberServer.serverId, e.getCause());
+                multipleStatistics.put(statisticsGroup + "Status", String.valueOf(e.getCause().getMessage()));
+            }
+            memberServer.getMetricsStatistics().forEach((name, value) -> multipleStatistics.put(statisticsGroup + name.replace('#', '.'), value));
+        }
+
+        multipleStatistics.put("AdapterVersion", adapterProperties.getProperty("aggregator.version"));
+        multipleStatistics.put("AdapterBuildDate", adapterProperties.getProperty("aggregator.build.date"));
+        multipleStatistics.put("AdapterUptime", normalizeUptime((System.currentTimeMillis() - adapterInitializationTimestamp) / 1000));
+        multipleStatistics.putAll(getMetricsStatistics());
+
+        statistics.setStatistics(multipleStatistics);
+        statistics.setControllableProperties(controls);
+        return singletonList(statistics);
+    }
+
+    /**
+     * Get request, request scheduling, devices collection, device state, circuit breaker, fault and firmware rollout metrics
+     * of the server
+     *
+     * @return map of "statisticName:value" pairs
+     */
+    private Map<String, String> getMetricsStatistics() {
+        Map<String, String> statistics = aggregatorMetrics.getStatistics();
+        if (requestScheduler != null) {
+            statistics.putAll(requestScheduler.getStatistics());
+        }
+        statistics.putAll(deviceStateStore.getStatistics());
+        if (circuitBreakers != null) {
+            statistics.putAll(circuitBreakers.getStatistics());
+        }
+        if (faultTracker != null) {
+            statistics.putAll(faultTracker.getStatistics(System.currentTimeMillis()));
+        }
+        FirmwareRollout rollout = firmwareRollout;
+        if (rollout != null) {
+            statistics.putAll(rollout.getStatistics());
+        }
+        return statistics;
+    }
 
+    /**
+     * Add protect/unprotect switches of the SageVue systems selected by {@link #deviceSelection}
+     *
+     * @param systems systems array, as provided by /systems endpoint
+     * @param systemIdPrefix prefix of the system ids, server id of the additional servers systems
+     * @param multipleStatistics statistics to add systems protection state to
+     * @param controls controls to add the switches to
+     */
+    private void addSystemControls(ArrayNode systems, String systemIdPrefix, Map<String, String> multipleStatistics, List<AdvancedControllableProperty> controls) {
         systems.forEach(jsonNode -> {
-            String systemId = jsonNode.at("/SystemId").asText();
+            if (!deviceSelection.isSystemSelected(jsonNode.at("/SystemId").asText())) {
+                return;
+            }
+            String systemId = systemIdPrefix + jsonNode.at("/SystemId").asText();
             boolean isProtected = jsonNode.at("/IsProtected").asBoolean();
 
             AdvancedControllableProperty.Switch protectSystemSwitch = new AdvancedControllableProperty.Switch();
@@ -212,23 +2344,26 @@ public class SageVueCommunicator extends RestCommunicator implements Aggregator,
             multipleStatistics.put("System " + systemId, String.valueOf(isProtected));
             controls.add(protectSystemControl);
         });
-
-        multipleStatistics.put("AdapterVersion", adapterProperties.getProperty("aggregator.version"));
-        multipleStatistics.put("AdapterBuildDate", adapterProperties.getProperty("aggregator.build.date"));
-        multipleStatistics.put("AdapterUptime", normalizeUptime((System.currentTimeMillis() - adapterInitializationTimestamp) / 1000));
-
-        statistics.setStatistics(multipleStatistics);
-        statistics.setControllableProperties(controls);
-        return singletonList(statistics);
     }
 
     /**
-     * Generate LoginId token for SageVue API based on the user credentials
+     * Make sure there's a SageVue session to issue requests with. Sessions are created and renewed
+     * by {@link #sessionManager}, so this is a no-op if there's a session already.
      */
     @Override
     protected void authenticate() throws Exception {
-        JsonNode authentication = objectMapper.readTree(doPost(BASE_URL + "login", buildAuthenticationPayload(true), String.class));
-        loginId = authentication.at("/LoginId").asText();
+        sessionManager.getLoginId();
+    }
+
+    /**
+     * Generate LoginId token for SageVue API based on the user credentials
+     *
+     * @return LoginId
+     */
+    private String login() throws Exception {
+        JsonNode authentication = objectMapper.readTree(scheduleRequest(AggregatorMetrics.LOGIN, RequestScheduler.Priority.LOGIN,
+                () -> doPost(BASE_URL + LOGIN_URI, buildAuthenticationPayload(true), String.class)));
+        return authentication.at("/LoginId").asText();
     }
 
     /**
@@ -261,7 +2396,8 @@ public class SageVueCommunicator extends RestCommunicator implements Aggregator,
      * @return boolean value based on the operation success
      */
     private boolean protectSystem(String systemId) throws Exception {
-        String response = doPut(BASE_URL + "Systems/" + systemId + "/protect", buildNewAdminPasswordPayload(systemId), String.class);
+        String response = requestWithSession(AggregatorMetrics.PROTECT_SYSTEM,
+                () -> doPut(BASE_URL + "Systems/" + systemId + "/protect", buildNewAdminPasswordPayload(systemId), String.class));
         return objectMapper.readTree(response).at("/Protected").booleanValue();
     }
 
@@ -272,7 +2408,8 @@ public class SageVueCommunicator extends RestCommunicator implements Aggregator,
      * @return boolean value based on the operation success
      */
     private boolean unprotectSystem(String systemId) throws Exception {
-        String response = doPut(BASE_URL + "Systems/" + systemId + "/unprotect", buildExistingNewAdminPasswordPayload(systemId), String.class);
+        String response = requestWithSession(AggregatorMetrics.UNPROTECT_SYSTEM,
+                () -> doPut(BASE_URL + "Systems/" + systemId + "/unprotect", buildExistingNewAdminPasswordPayload(systemId), String.class));
         return objectMapper.readTree(response).at("/Unprotected").booleanValue();
     }
 
@@ -314,22 +2451,26 @@ public class SageVueCommunicator extends RestCommunicator implements Aggregator,
      * SageVue specific also requires having username/password specified at all times,
      * even if the device is not protected.
      *
-     * @param deviceSerialNumber serial number of the device to build a firmware update request for
-     * @param firmwareVersion    firmware version to use
-     * @return Map<String, Object> the request payload, containing the device serial number, firmware version
+     * @param deviceSerialNumbers serial numbers of the devices to build a firmware update request for
+     * @param firmwareVersion     firmware version to use
+     * @return Map<String, Object> the request payload, containing the devices serial numbers, firmware version
      * to use and username/password
      */
-    private Map<String, Object> buildFirmwareUpdateRequest(String deviceSerialNumber, String firmwareVersion) {
+    private Map<String, Object> buildFirmwareUpdateRequest(List<String> deviceSerialNumbers, String firmwareVersion) {
         Map<String, Object> firmwareUpdatePayload = new HashMap<>();
         Map<String, Object> devices = new HashMap<>();
-        Map<String, String> deviceUpdatePayload = new HashMap<>();
+        List<Map<String, String>> devicesUpdatePayload = new ArrayList<>();
 
-        boolean deviceIsProtected = protectedDevices.contains(deviceSerialNumber);
-        deviceUpdatePayload.put("deviceSerialNumber", deviceSerialNumber);
-        deviceUpdatePayload.put("userName", deviceIsProtected ? this.getLogin() : "");
-        deviceUpdatePayload.put("password", deviceIsProtected ? this.getPassword() : "");
+        deviceSerialNumbers.forEach(deviceSerialNumber -> {
+            Map<String, String> deviceUpdatePayload = new HashMap<>();
+            boolean deviceIsProtected = deviceStateStore.isProtected(deviceSerialNumber);
+            deviceUpdatePayload.put("deviceSerialNumber", deviceSerialNumber);
+            deviceUpdatePayload.put("userName", deviceIsProtected ? this.getLogin() : "");
+            deviceUpdatePayload.put("password", deviceIsProtected ? this.getPassword() : "");
+            devicesUpdatePayload.add(deviceUpdatePayload);
+        });
 
-        devices.put("devices", Collections.singletonList(deviceUpdatePayload));
+        devices.put("devices", devicesUpdatePayload);
         devices.put("firmwareVersion", firmwareVersion);
 
         firmwareUpdatePayload.put("firmwareUpdate", devices);
@@ -344,23 +2485,111 @@ public class SageVueCommunicator extends RestCommunicator implements Aggregator,
      */
     private List<AggregatedDevice> fetchDevicesList() throws Exception {
         List<AggregatedDevice> devices = new ArrayList<>();
-        lock.lock();
-        try {
+        JsonNode devicesJson = getDevices();
+        if (incrementalRefresh) {
+            devices.addAll(extractChangedDevices(devicesJson));
+        } else {
+            devices.addAll(extractDevices(devicesJson));
+        }
+
+        saveWarmStartSnapshot(devicesJson);
+
+        return devices;
+    }
 
-            deviceModels.clear();
-            JsonNode devicesJson = getDevices(false);
-            devices.addAll(aggregatedDeviceProcessor.extractDevices(devicesJson));
+    /**
+     * Replace the devices listed in {@link #deviceStateStore} with the devices of the /devices json
+     *
+     * @param devicesJson /devices json
+     */
+    private void updateDeviceStates(JsonNode devicesJson) {
+        Map<String, String> deviceModels = new HashMap<>();
+        Map<String, String> deviceSystems = new HashMap<>();
+        Set<String> protectedDevices = new HashSet<>();
+        Set<String> controlledDevices = new HashSet<>();
+        devicesJson.fieldNames().forEachRemaining(s -> {
+            if (s.endsWith("Devices")) {
+                String modelName = s.replaceAll("Devices", "");
+                devicesJson.get(s).forEach(jsonNode -> {
+                    String deviceSerialNumber = jsonNode.at("/SerialNumber").asText();
+                    deviceModels.put(deviceSerialNumber, modelName);
+                    String systemId = jsonNode.at("/SystemId").asText();
+                    if (!systemId.isEmpty()) {
+                        deviceSystems.put(deviceSerialNumber, systemId);
+                    }
+                    if (jsonNode.at("/IsProtected").asBoolean()) {
+                        protectedDevices.add(deviceSerialNumber);
+                    }
+                    if (jsonNode.at("/IsControlled").asBoolean()) {
+                        controlledDevices.add(deviceSerialNumber);
+                    }
+                });
+            }
+        });
+        deviceStateStore.updateDevices(deviceModels, deviceSystems, protectedDevices, controlledDevices);
+    }
+
+    /**
+     * Extract AggregatedDevice instances out of the devices json, mapping only the entries that have changed
+     * since the previous cycle. Devices mapped out of unchanged entries are reused from {@link #deviceDetailsCache}.
+     *
+     * @param devicesJson enriched /devices json
+     * @return List<AggregatedDevice> list of all the devices, both reused and newly mapped
+     */
+    private List<AggregatedDevice> extractChangedDevices(JsonNode devicesJson) {
+        List<AggregatedDevice> devices = new ArrayList<>();
+        ObjectNode changedDevicesJson = JsonNodeFactory.instance.objectNode();
+        Map<String, Long> mappingFingerprints = new HashMap<>();
 
-            protectedDevices.clear();
-            devices.forEach(aggregatedDevice -> {
-                if (Boolean.parseBoolean(aggregatedDevice.getProperties().get("isProtected"))) {
-                    protectedDevices.add(aggregatedDevice.getSerialNumber());
+        devicesJson.fields().forEachRemaining(entry -> {
+            if (!entry.getKey().endsWith("Devices")) {
+                return;
+            }
+            ArrayNode changedDevices = changedDevicesJson.putArray(entry.getKey());
+            entry.getValue().forEach(jsonNode -> {
+                String deviceSerialNumber = jsonNode.at("/SerialNumber").asText();
+                long mappingFingerprint = DeviceDetailsCache.fingerprint(jsonNode);
+                List<AggregatedDevice> mappedDevices = deviceDetailsCache.getMappedDevices(deviceSerialNumber, mappingFingerprint);
+                if (mappedDevices != null) {
+                    devices.addAll(mappedDevices);
+                } else {
+                    mappingFingerprints.put(deviceSerialNumber, mappingFingerprint);
+                    changedDevices.add(jsonNode);
                 }
             });
-        } finally {
-            lock.unlock();
+        });
+        if (mappingFingerprints.isEmpty()) {
+            return devices;
         }
 
+        Map<String, List<AggregatedDevice>> changedDevices = new HashMap<>();
+        mappingFingerprints.keySet().forEach(deviceSerialNumber -> changedDevices.put(deviceSerialNumber, new ArrayList<>()));
+        extractDevices(changedDevicesJson).forEach(aggregatedDevice -> {
+            List<AggregatedDevice> mappedDevices = changedDevices.get(aggregatedDevice.getSerialNumber());
+            if (mappedDevices != null) {
+                mappedDevices.add(aggregatedDevice);
+            }
+            devices.add(aggregatedDevice);
+        });
+        changedDevices.forEach((deviceSerialNumber, mappedDevices) ->
+                deviceDetailsCache.updateMappedDevices(deviceSerialNumber, mappingFingerprints.get(deviceSerialNumber), mappedDevices));
+        return devices;
+    }
+
+    /**
+     * Extract AggregatedDevice instances out of the devices json, based on model-mapping.yml mapping
+     *
+     * @param devicesJson enriched /devices json
+     * @return List<AggregatedDevice> list of the mapped devices
+     */
+    private List<AggregatedDevice> extractDevices(JsonNode devicesJson) {
+        List<AggregatedDevice> devices = precompiledModelMapping ? compiledModelMapping.extractDevices(devicesJson)
+                : aggregatedDeviceProcessor.extractDevices(devicesJson);
+        if (serverId != null) {
+            // devices of the additional servers are reported with the server id, so the ids never collide across servers
+            String deviceIdPrefix = serverId + SERVER_SEPARATOR;
+            devices.forEach(aggregatedDevice -> aggregatedDevice.setDeviceId(deviceIdPrefix + aggregatedDevice.getDeviceId()));
+        }
         return devices;
     }
 
@@ -375,8 +2604,9 @@ public class SageVueCommunicator extends RestCommunicator implements Aggregator,
      * @param deviceModel        device model to set a proper endpoint
      */
     private void reboot(String deviceSerialNumber, String deviceModel) throws Exception {
-        doPut(BASE_URL + "Devices/" + retrieveDeviceUrlSegment(deviceModel) + deviceSerialNumber + "/Reboot",
-                buildAuthenticationPayload(protectedDevices.contains(deviceSerialNumber)), String.class);
+        devicePollingScheduler.recordControl(deviceSerialNumber);
+        requestWithSession(AggregatorMetrics.REBOOT, () -> doPut(BASE_URL + "Devices/" + retrieveDeviceUrlSegment(deviceModel) + deviceSerialNumber + "/Reboot",
+                buildAuthenticationPayload(deviceStateStore.isProtected(deviceSerialNumber)), String.class));
     }
 
     private String retrieveDeviceUrlSegment(String deviceModel) {
@@ -390,57 +2620,197 @@ public class SageVueCommunicator extends RestCommunicator implements Aggregator,
     /**
      * Fetch a /devices endpoint to retrieve list of all devices.
      *
-     * @param reAuthenticated true if this is a second attempt of getting the devices data, with the {@link #authenticate()}
-     *                        method issued
      * @return JsonNode instance containing an array of the devices
      */
-    private JsonNode getDevices(boolean reAuthenticated) throws Exception {
+    private JsonNode getDevices() throws Exception {
+        long cycleDeadlineTimestamp = System.currentTimeMillis() + (cycleDeadline > 0 ? cycleDeadline : pollingInterval);
         JsonNode devices;
-        try {
-            String devicesResponse = doGet(BASE_URL + "devices", String.class);
+        if (streamDevicesPayload) {
+            devices = streamDevices();
+        } else {
+            String devicesResponse = requestWithSession(AggregatorMetrics.DEVICES, () -> doGet(BASE_URL + "devices", String.class));
             devices = objectMapper.readTree(devicesResponse);
-        } catch (FailedLoginException | CommandFailureException fle) {
-            if (reAuthenticated) {
-                throw new FailedLoginException("Failed to get list of devices using SessionID: " + loginId);
-            }
-            authenticate();
-            return getDevices(true);
         }
+        // devices that are not managed never reach the device details, firmware and systems cross-fill stages
+        int excludedDevices = deviceSelection.filterDevices(devices);
+        if (deviceSelection.isFiltering()) {
+            aggregatorMetrics.recordDeviceSelection(excludedDevices);
+        }
+        updateDeviceStates(devices);
 
+        // device details of the devices that are not polled during the cycle are taken from the cache
+        boolean cachedDetails = incrementalRefresh || adaptivePolling;
+        Map<String, String> deviceSerialNumbers = new HashMap<>();
+        Map<String, Long> listFingerprints = new HashMap<>();
+        List<DevicePollingScheduler.Candidate> pollingCandidates = new ArrayList<>();
+        Map<String, String> suppliedIpAddresses = new HashMap<>();
+        int[] crossFilledDevices = new int[1];
         devices.fieldNames().forEachRemaining(s -> {
             if (s.endsWith("Devices")) {
                 String modelName = s.replaceAll("Devices", "");
                 devices.get(s).forEach(jsonNode -> {
                     String deviceSerialNumber = jsonNode.at("/SerialNumber").asText();
-                    JsonNode device = getDevice(deviceSerialNumber, modelName);
-                    ArrayNode firmwareVersionsResponse = getFirmwareVersions(modelName);
-
-                    deviceModels.put(deviceSerialNumber, modelName);
-                    if (device != null) {
-                        ((ObjectNode) jsonNode).put("IpAddress", device.at("/IpAddress").asText());
+                    long listFingerprint = DeviceDetailsCache.fingerprint(jsonNode);
+                    listFingerprints.put(deviceSerialNumber, listFingerprint);
+                    if (reuseSystemsPayload) {
+                        if (systemsPayloadCache.crossFill(deviceSerialNumber, (ObjectNode) jsonNode)) {
+                            crossFilledDevices[0]++;
+                        }
+                        String suppliedIpAddress = systemsPayloadCache.getIpAddress(deviceSerialNumber, pollingInterval);
+                        if (suppliedIpAddress != null) {
+                            suppliedIpAddresses.put(deviceSerialNumber, suppliedIpAddress);
+                            return;
+                        }
+                    }
+                    if (adaptivePolling) {
+                        pollingCandidates.add(devicePollingScheduler.createCandidate(deviceSerialNumber, modelName, jsonNode,
+                                deviceDetailsCache.requiresRefresh(deviceSerialNumber, listFingerprint, Long.MAX_VALUE)));
+                    } else if (!incrementalRefresh || deviceDetailsCache.requiresRefresh(deviceSerialNumber, listFingerprint, deviceDetailsMaxAge)) {
+                        deviceSerialNumbers.put(deviceSerialNumber, modelName);
                     }
+                });
+            }
+        });
+        if (adaptivePolling) {
+            DevicePollingScheduler.Selection selection = devicePollingScheduler.selectDevices(pollingCandidates);
+            deviceSerialNumbers.putAll(selection.getDevices());
+            aggregatorMetrics.recordDevicePolling(selection.getTierDeviceCounts(), deviceSerialNumbers.size(), selection.getDeferredCount());
+        }
+        Map<String, String> ipAddresses = retrieveIpAddresses(deviceSerialNumbers, cycleDeadlineTimestamp);
+        ipAddresses.putAll(suppliedIpAddresses);
+        if (reuseSystemsPayload) {
+            aggregatorMetrics.recordSystemsCrossFill(crossFilledDevices[0], suppliedIpAddresses.size());
+        }
+        // devices with no details retrieved during the cycle - because of the cycle deadline, an open circuit breaker
+        // or a failed request - keep the details retrieved during the previous cycles
+        ipAddresses.forEach((deviceSerialNumber, ipAddress) ->
+                deviceDetailsCache.updateDetails(deviceSerialNumber, listFingerprints.get(deviceSerialNumber), ipAddress));
+        deviceDetailsCache.retainAll(listFingerprints.keySet());
+        faultTracker.retainAll(listFingerprints.keySet());
 
-                    Set<String> firmwareVersions = new HashSet<>();
-                    firmwareVersions.add(jsonNode.at("/FirmwareVersion").asText());
+        devices.fieldNames().forEachRemaining(s -> {
+            if (s.endsWith("Devices")) {
+                String modelName = s.replaceAll("Devices", "");
+                long currentTimestamp = System.currentTimeMillis();
+                devices.get(s).forEach(jsonNode -> {
+                    String deviceSerialNumber = jsonNode.at("/SerialNumber").asText();
+                    String ipAddress = deviceDetailsCache.getIpAddress(deviceSerialNumber);
+                    if (ipAddress != null) {
+                        ((ObjectNode) jsonNode).put("IpAddress", ipAddress);
+                    }
 
-                    firmwareVersionsResponse.forEach(firmwareVersion -> firmwareVersions.add(firmwareVersion.at("/Version").asText()));
-                    ((ObjectNode) jsonNode).put("AvailableFirmwareVersions", String.join(",", firmwareVersions));
+                    ((ObjectNode) jsonNode).put("AvailableFirmwareVersions",
+                            firmwareCatalogue.getAvailableFirmwareVersions(modelName, jsonNode.at("/FirmwareVersion").asText()));
 
-                    ArrayNode deviceFaults = jsonNode.withArray("Faults");
-                    if (deviceFaults.size() > 0) {
-                        StringBuilder faultsStringBuilder = new StringBuilder();
-                        deviceFaults.forEach(fault -> {
-                            faultsStringBuilder.append(fault.at("/FaultId").asText()).append("|")
-                                    .append(fault.at("/IndicatorId").asText()).append(":").append(fault.at("/Message").asText()).append("\n");
-                        });
-                        ((ObjectNode) jsonNode).put("Faults", faultsStringBuilder.toString());
-                    }
+                    faultTracker.update(deviceSerialNumber, (ObjectNode) jsonNode, currentTimestamp);
                 });
             }
         });
         return devices;
     }
 
+    /**
+     * Build device faults string out of the device faults array, one "FaultId|IndicatorId:Message" line per fault
+     *
+     * @param deviceFaults device faults array, as provided by /devices endpoint
+     * @return String device faults
+     */
+    static String buildDeviceFaults(ArrayNode deviceFaults) {
+        StringBuilder faultsStringBuilder = new StringBuilder();
+        deviceFaults.forEach(fault -> faultsStringBuilder.append(fault.at("/FaultId").asText()).append("|")
+                .append(fault.at("/IndicatorId").asText()).append(":").append(fault.at("/Message").asText()).append("\n"));
+        return faultsStringBuilder.toString();
+    }
+
+    /**
+     * Fetch a /devices endpoint and parse the payload with {@link #devicesPayloadParser} straight from the response stream.
+     * Request headers and error handling mirror the regular GET requests: 401 and 403 responses result in
+     * {@link FailedLoginException}, other error responses - in {@link CommandFailureException}.
+     *
+     * @return JsonNode instance containing arrays of the devices
+     */
+    private JsonNode streamDevices() throws Exception {
+        return requestWithSession(AggregatorMetrics.DEVICES, this::executeStreamDevicesRequest);
+    }
+
+    /**
+     * Issue a single /devices request, parsing the payload with {@link #devicesPayloadParser}
+     *
+     * @return JsonNode instance containing arrays of the devices
+     */
+    private JsonNode executeStreamDevicesRequest() throws Exception {
+        String uri = BASE_URL + "devices";
+        try {
+            return obtainRestTemplate().execute(getProtocol() + "://" + getHost() + ":" + getPort() + uri, HttpMethod.GET,
+                    request -> {
+                        request.getHeaders().set("Accept", getContentType());
+                        try {
+                            putExtraRequestHeaders(HttpMethod.GET, uri, request.getHeaders());
+                        } catch (Exception e) {
+                            throw new IOException("Unable to set request headers for " + uri, e);
+                        }
+                    },
+                    response -> {
+                        try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+                            return devicesPayloadParser.parse(parser);
+                        }
+                    });
+        } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode() == HttpStatus.UNAUTHORIZED || e.getStatusCode() == HttpStatus.FORBIDDEN) {
+                FailedLoginException failedLoginException = new FailedLoginException("Invalid authentication credentials for " + uri);
+                failedLoginException.initCause(e);
+                throw failedLoginException;
+            }
+            throw new CommandFailureException(getHost(), uri, e.getResponseBodyAsString(), e.getRawStatusCode(), e);
+        }
+    }
+
+    /**
+     * Retrieve device details for all the devices listed, in parallel, using {@link #deviceDetailsExecutor}.
+     * Workers only collect IpAddress values into a concurrent map, so the /devices json tree is never
+     * modified outside of the polling thread - the values are merged into the tree by the caller.
+     * Devices are requested starting with the ones refreshed least recently. Once the cycle deadline is reached,
+     * the requests that have not been issued yet are skipped, so the devices keep their previous details.
+     *
+     * @param deviceSerialNumbers map of "serialNumber:modelName" pairs to fetch details for
+     * @param deadlineTimestamp time after which no more device details requests are issued
+     * @return map of "serialNumber:ipAddress" pairs for the devices that were successfully retrieved
+     * @throws InterruptedException if the polling thread is interrupted while waiting for device details
+     */
+    private Map<String, String> retrieveIpAddresses(Map<String, String> deviceSerialNumbers, long deadlineTimestamp) throws InterruptedException {
+        Map<String, String> ipAddresses = new ConcurrentHashMap<>();
+        List<String> orderedSerialNumbers = new ArrayList<>(deviceSerialNumbers.keySet());
+        orderedSerialNumbers.sort(Comparator.comparingLong(deviceDetailsCache::getRefreshTimestamp));
+        List<Future<?>> deviceDetailsTasks = new ArrayList<>();
+        AtomicInteger skippedCount = new AtomicInteger();
+        orderedSerialNumbers.forEach(deviceSerialNumber -> deviceDetailsTasks.add(deviceDetailsExecutor.submit(() -> {
+            if (System.currentTimeMillis() >= deadlineTimestamp) {
+                skippedCount.incrementAndGet();
+                return;
+            }
+            JsonNode device = getDevice(deviceSerialNumber, deviceSerialNumbers.get(deviceSerialNumber));
+            if (device != null) {
+                ipAddresses.put(deviceSerialNumber, device.at("/IpAddress").asText());
+            }
+        })));
+        for (Future<?> deviceDetailsTask : deviceDetailsTasks) {
+            try {
+                deviceDetailsTask.get(Math.max(0, deadlineTimestamp - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                logger.error("Unable to retrieve device details", e.getCause());
+            } catch (TimeoutException e) {
+                if (deviceDetailsTask.cancel(false)) {
+                    skippedCount.incrementAndGet();
+                }
+            }
+        }
+        aggregatorMetrics.recordCycleDeadline(skippedCount.get());
+        if (skippedCount.get() > 0 && logger.isWarnEnabled()) {
+            logger.warn("SageVue: cycle deadline reached, " + skippedCount.get() + " device details requests were skipped");
+        }
+        return new HashMap<>(ipAddresses);
+    }
+
     /**
      * Get information about a particular device based on it's deviceId and deviceModel
      *
@@ -451,7 +2821,9 @@ public class SageVueCommunicator extends RestCommunicator implements Aggregator,
     private JsonNode getDevice(String deviceId, String deviceModel) {
         JsonNode device = null;
         try {
-            String deviceResponse = doGet(BASE_URL + "devices/" + retrieveDeviceUrlSegment(deviceModel) + deviceId, String.class);
+            // a device that's not found has been removed, it does not mean the model route is down
+            String deviceResponse = doGetWithBreaker(AggregatorMetrics.DEVICE_DETAILS, "devices/" + deviceModel,
+                    BASE_URL + "devices/" + retrieveDeviceUrlSegment(deviceModel) + deviceId, false);
             device = objectMapper.readTree(deviceResponse).at("/Device");
         } catch (Exception e) {
             logger.error("Unable to find a device with id " + deviceId);
@@ -463,59 +2835,236 @@ public class SageVueCommunicator extends RestCommunicator implements Aggregator,
      * Get information about the firmware versions available for a certain device model
      *
      * @param deviceModel a model of the device upon which to check for available firmware update options
-     * @return ArrayNode instance containing the array of available firmware update options
+     * @return List of available firmware update versions, or null if the versions could not be retrieved
      */
-    private ArrayNode getFirmwareVersions(String deviceModel) {
-        ArrayNode versions = JsonNodeFactory.instance.arrayNode();
+    private List<String> getFirmwareVersions(String deviceModel) {
         try {
-            String firmwareUpdateVersions = doGet(BASE_URL + "firmware/" + retrieveDeviceUrlSegment(deviceModel), String.class);
-            versions = objectMapper.readTree(firmwareUpdateVersions).withArray("FirmwareUpdates");
+            String firmwareUpdateVersions = doGetWithBreaker(AggregatorMetrics.FIRMWARE, "firmware/" + deviceModel,
+                    BASE_URL + "firmware/" + retrieveDeviceUrlSegment(deviceModel), true);
+            List<String> versions = new ArrayList<>();
+            objectMapper.readTree(firmwareUpdateVersions).withArray("FirmwareUpdates")
+                    .forEach(firmwareVersion -> versions.add(firmwareVersion.at("/Version").asText()));
+            return versions;
         } catch (Exception e) {
             logger.error("Unable to find a firmware versions for model: " + deviceModel);
+            return null;
         }
-        return versions;
     }
 
     /**
      * Get SageVue systems
      *
-     * @param reAuthenticated true if this is a second attempt of getting the devices data, with the {@link #authenticate()}
-     *                        method issued
      * @return JsonNode instance containing list of SageVue systems
      */
-    private JsonNode getSystems(boolean reAuthenticated) throws Exception {
+    private JsonNode getSystems() throws Exception {
+        String systemsResponse = doGetWithBreaker(AggregatorMetrics.SYSTEMS, "systems", BASE_URL + "systems", true);
+        return objectMapper.readTree(systemsResponse);
+    }
+
+    /**
+     * Get /systems payload, shared with the devices collection cycles, see {@link #reuseSystemsPayload}
+     *
+     * @return JsonNode instance containing an array of the systems
+     */
+    private JsonNode retrieveSystems() throws Exception {
+        if (!reuseSystemsPayload) {
+            return getSystems();
+        }
+        return systemsPayloadCache.getSystems(pollingInterval, this::getSystems);
+    }
+
+    /**
+     * Issue a GET request with {@link #requestWithSession(String, Callable)}, unless the route circuit breaker is open.
+     * The requests that have not been responded to or have failed on the server side count as route failures,
+     * as well as 404 responses of the routes that are expected to exist. Other client errors and failed logins
+     * are left out: they neither count as failures nor reset the failures in a row.
+     *
+     * @param endpoint endpoint name to record request metrics for, one of the {@link AggregatorMetrics} constants
+     * @param route route to track the failures of, e.g. firmware/Dynasound
+     * @param uri to issue GET request to
+     * @param notFoundFailure whether a 404 response counts as a route failure
+     * @return String response payload
+     * @throws ResourceNotReachableException if the route circuit breaker is open
+     */
+    private String doGetWithBreaker(String endpoint, String route, String uri, boolean notFoundFailure) throws Exception {
+        if (!circuitBreakers.allowRequest(route)) {
+            throw new ResourceNotReachableException("SageVue: circuit breaker of " + route + " is open");
+        }
+        try {
+            String response = requestWithSession(endpoint, () -> doGet(uri, String.class));
+            circuitBreakers.recordSuccess(route);
+            return response;
+        } catch (FailedLoginException | CommandFailureException e) {
+            if (e instanceof CommandFailureException && (!isClientError((CommandFailureException) e)
+                    || notFoundFailure && ((CommandFailureException) e).getStatusCode() == HttpStatus.NOT_FOUND.value())) {
+                circuitBreakers.recordFailure(route);
+            } else {
+                circuitBreakers.recordClientError(route);
+            }
+            throw e;
+        } catch (Exception e) {
+            circuitBreakers.recordFailure(route);
+            throw e;
+        }
+    }
+
+    /**
+     * Issue a SageVue request, recording its metrics. When SageVue rejects the request because of the session -
+     * with a 401 or 403 response - the session is renewed and the request is retried once. Other client errors
+     * (e.g. 404 or 409) are reported right away, since a retry would be rejected the same way.
+     * Concurrent requests rejected with the same LoginId share a single login request.
+     * Both the request and its retry are scheduled with {@link #scheduleRequest(String, RequestScheduler.Priority, Callable)}.
+     *
+     * @param endpoint endpoint name to record request metrics for, one of the {@link AggregatorMetrics} constants
+     * @param request request to issue
+     * @param <T> response type
+     * @return response
+     * @throws Exception if the request has failed, or has been rejected again after the session renewal
+     */
+    private <T> T requestWithSession(String endpoint, Callable<T> request) throws Exception {
+        return requestWithSession(endpoint, requestPriority(endpoint), request);
+    }
+
+    /**
+     * Issue a SageVue request with the given priority, renewing the session if needed,
+     * see {@link #requestWithSession(String, Callable)}
+     *
+     * @param endpoint endpoint name to record request metrics for, one of the {@link AggregatorMetrics} constants
+     * @param priority request priority
+     * @param request request to issue
+     * @param <T> response type
+     * @return response
+     * @throws Exception if the request has failed, or has been rejected again after the session renewal
+     */
+    private <T> T requestWithSession(String endpoint, RequestScheduler.Priority priority, Callable<T> request) throws Exception {
+        String loginId = sessionManager.getLoginId();
         try {
-            String devicesResponse = doGet(BASE_URL + "systems", String.class);
-            return objectMapper.readTree(devicesResponse);
-        } catch (FailedLoginException | CommandFailureException fle) {
-            if (reAuthenticated) {
-                throw new FailedLoginException("Failed to get list of systems using SessionID: " + loginId);
+            return scheduleRequest(endpoint, priority, request);
+        } catch (FailedLoginException | CommandFailureException e) {
+            if (e instanceof CommandFailureException && !isAuthenticationError((CommandFailureException) e)) {
+                throw e;
             }
-            authenticate();
-            return getSystems(true);
+            if (logger.isDebugEnabled()) {
+                logger.debug("SageVue: request to " + endpoint + " was rejected, renewing the session: " + e.getMessage());
+            }
+            aggregatorMetrics.recordReauthentication();
+            sessionManager.renew(loginId);
+            return scheduleRequest(endpoint, priority, request);
+        }
+    }
+
+    /**
+     * Issue a SageVue request once {@link #requestScheduler} allows it, recording its metrics.
+     * Time spent waiting for the scheduler is not included in the endpoint latency.
+     *
+     * @param endpoint endpoint name to record request metrics for, one of the {@link AggregatorMetrics} constants
+     * @param priority request priority
+     * @param request request to issue
+     * @param <T> response type
+     * @return response
+     * @throws Exception if the request has failed
+     */
+    private <T> T scheduleRequest(String endpoint, RequestScheduler.Priority priority, Callable<T> request) throws Exception {
+        return requestScheduler.execute(priority, () -> aggregatorMetrics.measure(endpoint, request));
+    }
+
+    /**
+     * Get the priority of the endpoint requests: controls are issued first, then login requests, then /devices
+     * and /systems list requests, then device details requests, and firmware versions requests last.
+     * Endpoints that are not listed are issued last, so they never hold the controls back.
+     *
+     * @param endpoint endpoint name, one of the {@link AggregatorMetrics} constants
+     * @return request priority
+     */
+    private static RequestScheduler.Priority requestPriority(String endpoint) {
+        switch (endpoint) {
+            case AggregatorMetrics.REBOOT:
+            case AggregatorMetrics.FIRMWARE_UPDATE:
+            case AggregatorMetrics.PROTECT_SYSTEM:
+            case AggregatorMetrics.UNPROTECT_SYSTEM:
+                return RequestScheduler.Priority.CONTROL;
+            case AggregatorMetrics.LOGIN:
+                return RequestScheduler.Priority.LOGIN;
+            case AggregatorMetrics.DEVICES:
+            case AggregatorMetrics.SYSTEMS:
+                return RequestScheduler.Priority.LIST;
+            case AggregatorMetrics.DEVICE_DETAILS:
+                return RequestScheduler.Priority.DETAIL;
+            case AggregatorMetrics.FIRMWARE:
+            default:
+                return RequestScheduler.Priority.FIRMWARE;
         }
     }
 
+    /**
+     * Check whether the request has failed with a 4xx response
+     *
+     * @param e request error
+     * @return true if the response status is 4xx
+     */
+    private static boolean isClientError(CommandFailureException e) {
+        return e.getStatusCode() >= 400 && e.getStatusCode() < 500;
+    }
+
+    /**
+     * Check whether the request has been rejected because of the session
+     *
+     * @param e request error
+     * @return true if the response status is 401 or 403
+     */
+    private static boolean isAuthenticationError(CommandFailureException e) {
+        return e.getStatusCode() == HttpStatus.UNAUTHORIZED.value() || e.getStatusCode() == HttpStatus.FORBIDDEN.value();
+    }
+
+    /**
+     * Acquire the {@link #deviceLocks} lock of a device or a system, recording the time spent waiting for it
+     *
+     * @param key device serial number or system key
+     * @return acquired lock, to be released by the caller
+     */
+    private ReentrantLock acquireLock(String key) {
+        ReentrantLock lock = deviceLocks.getLock(key);
+        long waitStartTime = System.nanoTime();
+        lock.lock();
+        aggregatorMetrics.recordLockWait(System.nanoTime() - waitStartTime);
+        return lock;
+    }
+
     @Override
     protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
         headers.set("Content-Type", "application/json");
-        headers.set("SessionID", loginId);
+        headers.set("Accept-Encoding", compressResponses ? "gzip" : "identity");
+        if (connectionKeepAliveTime <= 0) {
+            headers.set("Connection", "close");
+        }
+        if (!uri.endsWith(LOGIN_URI)) {
+            String loginId = sessionManager.getLoginId();
+            if (loginId != null) {
+                headers.set("SessionID", loginId);
+            }
+        }
         return headers;
     }
 
     /**
-     * Create a request for a SageVue device firmware update.
+     * Create a request for a SageVue devices firmware update.
      *
-     * @param deviceSerialNumber a serial number of the device for which to request a firmware update action
-     * @param firmwareVersion    firmware version that should be used
-     * @param deviceModel        to create a correct request url: tesira devices require using a default url: /firmware/
-     *                           whereas other devices request model to be specified explicitly: /firmware/{deviceModel}
+     * @param deviceSerialNumbers serial numbers of the devices of the same model, for which to request a firmware update action
+     * @param firmwareVersion     firmware version that should be used
+     * @param deviceModel         to create a correct request url: tesira devices require using a default url: /firmware/
+     *                            whereas other devices request model to be specified explicitly: /firmware/{deviceModel}
+     * @param priority            request priority: {@link RequestScheduler.Priority#CONTROL} for the user controls,
+     *                            {@link RequestScheduler.Priority#ROLLOUT} for the rollout waves
      */
-    private void requestFirmwareUpdate(String deviceSerialNumber, String firmwareVersion, String deviceModel) throws Exception {
-        devicesFirmwareVersions.remove(deviceSerialNumber);
-        String response = doPut(BASE_URL + "Firmware/" + retrieveDeviceUrlSegment(deviceModel), buildFirmwareUpdateRequest(deviceSerialNumber, firmwareVersion), String.class);
+    private void requestFirmwareUpdate(List<String> deviceSerialNumbers, String firmwareVersion, String deviceModel,
+                                       RequestScheduler.Priority priority) throws Exception {
+        deviceSerialNumbers.forEach(devicesFirmwareVersions::remove);
+        deviceSerialNumbers.forEach(devicePollingScheduler::recordControl);
+        firmwareCatalogue.invalidate(deviceModel);
+        String response = requestWithSession(AggregatorMetrics.FIRMWARE_UPDATE, priority, () -> doPut(BASE_URL + "Firmware/" + retrieveDeviceUrlSegment(deviceModel),
+                buildFirmwareUpdateRequest(deviceSerialNumbers, firmwareVersion), String.class));
         if (logger.isDebugEnabled()) {
-            logger.trace("SageVue: Firmware update result: " + response + " for device " + deviceModel + deviceSerialNumber);
+            logger.debug("SageVue: Firmware update result: " + response + " for " + deviceModel + " devices " + deviceSerialNumbers);
         }
     }
 
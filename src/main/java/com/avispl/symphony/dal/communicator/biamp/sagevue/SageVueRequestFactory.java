@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.CookieSpecs;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.net.URI;
+
+/**
+ * Request factory of the SageVue transport. Every request gets its own {@link HttpClientContext}, so concurrent
+ * requests never share the connection state, with connect/read timeouts picked by the endpoint class:
+ * <ul>
+ *     <li>list - /devices and /systems, large payloads that take a while to be generated</li>
+ *     <li>details - device details and firmware catalogue, small payloads requested for every device</li>
+ *     <li>control - login and control actions</li>
+ * </ul>
+ * Connections are pooled and kept alive by the underlying {@link HttpClient}, which also takes care of
+ * the gzip-encoded responses, decompressing them while they're being read.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class SageVueRequestFactory extends HttpComponentsClientHttpRequestFactory {
+    private final RequestConfig listRequestConfig;
+    private final RequestConfig detailsRequestConfig;
+    private final RequestConfig controlRequestConfig;
+
+    /**
+     * Create a request factory
+     *
+     * @param httpClient pooled http client to issue requests with
+     * @param connectTimeout connect timeout (ms)
+     * @param listRequestTimeout read timeout (ms) of /devices and /systems requests
+     * @param detailsRequestTimeout read timeout (ms) of device details and firmware catalogue requests
+     * @param controlRequestTimeout read timeout (ms) of login and control requests
+     */
+    SageVueRequestFactory(HttpClient httpClient, int connectTimeout, int listRequestTimeout, int detailsRequestTimeout,
+                          int controlRequestTimeout) {
+        super(httpClient);
+        listRequestConfig = buildRequestConfig(connectTimeout, listRequestTimeout);
+        detailsRequestConfig = buildRequestConfig(connectTimeout, detailsRequestTimeout);
+        controlRequestConfig = buildRequestConfig(connectTimeout, controlRequestTimeout);
+    }
+
+    @Override
+    protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+        HttpClientContext httpClientContext = HttpClientContext.create();
+        httpClientContext.setRequestConfig(retrieveRequestConfig(httpMethod, uri.getPath()));
+        return httpClientContext;
+    }
+
+    /**
+     * Get request config of the endpoint class a request belongs to
+     *
+     * @param httpMethod request method
+     * @param path request path
+     * @return request config
+     */
+    RequestConfig retrieveRequestConfig(HttpMethod httpMethod, String path) {
+        if (httpMethod != HttpMethod.GET) {
+            return controlRequestConfig;
+        }
+        String normalizedPath = path.toLowerCase();
+        if (normalizedPath.endsWith("/devices") || normalizedPath.endsWith("/systems")) {
+            return listRequestConfig;
+        }
+        return detailsRequestConfig;
+    }
+
+    /**
+     * Build request config with given timeouts. Waiting for a pooled connection is limited by the read timeout,
+     * since the connections are busy with the requests limited by the same timeout.
+     *
+     * @param connectTimeout connect timeout (ms)
+     * @param readTimeout read timeout (ms)
+     * @return request config
+     */
+    private static RequestConfig buildRequestConfig(int connectTimeout, int readTimeout) {
+        return RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setConnectionRequestTimeout(readTimeout)
+                .setSocketTimeout(readTimeout)
+                .setCookieSpec(CookieSpecs.DEFAULT)
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import org.springframework.util.StringUtils;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Address and credentials of an additional SageVue server, polled by the same adapter as the main one.
+ * Servers are configured as a comma-separated list of [protocol://][login:password@]host[:port] entries,
+ * any part that is omitted is taken from the main server configuration. Special characters of the login
+ * and password have to be url-encoded.
+ * The server id (host, and port if it's specified) is used to build collision-safe device ids of the server devices.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class SageVueServerAddress {
+    private final String serverId;
+    private final String protocol;
+    private final String host;
+    private final int port;
+    private final String login;
+    private final String password;
+
+    private SageVueServerAddress(String serverId, String protocol, String host, int port, String login, String password) {
+        this.serverId = serverId;
+        this.protocol = protocol;
+        this.host = host;
+        this.port = port;
+        this.login = login;
+        this.password = password;
+    }
+
+    /**
+     * Parse the list of servers
+     *
+     * @param servers comma-separated list of [protocol://][login:password@]host[:port] entries
+     * @param defaultProtocol protocol to use if it's not specified
+     * @param defaultPort port to use if it's not specified
+     * @param defaultLogin login to use if credentials are not specified
+     * @param defaultPassword password to use if credentials are not specified
+     * @return list of server addresses
+     * @throws IllegalArgumentException if an entry is malformed, or the same server is listed more than once
+     */
+    static List<SageVueServerAddress> parse(String servers, String defaultProtocol, int defaultPort, String defaultLogin, String defaultPassword) {
+        List<SageVueServerAddress> serverAddresses = new ArrayList<>();
+        if (StringUtils.isEmpty(servers)) {
+            return serverAddresses;
+        }
+        Set<String> serverIds = new HashSet<>();
+        for (String server : servers.split(",")) {
+            server = server.trim();
+            if (server.isEmpty()) {
+                continue;
+            }
+            URI uri;
+            try {
+                uri = new URI(server.contains("://") ? server : defaultProtocol + "://" + server);
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException("Invalid SageVue server address: " + server, e);
+            }
+            if (StringUtils.isEmpty(uri.getHost())) {
+                throw new IllegalArgumentException("Invalid SageVue server address: " + server);
+            }
+            String login = defaultLogin;
+            String password = defaultPassword;
+            if (uri.getUserInfo() != null) {
+                int separatorIndex = uri.getUserInfo().indexOf(':');
+                login = separatorIndex < 0 ? uri.getUserInfo() : uri.getUserInfo().substring(0, separatorIndex);
+                password = separatorIndex < 0 ? "" : uri.getUserInfo().substring(separatorIndex + 1);
+            }
+            String serverId = uri.getPort() < 0 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+            if (!serverIds.add(serverId)) {
+                throw new IllegalArgumentException("SageVue server " + serverId + " is listed more than once");
+            }
+            serverAddresses.add(new SageVueServerAddress(serverId, uri.getScheme(), uri.getHost(),
+                    uri.getPort() < 0 ? defaultPort : uri.getPort(), login, password));
+        }
+        return serverAddresses;
+    }
+
+    /**
+     * Retrieves {@link #serverId}
+     *
+     * @return value of {@link #serverId}
+     */
+    String getServerId() {
+        return serverId;
+    }
+
+    /**
+     * Retrieves {@link #protocol}
+     *
+     * @return value of {@link #protocol}
+     */
+    String getProtocol() {
+        return protocol;
+    }
+
+    /**
+     * Retrieves {@link #host}
+     *
+     * @return value of {@link #host}
+     */
+    String getHost() {
+        return host;
+    }
+
+    /**
+     * Retrieves {@link #port}
+     *
+     * @return value of {@link #port}
+     */
+    int getPort() {
+        return port;
+    }
+
+    /**
+     * Retrieves {@link #login}
+     *
+     * @return value of {@link #login}
+     */
+    String getLogin() {
+        return login;
+    }
+
+    /**
+     * Retrieves {@link #password}
+     *
+     * @return value of {@link #password}
+     */
+    String getPassword() {
+        return password;
+    }
+}
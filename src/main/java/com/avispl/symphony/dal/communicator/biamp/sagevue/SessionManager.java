@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SageVue session (LoginId) holder, shared by the devices collection, monitoring and control threads.
+ * A session is created on the first request, renewed proactively once it's older than the renewal interval,
+ * and renewed on demand when SageVue rejects it. Only one login request is in flight at any time:
+ * threads that need a new session while another thread is logging in wait for that login and reuse its result,
+ * while threads that only need a proactive renewal keep using the current session until the new one is ready.
+ * A failed proactive renewal is not reported to the caller: the current session is still valid, so it's kept
+ * and the renewal is attempted again by the next request. Only a session SageVue has rejected has to be renewed.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class SessionManager {
+    private static final Log LOG = LogFactory.getLog(SessionManager.class);
+
+    /**
+     * Login request, returning a new LoginId
+     */
+    private final Callable<String> login;
+    /**
+     * Time (ms) after which the session is renewed proactively
+     */
+    private final long renewalInterval;
+    private final ReentrantLock loginLock = new ReentrantLock();
+    private volatile Session session;
+
+    /**
+     * Immutable SageVue session
+     */
+    private static final class Session {
+        private final String loginId;
+        private final long createdTimestamp;
+
+        private Session(String loginId, long createdTimestamp) {
+            this.loginId = loginId;
+            this.createdTimestamp = createdTimestamp;
+        }
+    }
+
+    /**
+     * Create a session manager
+     *
+     * @param login login request, returning a new LoginId
+     * @param renewalInterval time (ms) after which the session is renewed proactively, 0 or less to disable
+     */
+    SessionManager(Callable<String> login, long renewalInterval) {
+        this.login = login;
+        this.renewalInterval = renewalInterval;
+    }
+
+    /**
+     * Get the LoginId to issue a request with. Logs in if there's no session yet.
+     * If the session is due for a renewal - it's renewed by the calling thread, unless another thread is
+     * already doing that, in which case the current LoginId is returned right away.
+     * If the renewal fails - the current LoginId is returned as well.
+     * Login requests themselves are issued with no LoginId: when the method is called from within
+     * a login request, null is returned instead of starting another login.
+     *
+     * @return LoginId, or null if called during a login request
+     * @throws Exception if there's no session yet, and login request has failed
+     */
+    String getLoginId() throws Exception {
+        if (loginLock.isHeldByCurrentThread()) {
+            return null;
+        }
+        Session currentSession = session;
+        if (currentSession == null) {
+            return renew(null);
+        }
+        if (renewalInterval > 0 && System.currentTimeMillis() - currentSession.createdTimestamp >= renewalInterval
+                && loginLock.tryLock()) {
+            try {
+                if (session == currentSession) {
+                    return login().loginId;
+                }
+            } catch (Exception e) {
+                LOG.warn("SageVue: proactive session renewal has failed, the current session is kept: " + e.getMessage());
+            } finally {
+                loginLock.unlock();
+            }
+        }
+        return loginId(session);
+    }
+
+    /**
+     * Renew the session that was rejected by SageVue. If the session has already been renewed by another thread
+     * since the rejected LoginId was obtained - the new session is reused, so concurrent callers that got their
+     * requests rejected with the same LoginId result in a single login request.
+     *
+     * @param rejectedLoginId LoginId the rejected request was issued with, or null if there was none
+     * @return new LoginId, or null if called during a login request
+     * @throws Exception if login request has failed
+     */
+    String renew(String rejectedLoginId) throws Exception {
+        return loginId(renewSession(rejectedLoginId));
+    }
+
+    /**
+     * Drop the current session, so the next request logs in again
+     */
+    void invalidate() {
+        session = null;
+    }
+
+    /**
+     * Renew the session, unless it was renewed by another thread already
+     *
+     * @param rejectedLoginId LoginId of the session to replace, or null
+     * @return current session, null if called during a login request
+     * @throws Exception if login request has failed
+     */
+    private Session renewSession(String rejectedLoginId) throws Exception {
+        if (loginLock.isHeldByCurrentThread()) {
+            return null;
+        }
+        loginLock.lock();
+        try {
+            Session currentSession = session;
+            if (currentSession != null && !currentSession.loginId.equals(rejectedLoginId)) {
+                return currentSession;
+            }
+            return login();
+        } finally {
+            loginLock.unlock();
+        }
+    }
+
+    /**
+     * Issue the login request and store the new session. Must be called with {@link #loginLock} held.
+     *
+     * @return new session
+     * @throws Exception if login request has failed
+     */
+    private Session login() throws Exception {
+        Session newSession = new Session(login.call(), System.currentTimeMillis());
+        session = newSession;
+        return newSession;
+    }
+
+    /**
+     * Get LoginId of a session
+     *
+     * @param session session, may be null
+     * @return LoginId, or null if there's no session
+     */
+    private static String loginId(Session session) {
+        return session == null ? null : session.loginId;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Cache of the /systems payload, shared by the monitoring calls and the devices collection cycles.
+ * /systems is requested at most once per interval, no matter how many threads need it, and its Systems[].Devices[]
+ * entries are indexed by serial number, so the /devices list entries are cross-filled with the fields that only
+ * /systems provides, and device details requests are skipped for the devices /systems supplies the IpAddress of.
+ * Fields are filled from the last known /systems entry of the device, so they don't disappear between the intervals.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class SystemsPayloadCache {
+    /**
+     * Names of the device fields referenced by the model mapping, only those are filled
+     */
+    private final Set<String> retainedFields;
+    private final Object loadLock = new Object();
+    private volatile JsonNode systems;
+    private volatile long systemsTimestamp;
+    /**
+     * Container for "serialNumber:systemsDeviceEntry" pairs, out of the last retrieved /systems payload
+     */
+    private volatile Map<String, JsonNode> systemsDevices = emptyMap();
+
+    /**
+     * Create a cache
+     *
+     * @param retainedFields names of the device fields referenced by the model mapping
+     */
+    SystemsPayloadCache(Set<String> retainedFields) {
+        this.retainedFields = retainedFields;
+    }
+
+    /**
+     * Get the /systems payload, requesting it if the cached one is older than maxAge.
+     * Concurrent callers wait for a single request to complete.
+     *
+     * @param maxAge time (ms) the cached payload stays valid for
+     * @param loader /systems request
+     * @return /systems payload
+     * @throws Exception if /systems request has failed
+     */
+    JsonNode getSystems(long maxAge, Callable<JsonNode> loader) throws Exception {
+        JsonNode currentSystems = systems;
+        if (currentSystems != null && System.currentTimeMillis() - systemsTimestamp < maxAge) {
+            return currentSystems;
+        }
+        synchronized (loadLock) {
+            if (systems != null && System.currentTimeMillis() - systemsTimestamp < maxAge) {
+                return systems;
+            }
+            JsonNode loadedSystems = loader.call();
+            Map<String, JsonNode> devices = new HashMap<>();
+            loadedSystems.path("Systems").forEach(system -> system.path("Devices").forEach(device ->
+                    devices.put(device.path("SerialNumber").asText(), device)));
+            systemsDevices = devices;
+            systemsTimestamp = System.currentTimeMillis();
+            systems = loadedSystems;
+            return loadedSystems;
+        }
+    }
+
+    /**
+     * Drop the cached payload, e.g. after a system protection state was changed, so it's requested again next time.
+     * Device entries are kept for cross-filling until the next payload is retrieved.
+     */
+    void invalidate() {
+        systems = null;
+    }
+
+    /**
+     * Fill the /devices list entry with the model mapping fields it doesn't have, but /systems does
+     *
+     * @param serialNumber device serial number
+     * @param deviceNode /devices list entry
+     * @return true if there's a /systems entry for the device, false otherwise
+     */
+    boolean crossFill(String serialNumber, ObjectNode deviceNode) {
+        JsonNode systemsDevice = systemsDevices.get(serialNumber);
+        if (systemsDevice == null) {
+            return false;
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = systemsDevice.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (retainedFields.contains(field.getKey()) && !deviceNode.has(field.getKey())) {
+                deviceNode.set(field.getKey(), field.getValue().deepCopy());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get device ip address, provided by /systems
+     *
+     * @param serialNumber device serial number
+     * @param maxAge time (ms) the /systems payload is considered up to date for
+     * @return ip address, or null if /systems does not provide it, or the payload is outdated
+     */
+    String getIpAddress(String serialNumber, long maxAge) {
+        if (System.currentTimeMillis() - systemsTimestamp >= maxAge) {
+            return null;
+        }
+        JsonNode systemsDevice = systemsDevices.get(serialNumber);
+        String ipAddress = systemsDevice == null ? "" : systemsDevice.path("IpAddress").asText();
+        return ipAddress.isEmpty() ? null : ipAddress;
+    }
+
+    /**
+     * Drop the cached payload and device entries
+     */
+    void clear() {
+        synchronized (loadLock) {
+            systems = null;
+            systemsDevices = emptyMap();
+            systemsTimestamp = 0;
+        }
+    }
+}
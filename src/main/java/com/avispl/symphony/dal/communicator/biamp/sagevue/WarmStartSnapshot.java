@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Last good devices collection result, persisted to a local gzip-compressed json file, so that after a restart
+ * the aggregator serves the devices and accepts controls right away, instead of waiting for the first cycle.
+ * The snapshot keeps the enriched /devices json (models, protection flags, ip addresses, faults and available
+ * firmware versions of every device) and the firmware catalogue.
+ * The file is written to a temporary file first and then renamed, so a reader never sees a partially written snapshot.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+class WarmStartSnapshot {
+    /**
+     * Snapshot format version, snapshots of other versions are ignored
+     */
+    private static final int FORMAT_VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Path snapshotFile;
+
+    /**
+     * Snapshot loaded from the file
+     */
+    static final class Content {
+        private final long timestamp;
+        private final JsonNode devices;
+        private final Map<String, List<String>> firmwareVersions;
+
+        private Content(long timestamp, JsonNode devices, Map<String, List<String>> firmwareVersions) {
+            this.timestamp = timestamp;
+            this.devices = devices;
+            this.firmwareVersions = firmwareVersions;
+        }
+
+        /**
+         * @return time (ms) the snapshot was taken at
+         */
+        long getTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * @return enriched /devices json
+         */
+        JsonNode getDevices() {
+            return devices;
+        }
+
+        /**
+         * @return map of "modelName:firmwareVersions" pairs
+         */
+        Map<String, List<String>> getFirmwareVersions() {
+            return firmwareVersions;
+        }
+    }
+
+    /**
+     * Create a snapshot store
+     *
+     * @param objectMapper object mapper to read and write json with
+     * @param snapshotFile file to keep the snapshot in
+     */
+    WarmStartSnapshot(ObjectMapper objectMapper, Path snapshotFile) {
+        this.objectMapper = objectMapper;
+        this.snapshotFile = snapshotFile;
+    }
+
+    /**
+     * Retrieves snapshot file
+     *
+     * @return snapshot file path
+     */
+    Path getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * Write the snapshot, replacing the previous one
+     *
+     * @param devicesJson enriched /devices json
+     * @param firmwareVersions map of "modelName:firmwareVersions" pairs
+     * @throws IOException if the snapshot could not be written
+     */
+    void save(JsonNode devicesJson, Map<String, List<String>> firmwareVersions) throws IOException {
+        Path directory = snapshotFile.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream outputStream = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile), BUFFER_SIZE));
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartObject();
+                generator.writeNumberField("Version", FORMAT_VERSION);
+                generator.writeNumberField("Timestamp", System.currentTimeMillis());
+                generator.writeObjectField("FirmwareVersions", firmwareVersions);
+                generator.writeObjectField("Devices", devicesJson);
+                generator.writeEndObject();
+            }
+            try {
+                Files.move(tempFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Read the snapshot
+     *
+     * @param maxAge time (ms) after which the snapshot is considered outdated
+     * @return snapshot, or null if there's no snapshot, it's outdated or has a different format version
+     * @throws IOException if the snapshot could not be read
+     */
+    Content load(long maxAge) throws IOException {
+        JsonNode snapshotJson;
+        try (InputStream inputStream = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile), BUFFER_SIZE))) {
+            snapshotJson = objectMapper.readTree(inputStream);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        long timestamp = snapshotJson.path("Timestamp").asLong();
+        if (snapshotJson.path("Version").asInt() != FORMAT_VERSION || System.currentTimeMillis() - timestamp > maxAge
+                || !snapshotJson.path("Devices").isObject()) {
+            return null;
+        }
+        Map<String, List<String>> firmwareVersions = new HashMap<>();
+        snapshotJson.path("FirmwareVersions").fields().forEachRemaining(entry -> {
+            List<String> versions = new ArrayList<>();
+            entry.getValue().forEach(version -> versions.add(version.asText()));
+            firmwareVersions.put(entry.getKey(), versions);
+        });
+        return new Content(timestamp, snapshotJson.get("Devices"), firmwareVersions);
+    }
+}
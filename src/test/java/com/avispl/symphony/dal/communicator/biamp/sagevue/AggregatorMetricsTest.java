@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+@Tag("test")
+public class AggregatorMetricsTest {
+
+    @Test
+    public void latencyHistogramPercentileTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        Assert.assertEquals(1000, histogram.getTotalCount());
+        Assert.assertEquals(1000, histogram.getMaxValue());
+        long p50 = LatencyHistogram.getValueAtPercentile(50, histogram);
+        long p99 = LatencyHistogram.getValueAtPercentile(99, histogram);
+        // log-linear buckets keep the error within 12.5%
+        Assert.assertTrue(p50 >= 500 && p50 <= 500 * 1.125);
+        Assert.assertTrue(p99 >= 990 && p99 <= 1000);
+        Assert.assertEquals(1000, LatencyHistogram.getValueAtPercentile(100, histogram));
+        Assert.assertEquals(0, LatencyHistogram.getValueAtPercentile(99, new LatencyHistogram()));
+    }
+
+    @Test
+    public void endpointStatisticsTest() throws Exception {
+        AggregatorMetrics aggregatorMetrics = new AggregatorMetrics();
+        Assert.assertEquals("ok", aggregatorMetrics.measure(AggregatorMetrics.DEVICES, () -> "ok"));
+        try {
+            aggregatorMetrics.measure(AggregatorMetrics.DEVICES, () -> {
+                throw new IOException("Connection refused");
+            });
+            Assert.fail("Request error is expected to be rethrown");
+        } catch (IOException e) {
+            // expected
+        }
+        aggregatorMetrics.recordReauthentication();
+        aggregatorMetrics.recordCycle(1500, true, 10);
+        aggregatorMetrics.recordCycle(20, false, 0);
+
+        Map<String, String> statistics = aggregatorMetrics.getStatistics();
+        Assert.assertEquals("2", statistics.get("Endpoint#devices.Requests"));
+        Assert.assertEquals("1", statistics.get("Endpoint#devices.Errors"));
+        Assert.assertNotNull(statistics.get("Endpoint#devices.p50"));
+        Assert.assertNotNull(statistics.get("Endpoint#devices.p99"));
+        Assert.assertNull(statistics.get("Endpoint#systems.Requests"));
+        Assert.assertEquals("1500", statistics.get("Monitoring#LastCycleDurationMs"));
+        Assert.assertEquals("10", statistics.get("Monitoring#LastCycleDeviceCount"));
+        Assert.assertEquals("2", statistics.get("Monitoring#Cycles"));
+        Assert.assertEquals("1", statistics.get("Monitoring#FailedCycles"));
+        Assert.assertEquals("1", statistics.get("Monitoring#Reauthentications"));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+@Tag("test")
+public class CircuitBreakersTest {
+
+    @Test
+    public void openAfterConsecutiveFailuresTest() {
+        CircuitBreakers circuitBreakers = new CircuitBreakers(3, 60000);
+        circuitBreakers.recordFailure("firmware/Dynasound");
+        circuitBreakers.recordFailure("firmware/Dynasound");
+        circuitBreakers.recordSuccess("firmware/Dynasound");
+        circuitBreakers.recordFailure("firmware/Dynasound");
+        circuitBreakers.recordFailure("firmware/Dynasound");
+        Assert.assertTrue(circuitBreakers.allowRequest("firmware/Dynasound"));
+
+        circuitBreakers.recordFailure("firmware/Dynasound");
+        Assert.assertEquals(CircuitBreakers.State.OPEN, circuitBreakers.getState("firmware/Dynasound"));
+        Assert.assertFalse(circuitBreakers.allowRequest("firmware/Dynasound"));
+        // other routes are not affected
+        Assert.assertTrue(circuitBreakers.allowRequest("firmware/Tesira"));
+
+        Map<String, String> statistics = circuitBreakers.getStatistics();
+        Assert.assertEquals("OPEN", statistics.get("CircuitBreaker#firmware/Dynasound.State"));
+        Assert.assertEquals("1", statistics.get("CircuitBreaker#firmware/Dynasound.Opened"));
+        Assert.assertEquals("1", statistics.get("CircuitBreaker#firmware/Dynasound.RejectedRequests"));
+        Assert.assertEquals("CLOSED", statistics.get("CircuitBreaker#firmware/Tesira.State"));
+        Assert.assertEquals("1", statistics.get("CircuitBreaker#OpenRoutes"));
+    }
+
+    @Test
+    public void trialRequestAfterCoolDownTest() throws Exception {
+        CircuitBreakers circuitBreakers = new CircuitBreakers(1, 50);
+        circuitBreakers.recordFailure("systems");
+        Assert.assertFalse(circuitBreakers.allowRequest("systems"));
+
+        Thread.sleep(100);
+        // a single trial request is let through once the cool-down period is over
+        Assert.assertTrue(circuitBreakers.allowRequest("systems"));
+        Assert.assertEquals(CircuitBreakers.State.HALF_OPEN, circuitBreakers.getState("systems"));
+        Assert.assertFalse(circuitBreakers.allowRequest("systems"));
+        circuitBreakers.recordFailure("systems");
+        Assert.assertEquals(CircuitBreakers.State.OPEN, circuitBreakers.getState("systems"));
+        Assert.assertEquals("2", circuitBreakers.getStatistics().get("CircuitBreaker#systems.Opened"));
+
+        Thread.sleep(100);
+        Assert.assertTrue(circuitBreakers.allowRequest("systems"));
+        circuitBreakers.recordSuccess("systems");
+        Assert.assertEquals(CircuitBreakers.State.CLOSED, circuitBreakers.getState("systems"));
+        Assert.assertTrue(circuitBreakers.allowRequest("systems"));
+    }
+
+    @Test
+    public void clientErrorTest() throws Exception {
+        CircuitBreakers circuitBreakers = new CircuitBreakers(2, 50);
+        // client errors do not reset the failures in a row
+        circuitBreakers.recordFailure("devices/Tesira");
+        circuitBreakers.recordClientError("devices/Tesira");
+        Assert.assertEquals(CircuitBreakers.State.CLOSED, circuitBreakers.getState("devices/Tesira"));
+        circuitBreakers.recordFailure("devices/Tesira");
+        Assert.assertEquals(CircuitBreakers.State.OPEN, circuitBreakers.getState("devices/Tesira"));
+
+        Thread.sleep(100);
+        // the route has responded to the trial request, so it's closed
+        Assert.assertTrue(circuitBreakers.allowRequest("devices/Tesira"));
+        circuitBreakers.recordClientError("devices/Tesira");
+        Assert.assertEquals(CircuitBreakers.State.CLOSED, circuitBreakers.getState("devices/Tesira"));
+        Assert.assertTrue(circuitBreakers.allowRequest("devices/Tesira"));
+    }
+
+    @Test
+    public void disabledBreakersTest() {
+        CircuitBreakers circuitBreakers = new CircuitBreakers(0, 60000);
+        for (int i = 0; i < 100; i++) {
+            circuitBreakers.recordFailure("devices/Tesira");
+        }
+        Assert.assertTrue(circuitBreakers.allowRequest("devices/Tesira"));
+        Assert.assertEquals("100", circuitBreakers.getStatistics().get("CircuitBreaker#devices/Tesira.ConsecutiveFailures"));
+    }
+}
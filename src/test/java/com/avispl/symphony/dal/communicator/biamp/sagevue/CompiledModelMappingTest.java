@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+@Tag("test")
+public class CompiledModelMappingTest {
+    private AggregatedDeviceProcessor aggregatedDeviceProcessor;
+    private CompiledModelMapping compiledModelMapping;
+
+    @BeforeEach
+    public void init() throws Exception {
+        Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML("sagevue/model-mapping.yml", getClass());
+        aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
+        compiledModelMapping = new CompiledModelMapping(mapping);
+    }
+
+    @Test
+    public void extractDevicesTest() {
+        ObjectNode devicesJson = generateDevicesJson(10);
+        List<AggregatedDevice> expectedDevices = aggregatedDeviceProcessor.extractDevices(devicesJson);
+        List<AggregatedDevice> devices = compiledModelMapping.extractDevices(devicesJson);
+
+        Assert.assertEquals(expectedDevices.size(), devices.size());
+        for (int i = 0; i < devices.size(); i++) {
+            AggregatedDevice expectedDevice = expectedDevices.get(i);
+            AggregatedDevice device = devices.get(i);
+            Assert.assertEquals(expectedDevice.getDeviceId(), device.getDeviceId());
+            Assert.assertEquals(expectedDevice.getDeviceName(), device.getDeviceName());
+            Assert.assertEquals(expectedDevice.getDeviceModel(), device.getDeviceModel());
+            Assert.assertEquals(expectedDevice.getDeviceMake(), device.getDeviceMake());
+            Assert.assertEquals(expectedDevice.getDeviceOnline(), device.getDeviceOnline());
+            Assert.assertEquals(expectedDevice.getSerialNumber(), device.getSerialNumber());
+            Assert.assertEquals(expectedDevice.getProperties(), device.getProperties());
+            Assert.assertEquals(expectedDevice.getStatistics(), device.getStatistics());
+            Assert.assertEquals(expectedDevice.getControl(), device.getControl());
+            Assert.assertEquals(expectedDevice.getControllableProperties().size(), device.getControllableProperties().size());
+            for (int j = 0; j < device.getControllableProperties().size(); j++) {
+                AdvancedControllableProperty expectedProperty = expectedDevice.getControllableProperties().get(j);
+                AdvancedControllableProperty property = device.getControllableProperties().get(j);
+                Assert.assertEquals(expectedProperty.getName(), property.getName());
+                Assert.assertEquals(expectedProperty.getValue(), property.getValue());
+                Assert.assertEquals(expectedProperty.getType().getClass(), property.getType().getClass());
+            }
+        }
+        AdvancedControllableProperty.DropDown availableFirmwareVersions = (AdvancedControllableProperty.DropDown) devices.get(0).getControllableProperties().get(1).getType();
+        Assert.assertArrayEquals(new String[]{"3.3.0.18", "4.0.0.1"}, availableFirmwareVersions.getOptions());
+        // devices with the same firmware catalogue share the same options array
+        Assert.assertSame(availableFirmwareVersions.getOptions(),
+                ((AdvancedControllableProperty.DropDown) devices.get(1).getControllableProperties().get(1).getType()).getOptions());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void buttonGracePeriodDefaultTest() throws Exception {
+        Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML("sagevue/model-mapping.yml", getClass());
+        ((Map<String, Map<String, ?>>) (Map<String, ?>) mapping.get("Tesira").getControlProperties()).get("Reboot").remove("gracePeriod");
+
+        List<AggregatedDevice> devices = new CompiledModelMapping(mapping).extractDevices(generateDevicesJson(1));
+        AdvancedControllableProperty reboot = devices.get(0).getControllableProperties().stream()
+                .filter(property -> "Reboot".equals(property.getName())).findFirst().get();
+        Assert.assertEquals(Long.valueOf(0), ((AdvancedControllableProperty.Button) reboot.getType()).getGracePeriod());
+    }
+
+    /**
+     * Generate enriched devices json with a given number of Tesira devices and a single Atom device
+     *
+     * @param deviceCount number of Tesira devices to generate
+     * @return devices json
+     */
+    private ObjectNode generateDevicesJson(int deviceCount) {
+        ObjectNode devicesJson = JsonNodeFactory.instance.objectNode();
+        ArrayNode tesiraDevices = devicesJson.putArray("TesiraDevices");
+        for (int i = 0; i < deviceCount; i++) {
+            ObjectNode device = tesiraDevices.addObject();
+            device.put("Model", "FORTE_VT");
+            device.put("ModelDescription", "TesiraFORTE AVB VT");
+            device.put("FirmwareVersion", "3.3.0.18");
+            device.put("OccupiedStatus", i % 2 == 0 ? "" : "Rebooting");
+            device.put("IsControlled", false);
+            device.put("IsProtected", i % 3 == 0);
+            device.put("Status", i % 5);
+            device.put("SystemId", String.valueOf(10000000 + i));
+            device.put("SerialNumber", String.valueOf(10000000 + i));
+            device.put("IpAddress", "172.31.254." + i % 255);
+            device.put("AvailableFirmwareVersions", "3.3.0.18,4.0.0.1");
+            device.put("Faults", i % 4 == 0 ? "123|ERR:Unable to get information\n" : "");
+        }
+        ObjectNode atomDevice = devicesJson.putArray("AtomDevices").addObject();
+        atomDevice.put("ModelDescription", "Atom Device");
+        atomDevice.put("FirmwareVersion", "1.0.0");
+        atomDevice.put("Status", 0);
+        atomDevice.put("SystemId", "012345678");
+        atomDevice.put("SerialNumber", "012345678");
+        devicesJson.putArray("DynasoundDevices");
+        devicesJson.putArray("QtProDevices");
+        devicesJson.putArray("DevioDevices");
+        return devicesJson;
+    }
+}
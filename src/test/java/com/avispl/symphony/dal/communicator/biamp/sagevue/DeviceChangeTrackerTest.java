@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Tag("test")
+public class DeviceChangeTrackerTest {
+
+    @Test
+    public void reuseUnchangedDevicesTest() {
+        DeviceChangeTracker deviceChangeTracker = new DeviceChangeTracker();
+        AggregatedDevice tesira = createDevice("03275657", "3.3.0.18", "3.3.0.18,3.4.0.18");
+        AggregatedDevice atom = createDevice("03275658", "1.2.0.3", "1.2.0.3");
+        deviceChangeTracker.update(Arrays.asList(tesira, atom));
+
+        // new instances with the same properties and controls are replaced with the published ones
+        List<AggregatedDevice> publishedDevices = deviceChangeTracker.update(Arrays.asList(
+                createDevice("03275657", "3.3.0.18", "3.3.0.18,3.4.0.18"), createDevice("03275658", "1.2.0.3", "1.2.0.3")));
+        Assert.assertSame(tesira, publishedDevices.get(0));
+        Assert.assertSame(atom, publishedDevices.get(1));
+        Assert.assertEquals(0, deviceChangeTracker.getLastUpdateChangedCount());
+        Assert.assertEquals(2, deviceChangeTracker.getLastUpdateReusedCount());
+
+        AggregatedDevice updatedAtom = createDevice("03275658", "1.2.0.3", "1.2.0.3,1.3.0.1");
+        publishedDevices = deviceChangeTracker.update(Arrays.asList(createDevice("03275657", "3.3.0.18", "3.3.0.18,3.4.0.18"), updatedAtom));
+        Assert.assertSame(tesira, publishedDevices.get(0));
+        Assert.assertSame(updatedAtom, publishedDevices.get(1));
+        Assert.assertEquals(1, deviceChangeTracker.getLastUpdateChangedCount());
+    }
+
+    @Test
+    public void propertyChangesTest() {
+        DeviceChangeTracker deviceChangeTracker = new DeviceChangeTracker();
+        AggregatedDevice tesira = createDevice("03275657", "3.3.0.18", "3.3.0.18");
+        deviceChangeTracker.update(Collections.singletonList(tesira));
+
+        // a removed property changes the device, just like a changed one
+        AggregatedDevice device = createDevice("03275657", "3.3.0.18", "3.3.0.18");
+        device.getProperties().remove("HostName");
+        Assert.assertSame(device, deviceChangeTracker.update(Collections.singletonList(device)).get(0));
+        Assert.assertEquals(1, deviceChangeTracker.getLastUpdateChangedCount());
+
+        device = createDevice("03275657", "3.3.0.18", "3.3.0.18");
+        device.getProperties().remove("HostName");
+        device.setControllableProperties(Collections.emptyList());
+        Assert.assertSame(device, deviceChangeTracker.update(Collections.singletonList(device)).get(0));
+        Assert.assertEquals(1, deviceChangeTracker.getLastUpdateChangedCount());
+    }
+
+    @Test
+    public void propertyTimestampsTest() {
+        AtomicLong clock = new AtomicLong(1000);
+        DeviceChangeTracker deviceChangeTracker = new DeviceChangeTracker(clock::get);
+        deviceChangeTracker.update(Collections.singletonList(createDevice("03275657", "3.3.0.18", "3.3.0.18")));
+        Map<String, Long> initialTimestamps = deviceChangeTracker.getPropertyTimestamps("03275657");
+        Assert.assertEquals(Long.valueOf(1000), initialTimestamps.get("FirmwareVersion"));
+        Assert.assertEquals(Long.valueOf(1000), initialTimestamps.get("AvailableFirmwareVersions"));
+
+        // a changed property advances its timestamp, an unchanged control keeps it, a removed property is dropped
+        clock.set(2000);
+        AggregatedDevice device = createDevice("03275657", "3.4.0.18", "3.3.0.18");
+        device.getProperties().remove("HostName");
+        AggregatedDevice publishedDevice = deviceChangeTracker.update(Collections.singletonList(device)).get(0);
+        Map<String, Long> timestamps = deviceChangeTracker.getPropertyTimestamps("03275657");
+        Assert.assertEquals(Long.valueOf(2000), timestamps.get("FirmwareVersion"));
+        Assert.assertEquals(Long.valueOf(1000), timestamps.get("AvailableFirmwareVersions"));
+        Assert.assertFalse(timestamps.containsKey("HostName"));
+        Assert.assertEquals("1970-01-01T00:00:02Z FirmwareVersion\n", publishedDevice.getProperties().get(DeviceChangeTracker.LAST_CHANGED_PROPERTIES));
+        Assert.assertTrue(deviceChangeTracker.getPropertyTimestamps("03275658").isEmpty());
+
+        // the published changes are not compared, so the device collected again is unchanged
+        clock.set(3000);
+        device = createDevice("03275657", "3.4.0.18", "3.3.0.18");
+        device.getProperties().remove("HostName");
+        Assert.assertSame(publishedDevice, deviceChangeTracker.update(Collections.singletonList(device)).get(0));
+        Assert.assertEquals(timestamps, deviceChangeTracker.getPropertyTimestamps("03275657"));
+
+        clock.set(4000);
+        device = createDevice("03275657", "3.4.0.18", "3.3.0.18,3.4.0.18");
+        device.getProperties().remove("HostName");
+        publishedDevice = deviceChangeTracker.update(Collections.singletonList(device)).get(0);
+        Assert.assertEquals(Long.valueOf(2000), deviceChangeTracker.getPropertyTimestamps("03275657").get("FirmwareVersion"));
+        Assert.assertEquals("1970-01-01T00:00:04Z AvailableFirmwareVersions\n1970-01-01T00:00:02Z FirmwareVersion\n",
+                publishedDevice.getProperties().get(DeviceChangeTracker.LAST_CHANGED_PROPERTIES));
+    }
+
+    @Test
+    public void controlTypeChangesTest() {
+        DeviceChangeTracker deviceChangeTracker = new DeviceChangeTracker();
+        deviceChangeTracker.update(Collections.singletonList(createRebootDevice("03275657", 0L)));
+        deviceChangeTracker.update(Collections.singletonList(createRebootDevice("03275657", 0L)));
+        Assert.assertEquals(0, deviceChangeTracker.getLastUpdateChangedCount());
+
+        // Button.toString() doesn't cover the grace period, it's still compared
+        AggregatedDevice device = createRebootDevice("03275657", 5000L);
+        Assert.assertSame(device, deviceChangeTracker.update(Collections.singletonList(device)).get(0));
+        Assert.assertEquals(1, deviceChangeTracker.getLastUpdateChangedCount());
+    }
+
+    @Test
+    public void retrieveChangedDevicesTest() {
+        DeviceChangeTracker deviceChangeTracker = new DeviceChangeTracker();
+        deviceChangeTracker.update(Arrays.asList(createDevice("03275657", "3.3.0.18", "3.3.0.18"), createDevice("03275658", "1.2.0.3", "1.2.0.3")));
+        Assert.assertEquals(2, deviceChangeTracker.retrieveChangedDevices().size());
+        Assert.assertTrue(deviceChangeTracker.retrieveChangedDevices().isEmpty());
+
+        deviceChangeTracker.update(Arrays.asList(createDevice("03275657", "3.3.0.18", "3.3.0.18"), createDevice("03275658", "1.2.0.3", "1.2.0.3")));
+        Assert.assertTrue(deviceChangeTracker.retrieveChangedDevices().isEmpty());
+
+        AggregatedDevice offlineDevice = createDevice("03275658", "1.2.0.3", "1.2.0.3");
+        offlineDevice.setDeviceOnline(false);
+        deviceChangeTracker.update(Arrays.asList(createDevice("03275657", "3.3.0.18", "3.3.0.18"), offlineDevice));
+        // devices changed during several cycles between the retrievals are reported once
+        deviceChangeTracker.update(Arrays.asList(createDevice("03275657", "3.3.0.18", "3.3.0.18"), createDevice("03275658", "1.2.0.3", "1.2.0.3")));
+        List<AggregatedDevice> changedDevices = deviceChangeTracker.retrieveChangedDevices();
+        Assert.assertEquals(1, changedDevices.size());
+        Assert.assertEquals("03275658", changedDevices.get(0).getDeviceId());
+
+        deviceChangeTracker.clear();
+        deviceChangeTracker.update(Collections.singletonList(createDevice("03275657", "3.3.0.18", "3.3.0.18")));
+        Assert.assertEquals(1, deviceChangeTracker.retrieveChangedDevices().size());
+    }
+
+    private AggregatedDevice createRebootDevice(String serialNumber, long gracePeriod) {
+        AggregatedDevice device = createDevice(serialNumber, "3.3.0.18", "3.3.0.18");
+        AdvancedControllableProperty.Button button = new AdvancedControllableProperty.Button();
+        button.setLabel("Reboot");
+        button.setLabelPressed("Rebooting");
+        button.setGracePeriod(gracePeriod);
+        device.setControllableProperties(Collections.singletonList(new AdvancedControllableProperty("Reboot", new Date(), button, "0")));
+        return device;
+    }
+
+    private AggregatedDevice createDevice(String serialNumber, String firmwareVersion, String availableFirmwareVersions) {
+        AggregatedDevice device = new AggregatedDevice();
+        device.setDeviceId(serialNumber);
+        device.setSerialNumber(serialNumber);
+        device.setDeviceOnline(true);
+        Map<String, String> properties = new HashMap<>();
+        properties.put("FirmwareVersion", firmwareVersion);
+        properties.put("HostName", "TesiraForte" + serialNumber);
+        device.setProperties(properties);
+        AdvancedControllableProperty.DropDown dropDown = new AdvancedControllableProperty.DropDown();
+        dropDown.setOptions(availableFirmwareVersions.split(","));
+        dropDown.setLabels(availableFirmwareVersions.split(","));
+        device.setControllableProperties(Collections.singletonList(
+                new AdvancedControllableProperty("AvailableFirmwareVersions", new Date(), dropDown, dropDown.getOptions()[0])));
+        return device;
+    }
+}
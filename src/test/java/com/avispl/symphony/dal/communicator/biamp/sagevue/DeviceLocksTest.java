@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Tag("test")
+public class DeviceLocksTest {
+
+    @Test
+    public void sameDeviceSameLockTest() {
+        DeviceLocks deviceLocks = new DeviceLocks(64);
+        Assert.assertSame(deviceLocks.getLock("04D5E6F7"), deviceLocks.getLock("04D5E6F7"));
+        Assert.assertSame(deviceLocks.getLock(null), deviceLocks.getLock(null));
+
+        Set<ReentrantLock> locks = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < 10000; i++) {
+            locks.add(deviceLocks.getLock("SN" + i));
+        }
+        Assert.assertEquals(64, locks.size());
+    }
+
+    @Test
+    public void multipleDevicesLockOrderTest() {
+        DeviceLocks deviceLocks = new DeviceLocks(8);
+        List<String> devices = Arrays.asList("SN5", "SN1", "SN3", "SN1", "SN7");
+        List<ReentrantLock> locks = deviceLocks.getLocks(devices);
+        // duplicates are dropped and the order is the same regardless of the keys order
+        Assert.assertEquals(4, locks.size());
+        List<String> reversedDevices = new ArrayList<>(devices);
+        Collections.reverse(reversedDevices);
+        Assert.assertEquals(locks, deviceLocks.getLocks(reversedDevices));
+        devices.forEach(device -> Assert.assertTrue(locks.contains(deviceLocks.getLock(device))));
+    }
+
+    @Test
+    public void differentDevicesDoNotBlockTest() throws Exception {
+        DeviceLocks deviceLocks = new DeviceLocks(64);
+        String firstDevice = "SN1";
+        String secondDevice = "SN2";
+        Assert.assertNotSame(deviceLocks.getLock(firstDevice), deviceLocks.getLock(secondDevice));
+
+        deviceLocks.getLock(firstDevice).lock();
+        try {
+            CountDownLatch acquired = new CountDownLatch(1);
+            Thread control = new Thread(() -> {
+                ReentrantLock lock = deviceLocks.getLock(secondDevice);
+                lock.lock();
+                try {
+                    acquired.countDown();
+                } finally {
+                    lock.unlock();
+                }
+            });
+            control.start();
+            Assert.assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        } finally {
+            deviceLocks.getLock(firstDevice).unlock();
+        }
+    }
+}
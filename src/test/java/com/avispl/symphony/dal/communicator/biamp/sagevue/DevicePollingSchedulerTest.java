@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Tag("test")
+public class DevicePollingSchedulerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void tierAssignmentTest() throws Exception {
+        DevicePollingScheduler scheduler = new DevicePollingScheduler(listDevices("1", "2"), 0, 600000, 3600000, 600000, 0);
+        Assert.assertEquals(DevicePollingScheduler.Tier.STABLE, scheduler.assignTier("1", device(0, "", 0)));
+        Assert.assertEquals(DevicePollingScheduler.Tier.OFFLINE, scheduler.assignTier("1", device(1, "", 0)));
+        Assert.assertEquals(DevicePollingScheduler.Tier.FAST, scheduler.assignTier("1", device(0, "", 2)));
+        Assert.assertEquals(DevicePollingScheduler.Tier.FAST, scheduler.assignTier("1", device(1, "Rebooting", 0)));
+        scheduler.recordControl("1");
+        Assert.assertEquals(DevicePollingScheduler.Tier.FAST, scheduler.assignTier("1", device(1, "", 0)));
+        Assert.assertEquals(DevicePollingScheduler.Tier.OFFLINE, scheduler.assignTier("2", device(1, "", 0)));
+    }
+
+    @Test
+    public void requestBudgetTest() throws Exception {
+        DevicePollingScheduler scheduler = new DevicePollingScheduler(listDevices("stable-1", "offline-1", "faulty-1", "stable-2"),
+                0, 600000, 3600000, 600000, 2);
+        DevicePollingScheduler.Selection selection = scheduler.selectDevices(candidates(scheduler, true));
+        Assert.assertEquals(Arrays.asList("faulty-1", "stable-1"), new ArrayList<>(selection.getDevices().keySet()));
+        Assert.assertEquals(2, selection.getDeferredCount());
+        Assert.assertEquals(Integer.valueOf(2), selection.getTierDeviceCounts().get(DevicePollingScheduler.Tier.STABLE));
+
+        // fast tier devices are polled every cycle, deferred devices go before the ones polled already
+        selection = scheduler.selectDevices(candidates(scheduler, false));
+        Assert.assertEquals(Arrays.asList("faulty-1", "stable-2"), new ArrayList<>(selection.getDevices().keySet()));
+        selection = scheduler.selectDevices(candidates(scheduler, false));
+        Assert.assertEquals(Arrays.asList("faulty-1", "offline-1"), new ArrayList<>(selection.getDevices().keySet()));
+        Assert.assertEquals(0, selection.getDeferredCount());
+    }
+
+    private List<DevicePollingScheduler.Candidate> candidates(DevicePollingScheduler scheduler, boolean changed) throws Exception {
+        List<DevicePollingScheduler.Candidate> candidates = new ArrayList<>();
+        candidates.add(scheduler.createCandidate("stable-1", "Tesira", device(0, "", 0), changed));
+        candidates.add(scheduler.createCandidate("offline-1", "Tesira", device(1, "", 0), changed));
+        candidates.add(scheduler.createCandidate("faulty-1", "Tesira", device(0, "", 1), changed));
+        candidates.add(scheduler.createCandidate("stable-2", "Tesira", device(0, "", 0), changed));
+        return candidates;
+    }
+
+    @Test
+    public void unchangedDevicesTest() throws Exception {
+        DevicePollingScheduler scheduler = new DevicePollingScheduler(listDevices("stable-1", "offline-1"), 0, 600000, 3600000, 600000, 0);
+        Assert.assertEquals(2, scheduler.selectDevices(Arrays.asList(
+                scheduler.createCandidate("stable-1", "Tesira", device(0, "", 0), true),
+                scheduler.createCandidate("offline-1", "Tesira", device(1, "", 0), true))).getDevices().size());
+
+        // changed stable devices are polled right away, offline devices - only once their interval passes
+        DevicePollingScheduler.Selection selection = scheduler.selectDevices(Arrays.asList(
+                scheduler.createCandidate("stable-1", "Tesira", device(0, "", 0), true),
+                scheduler.createCandidate("offline-1", "Tesira", device(1, "", 0), true)));
+        Assert.assertEquals(Arrays.asList("stable-1"), new ArrayList<>(selection.getDevices().keySet()));
+        selection = scheduler.selectDevices(Arrays.asList(
+                scheduler.createCandidate("stable-1", "Tesira", device(0, "", 0), false),
+                scheduler.createCandidate("offline-1", "Tesira", device(1, "", 0), false)));
+        Assert.assertTrue(selection.getDevices().isEmpty());
+        Assert.assertEquals(0, selection.getDeferredCount());
+    }
+
+    private DeviceStateStore listDevices(String... serialNumbers) {
+        DeviceStateStore deviceStateStore = new DeviceStateStore();
+        Map<String, String> deviceModels = new HashMap<>();
+        for (String serialNumber : serialNumbers) {
+            deviceModels.put(serialNumber, "Tesira");
+        }
+        deviceStateStore.updateDevices(deviceModels, Collections.emptyMap(), Collections.emptySet(), Collections.emptySet());
+        return deviceStateStore;
+    }
+
+    private JsonNode device(int status, String occupiedStatus, int faultCount) throws Exception {
+        StringBuilder faults = new StringBuilder();
+        for (int i = 0; i < faultCount; i++) {
+            faults.append(i == 0 ? "" : ",").append("{\"FaultId\":").append(i).append("}");
+        }
+        return objectMapper.readTree("{\"Status\":" + status + ",\"OccupiedStatus\":\"" + occupiedStatus + "\",\"Faults\":[" + faults + "]}");
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("test")
+public class DeviceSelectionTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void filterDevicesTest() throws Exception {
+        DeviceSelection deviceSelection = new DeviceSelection(" tesira, Atom ", null, null, "3", "0327*", "032756?9");
+        JsonNode devicesJson = objectMapper.readTree("{\"TesiraDevices\":[" +
+                "{\"SerialNumber\":\"03275657\",\"SystemId\":\"1\"}," +
+                "{\"SerialNumber\":\"03275659\",\"SystemId\":\"1\"}," +
+                "{\"SerialNumber\":\"03285657\",\"SystemId\":\"1\"}," +
+                "{\"SerialNumber\":\"03275658\",\"SystemId\":\"3\"}]," +
+                "\"AtomDevices\":[{\"SerialNumber\":\"03275660\"}]," +
+                "\"DevioDevices\":[{\"SerialNumber\":\"03275661\"},{\"SerialNumber\":\"03275662\"}]," +
+                "\"TotalCount\":8}");
+
+        Assert.assertEquals(5, deviceSelection.filterDevices(devicesJson));
+        Assert.assertEquals(1, devicesJson.get("TesiraDevices").size());
+        Assert.assertEquals("03275657", devicesJson.at("/TesiraDevices/0/SerialNumber").asText());
+        Assert.assertEquals(1, devicesJson.get("AtomDevices").size());
+        Assert.assertFalse(devicesJson.has("DevioDevices"));
+        Assert.assertTrue(devicesJson.has("TotalCount"));
+    }
+
+    @Test
+    public void selectionTest() {
+        DeviceSelection deviceSelection = new DeviceSelection(null, "Dynasound", "1,2", null, null, null);
+        Assert.assertTrue(deviceSelection.isFiltering());
+        Assert.assertTrue(deviceSelection.isModelSelected("Tesira"));
+        Assert.assertFalse(deviceSelection.isModelSelected("DYNASOUND"));
+        Assert.assertTrue(deviceSelection.isSystemSelected("2"));
+        Assert.assertFalse(deviceSelection.isSystemSelected("3"));
+        // devices that do not belong to a system are not selected by a SystemId inclusion
+        Assert.assertFalse(deviceSelection.isDeviceSelected("03275657", ""));
+        Assert.assertTrue(deviceSelection.isDeviceSelected("03275657", "1"));
+
+        DeviceSelection emptySelection = new DeviceSelection("", " ", null, null, ",", null);
+        Assert.assertFalse(emptySelection.isFiltering());
+        Assert.assertTrue(emptySelection.isDeviceSelected("03275657", ""));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+@Tag("test")
+public class DeviceStateStoreTest {
+
+    @Test
+    public void deviceStateTest() {
+        DeviceStateStore deviceStateStore = new DeviceStateStore();
+        Map<String, String> deviceModels = new HashMap<>();
+        deviceModels.put("03275657", "Tesira");
+        deviceModels.put("03275658", "Atom");
+        deviceStateStore.updateDevices(deviceModels, Collections.singletonMap("03275657", "2"), Collections.singleton("03275658"),
+                Collections.singleton("03275657"));
+
+        Assert.assertEquals("Tesira", deviceStateStore.getModel("03275657"));
+        Assert.assertEquals("Atom", deviceStateStore.getModel("03275658"));
+        Assert.assertNull(deviceStateStore.getModel("03275659"));
+        Assert.assertEquals("2", deviceStateStore.getSystemId("03275657"));
+        Assert.assertNull(deviceStateStore.getSystemId("03275658"));
+        Assert.assertFalse(deviceStateStore.isProtected("03275657"));
+        Assert.assertTrue(deviceStateStore.isProtected("03275658"));
+        Map<String, String> statistics = deviceStateStore.getStatistics();
+        Assert.assertEquals("2", statistics.get("DeviceState#ListedDevices"));
+        Assert.assertEquals("1", statistics.get("DeviceState#ProtectedDevices"));
+        Assert.assertEquals("1", statistics.get("DeviceState#ControlledDevices"));
+
+        deviceStateStore.recordControl("03275657");
+        deviceStateStore.recordPoll("03275658", 1000);
+        deviceStateStore.recordControl("03275659");
+        Assert.assertTrue(deviceStateStore.getControlTimestamp("03275657") > 0);
+        Assert.assertEquals(1000, deviceStateStore.getPollTimestamp("03275658"));
+        Assert.assertEquals(0, deviceStateStore.getControlTimestamp("03275659"));
+    }
+
+    @Test
+    public void ordinalRecyclingTest() {
+        DeviceStateStore deviceStateStore = new DeviceStateStore();
+        Map<String, String> deviceModels = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            deviceModels.put(String.valueOf(i), "Tesira");
+        }
+        deviceStateStore.updateDevices(deviceModels, Collections.emptyMap(), new HashSet<>(deviceModels.keySet()), new HashSet<>(deviceModels.keySet()));
+        deviceStateStore.recordPoll("5", 1000);
+        deviceStateStore.recordPoll("6", 1000);
+
+        // devices that are still listed keep their state, new devices take the ordinals of the removed ones with no state
+        deviceModels.remove("5");
+        deviceModels.put("new", "Dynasound");
+        deviceStateStore.updateDevices(deviceModels, Collections.emptyMap(), Collections.singleton("6"), Collections.singleton("7"));
+        Assert.assertNull(deviceStateStore.getModel("5"));
+        Assert.assertEquals(0, deviceStateStore.getPollTimestamp("5"));
+        Assert.assertEquals("Dynasound", deviceStateStore.getModel("new"));
+        Assert.assertEquals(0, deviceStateStore.getPollTimestamp("new"));
+        Assert.assertFalse(deviceStateStore.isProtected("new"));
+        Assert.assertEquals(1000, deviceStateStore.getPollTimestamp("6"));
+        Assert.assertTrue(deviceStateStore.isProtected("6"));
+        Assert.assertFalse(deviceStateStore.isProtected("7"));
+        Assert.assertEquals("200", deviceStateStore.getStatistics().get("DeviceState#ListedDevices"));
+        Assert.assertEquals("1", deviceStateStore.getStatistics().get("DeviceState#ControlledDevices"));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+@Tag("test")
+public class DevicesPayloadParserTest {
+    private ObjectMapper objectMapper;
+    private DevicesPayloadParser devicesPayloadParser;
+
+    @BeforeEach
+    public void init() throws Exception {
+        objectMapper = new ObjectMapper();
+        Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML("sagevue/model-mapping.yml", getClass());
+        Set<String> retainedFields = DevicesPayloadParser.collectReferencedFields(mapping);
+        devicesPayloadParser = new DevicesPayloadParser(objectMapper, retainedFields);
+    }
+
+    @Test
+    public void parseDevicesTest() throws Exception {
+        byte[] payload = generateDevicesPayload(10);
+        ObjectNode devices = parse(payload);
+        JsonNode device = devices.at("/TesiraDevices/0");
+
+        Assert.assertEquals(10, devices.withArray("TesiraDevices").size());
+        Assert.assertEquals("10000000", device.at("/SerialNumber").asText());
+        Assert.assertEquals("3.3.0.18", device.at("/FirmwareVersion").asText());
+        Assert.assertEquals(2, device.withArray("Faults").size());
+        // fields that are not used by the adapter are skipped
+        Assert.assertTrue(device.at("/Labels").isMissingNode());
+        Assert.assertTrue(device.at("/SystemDescription").isMissingNode());
+        Assert.assertFalse(devices.has("TesiraErrors"));
+    }
+
+    /**
+     * Compares the memory allocated by the whole-document path (payload String + json tree)
+     * and the streaming path for the same /devices payload. Total allocation is checked, not the peak heap usage
+     */
+    @Test
+    public void parseDevicesAllocationTest() throws Exception {
+        byte[] payload = generateDevicesPayload(10000);
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long treeAllocationStart = threadMXBean.getThreadAllocatedBytes(threadId);
+        JsonNode tree = objectMapper.readTree(new String(payload, StandardCharsets.UTF_8));
+        long treeAllocated = threadMXBean.getThreadAllocatedBytes(threadId) - treeAllocationStart;
+
+        long streamAllocationStart = threadMXBean.getThreadAllocatedBytes(threadId);
+        ObjectNode streamed = parse(payload);
+        long streamAllocated = threadMXBean.getThreadAllocatedBytes(threadId) - streamAllocationStart;
+
+        Assert.assertEquals(tree.withArray("TesiraDevices").size(), streamed.withArray("TesiraDevices").size());
+        Assert.assertTrue(streamAllocated < treeAllocated);
+    }
+
+    private ObjectNode parse(byte[] payload) throws Exception {
+        try (JsonParser parser = objectMapper.getFactory().createParser(new ByteArrayInputStream(payload))) {
+            return devicesPayloadParser.parse(parser);
+        }
+    }
+
+    /**
+     * Generate /devices payload with a given number of Tesira devices
+     *
+     * @param deviceCount number of devices to generate
+     * @return payload bytes
+     */
+    private byte[] generateDevicesPayload(int deviceCount) {
+        StringBuilder payload = new StringBuilder("{\"TesiraDevices\":[");
+        for (int i = 0; i < deviceCount; i++) {
+            if (i > 0) {
+                payload.append(",");
+            }
+            payload.append("{\"Model\":\"FORTE_VT\",\"ModelDescription\":\"TesiraFORTE AVB VT\",")
+                    .append("\"SystemDescription\":\"TesiraFORTE AVB-VT - Default Configuration ").append(10000000 + i).append("\",")
+                    .append("\"FirmwareVersion\":\"3.3.0.18\",\"OccupiedStatus\":\"\",\"AssetGroupId\":\"4a7a071b-7331-4849-b842-516bae6f395d\",")
+                    .append("\"IsControlled\":false,\"SystemId\":\"").append(10000000 + i).append("\",\"SerialNumber\":\"").append(10000000 + i).append("\",")
+                    .append("\"HostName\":\"TesiraForte").append(10000000 + i).append("\",\"Description\":\"\",\"IsProtected\":false,")
+                    .append("\"Faults\":[{\"FaultId\":\"123\",\"IndicatorId\":\"ERR\",\"Message\":\"Unable to get information\"},")
+                    .append("{\"FaultId\":\"456\",\"IndicatorId\":\"ERR2\",\"Message\":\"Unable to fetch information\"}],")
+                    .append("\"Status\":0,\"Labels\":[\"Room A\",\"Floor 2\"]}");
+        }
+        payload.append("],\"TesiraErrors\":[],\"DevioDevices\":[],\"DevioErrors\":[]}");
+        return payload.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+@Tag("test")
+public class FaultTrackerTest {
+    private static final String FAN_FAULT = "{\"FaultId\":\"12\",\"IndicatorId\":\"3\",\"Message\":\"Fan failure\"}";
+    private static final String POWER_FAULT = "{\"FaultId\":\"14\",\"IndicatorId\":\"1\",\"Message\":\"Power supply failure\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void faultTransitionsTest() throws Exception {
+        FaultTracker faultTracker = new FaultTracker(16);
+        ObjectNode deviceNode = device(FAN_FAULT);
+        faultTracker.update("03275657", deviceNode, 1000);
+        Assert.assertEquals("12|3:Fan failure\n", deviceNode.get("Faults").asText());
+        Assert.assertEquals(1, deviceNode.get("ActiveFaultCount").asInt());
+        Assert.assertEquals("1970-01-01T00:00:01Z", deviceNode.get("FaultFirstSeen").asText());
+        Assert.assertEquals(1, deviceNode.get("FaultsPerHour").asInt());
+
+        deviceNode = device(FAN_FAULT, POWER_FAULT);
+        faultTracker.update("03275657", deviceNode, 2000);
+        Assert.assertEquals(2, deviceNode.get("ActiveFaultCount").asInt());
+
+        deviceNode = device(POWER_FAULT);
+        faultTracker.update("03275657", deviceNode, 3000);
+        Assert.assertEquals(1, deviceNode.get("ActiveFaultCount").asInt());
+        Assert.assertEquals("1970-01-01T00:00:03Z CLOSE 12|3\n1970-01-01T00:00:02Z OPEN 14|1\n1970-01-01T00:00:01Z OPEN 12|3\n",
+                deviceNode.get("FaultHistory").asText());
+
+        deviceNode = device();
+        faultTracker.update("03275657", deviceNode, 4000);
+        Assert.assertEquals(0, deviceNode.get("ActiveFaultCount").asInt());
+        Assert.assertEquals(0, deviceNode.get("Faults").size());
+        Assert.assertEquals("1970-01-01T00:00:01Z", deviceNode.get("FaultFirstSeen").asText());
+        // opened faults age out of the hourly rate, a minute at a time
+        deviceNode = device();
+        faultTracker.update("03275657", deviceNode, 3599000);
+        Assert.assertEquals(2, deviceNode.get("FaultsPerHour").asInt());
+        deviceNode = device();
+        faultTracker.update("03275657", deviceNode, 3600000 + 1500);
+        Assert.assertEquals(0, deviceNode.get("FaultsPerHour").asInt());
+
+        // devices that have never reported faults have no fault state
+        deviceNode = device();
+        faultTracker.update("03275658", deviceNode, 1000);
+        Assert.assertFalse(deviceNode.has("ActiveFaultCount"));
+    }
+
+    @Test
+    public void boundedHistoryTest() throws Exception {
+        FaultTracker faultTracker = new FaultTracker(4);
+        for (int i = 0; i < 10; i++) {
+            faultTracker.update("03275657", i % 2 == 0 ? device(FAN_FAULT) : device(), i * 1000);
+        }
+        ObjectNode deviceNode = device();
+        faultTracker.update("03275657", deviceNode, 10000);
+        // only the last 4 transitions are kept, while the hourly rate counts all the faults opened
+        Assert.assertEquals(4, deviceNode.get("FaultHistory").asText().split("\n").length);
+        Assert.assertTrue(deviceNode.get("FaultHistory").asText().startsWith("1970-01-01T00:00:09Z CLOSE 12|3"));
+        Assert.assertEquals(5, deviceNode.get("FaultsPerHour").asInt());
+
+        // faults opened over the hour are counted in the minutes they were opened in
+        for (int i = 0; i < 120; i++) {
+            faultTracker.update("03275657", i % 2 == 0 ? device(FAN_FAULT) : device(), 60000 + i * 30000);
+        }
+        deviceNode = device();
+        faultTracker.update("03275657", deviceNode, 60000 + 120 * 30000);
+        Assert.assertEquals(59, deviceNode.get("FaultsPerHour").asInt());
+    }
+
+    @Test
+    public void statisticsTest() throws Exception {
+        FaultTracker faultTracker = new FaultTracker(16);
+        faultTracker.update("03275657", device(FAN_FAULT, POWER_FAULT), 1000);
+        faultTracker.update("03275658", device(FAN_FAULT), 1000);
+        faultTracker.update("03275658", device(), 2000);
+        faultTracker.update("03275659", device(), 2000);
+
+        Map<String, String> statistics = faultTracker.getStatistics(3000);
+        Assert.assertEquals("2", statistics.get("Faults#ActiveFaults"));
+        Assert.assertEquals("1", statistics.get("Faults#FaultyDevices"));
+        Assert.assertEquals("3", statistics.get("Faults#OpenedLastHour"));
+        Assert.assertEquals("2", statistics.get("Faults#MaxDeviceFaultsPerHour"));
+
+        faultTracker.retainAll(Collections.singleton("03275658"));
+        Assert.assertEquals("0", faultTracker.getStatistics(3000).get("Faults#ActiveFaults"));
+        Assert.assertEquals("1", faultTracker.getStatistics(3000).get("Faults#OpenedLastHour"));
+    }
+
+    private ObjectNode device(String... faults) throws Exception {
+        return (ObjectNode) objectMapper.readTree("{\"SerialNumber\":\"03275657\",\"Faults\":[" + String.join(",", faults) + "]}");
+    }
+}
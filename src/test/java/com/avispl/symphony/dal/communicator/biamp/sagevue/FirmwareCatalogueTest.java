@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("test")
+public class FirmwareCatalogueTest {
+
+    @Test
+    public void concurrentLoadTest() throws Exception {
+        CountDownLatch slowModelRequested = new CountDownLatch(1);
+        CountDownLatch slowModelReleased = new CountDownLatch(1);
+        AtomicInteger slowModelRequests = new AtomicInteger();
+        FirmwareCatalogue firmwareCatalogue = new FirmwareCatalogue(model -> {
+            if ("TESIRA".equals(model)) {
+                slowModelRequests.incrementAndGet();
+                slowModelRequested.countDown();
+                try {
+                    slowModelReleased.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Collections.singletonList("4.0.0.1");
+        }, Runnable::run, TimeUnit.HOURS.toMillis(1));
+
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            Future<String> slowModel = executorService.submit(() -> firmwareCatalogue.getAvailableFirmwareVersions("TESIRA", "3.3.0.18"));
+            Assert.assertTrue(slowModelRequested.await(10, TimeUnit.SECONDS));
+            Future<String> sameModel = executorService.submit(() -> firmwareCatalogue.getAvailableFirmwareVersions("TESIRA", "3.3.0.18"));
+
+            // other models are not held back by the model that is being loaded
+            Assert.assertEquals("4.0.0.1,3.3.0.18", sortedVersions(executorService.submit(() ->
+                    firmwareCatalogue.getAvailableFirmwareVersions("PARLE", "3.3.0.18")).get(10, TimeUnit.SECONDS)));
+            Assert.assertFalse(slowModel.isDone());
+
+            slowModelReleased.countDown();
+            Assert.assertEquals("4.0.0.1,3.3.0.18", sortedVersions(slowModel.get(10, TimeUnit.SECONDS)));
+            Assert.assertEquals("4.0.0.1,3.3.0.18", sortedVersions(sameModel.get(10, TimeUnit.SECONDS)));
+            // concurrent callers for the same model share a single load
+            Assert.assertEquals(1, slowModelRequests.get());
+            Assert.assertEquals(2, firmwareCatalogue.getFirmwareVersions().size());
+        } finally {
+            slowModelReleased.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * @param firmwareVersions comma-separated firmware versions
+     * @return firmware versions in descending order, to compare them regardless of the set order
+     */
+    private static String sortedVersions(String firmwareVersions) {
+        String[] versions = firmwareVersions.split(",");
+        Arrays.sort(versions, Collections.reverseOrder());
+        return String.join(",", versions);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+@Tag("test")
+public class FirmwareRolloutTest {
+
+    @Test
+    public void wavesTest() {
+        FirmwareRollout firmwareRollout = new FirmwareRollout(2, 0, 0, 1, 60000);
+        firmwareRollout.enqueue("1", "Tesira", "1", "3.4.0.18");
+        firmwareRollout.enqueue("2", "Tesira", "1", "3.4.0.18");
+        firmwareRollout.enqueue("3", "Atom", "2", "2.9.0.219");
+        Assert.assertEquals("3", firmwareRollout.getStatistics().get("FirmwareRollout#QueuedDevices"));
+        Assert.assertEquals("2", firmwareRollout.getStatistics().get("FirmwareRollout#RemainingWaves"));
+
+        Map<String, Map<String, List<String>>> updates = firmwareRollout.startUpdates(0);
+        Assert.assertEquals(Arrays.asList("1", "2"), updates.get("Tesira").get("3.4.0.18"));
+        Assert.assertEquals(2, firmwareRollout.getUpdatingDevices().size());
+        // the next wave waits for the current one to settle
+        Assert.assertTrue(firmwareRollout.startUpdates(1000).isEmpty());
+
+        firmwareRollout.recordStatus("1", "3.3.0.18", "Updating Firmware");
+        firmwareRollout.recordStatus("1", "3.4.0.18", "");
+        // devices that have not started updating yet are tracked further
+        firmwareRollout.recordStatus("2", "3.3.0.18", "");
+        Assert.assertEquals(1, firmwareRollout.getUpdatingDevices().size());
+        firmwareRollout.recordStatus("2", "3.4.0.18", "");
+
+        updates = firmwareRollout.startUpdates(2000);
+        Assert.assertEquals(Arrays.asList("3"), updates.get("Atom").get("2.9.0.219"));
+        Map<String, String> statistics = firmwareRollout.getStatistics();
+        Assert.assertEquals("2", statistics.get("FirmwareRollout#Wave"));
+        Assert.assertEquals("2", statistics.get("FirmwareRollout#SucceededDevices"));
+        Assert.assertEquals("1", statistics.get("FirmwareRollout#WaveUpdatingDevices"));
+
+        firmwareRollout.recordStatus("3", "2.9.0.219", "");
+        Assert.assertTrue(firmwareRollout.startUpdates(3000).isEmpty());
+        statistics = firmwareRollout.getStatistics();
+        Assert.assertEquals("COMPLETED", statistics.get("FirmwareRollout#State"));
+        Assert.assertEquals("0", statistics.get("FirmwareRollout#WaveUpdatingDevices"));
+    }
+
+    @Test
+    public void concurrencyLimitsTest() {
+        FirmwareRollout firmwareRollout = new FirmwareRollout(10, 2, 1, 0, 60000);
+        firmwareRollout.enqueue("1", "Tesira", "1", "3.4.0.18");
+        firmwareRollout.enqueue("2", "Tesira", "1", "3.4.0.18");
+        firmwareRollout.enqueue("3", "Tesira", "2", "3.4.0.18");
+        firmwareRollout.enqueue("4", "Tesira", "3", "3.4.0.18");
+        firmwareRollout.enqueue("5", "Atom", null, "2.9.0.219");
+
+        Map<String, Map<String, List<String>>> updates = firmwareRollout.startUpdates(0);
+        // one device per system, two devices per model
+        Assert.assertEquals(Arrays.asList("1", "3"), updates.get("Tesira").get("3.4.0.18"));
+        Assert.assertEquals(Arrays.asList("5"), updates.get("Atom").get("2.9.0.219"));
+
+        firmwareRollout.recordStatus("1", "3.4.0.18", "");
+        updates = firmwareRollout.startUpdates(1000);
+        Assert.assertEquals(Arrays.asList("2"), updates.get("Tesira").get("3.4.0.18"));
+        Assert.assertEquals(1, updates.size());
+    }
+
+    @Test
+    public void failureThresholdTest() {
+        FirmwareRollout firmwareRollout = new FirmwareRollout(2, 1, 0, 1, 60000);
+        for (int i = 1; i <= 6; i++) {
+            firmwareRollout.enqueue(String.valueOf(i), "Tesira", null, "3.4.0.18");
+        }
+        firmwareRollout.startUpdates(0);
+        firmwareRollout.recordStatus("1", "3.3.0.18", "Updating Firmware");
+        // the update is over, but the device runs a different version
+        firmwareRollout.recordStatus("1", "3.3.0.18", "");
+
+        Assert.assertEquals("HALTED", firmwareRollout.getStatistics().get("FirmwareRollout#State"));
+        Assert.assertTrue(firmwareRollout.startUpdates(1000).isEmpty());
+        Map<String, String> statistics = firmwareRollout.getStatistics();
+        Assert.assertEquals("1", statistics.get("FirmwareRollout#FailedDevices"));
+        Assert.assertEquals("5", statistics.get("FirmwareRollout#SkippedDevices"));
+        Assert.assertEquals("0", statistics.get("FirmwareRollout#RemainingWaves"));
+
+        // updates requested after the halt start a new rollout
+        Assert.assertTrue(firmwareRollout.enqueue("2", "Tesira", null, "3.4.0.18"));
+        Assert.assertEquals("IN_PROGRESS", firmwareRollout.getStatistics().get("FirmwareRollout#State"));
+        Assert.assertEquals(Arrays.asList("2"), firmwareRollout.startUpdates(2000).get("Tesira").get("3.4.0.18"));
+        Assert.assertEquals("1", firmwareRollout.getStatistics().get("FirmwareRollout#Wave"));
+        Assert.assertFalse(firmwareRollout.enqueue("2", "Tesira", null, "3.5.0.1"));
+    }
+
+    @Test
+    public void updateTimeoutTest() {
+        FirmwareRollout firmwareRollout = new FirmwareRollout(5, 0, 0, 2, 10000);
+        firmwareRollout.enqueue("1", "Tesira", null, "3.4.0.18");
+        firmwareRollout.enqueue("2", "Tesira", null, "3.4.0.18");
+        firmwareRollout.startUpdates(0);
+        firmwareRollout.recordFailure("1");
+        Assert.assertEquals("IN_PROGRESS", firmwareRollout.getStatistics().get("FirmwareRollout#State"));
+
+        firmwareRollout.expireUpdates(5000);
+        Assert.assertEquals(1, firmwareRollout.getUpdatingDevices().size());
+        firmwareRollout.expireUpdates(10001);
+        Assert.assertEquals("HALTED", firmwareRollout.getStatistics().get("FirmwareRollout#State"));
+        Assert.assertEquals("2", firmwareRollout.getStatistics().get("FirmwareRollout#WaveFailedDevices"));
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Tag("test")
+public class RequestSchedulerTest {
+
+    @Test
+    public void priorityOrderTest() throws Exception {
+        RequestScheduler requestScheduler = new RequestScheduler(1, 0, 0);
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            CountDownLatch blocking = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            Future<?> blockingRequest = executorService.submit(() -> requestScheduler.execute(RequestScheduler.Priority.DETAIL, () -> {
+                started.countDown();
+                return blocking.await(10, TimeUnit.SECONDS);
+            }));
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            List<RequestScheduler.Priority> order = Collections.synchronizedList(new ArrayList<>());
+            List<Future<?>> requests = new ArrayList<>();
+            for (RequestScheduler.Priority priority : new RequestScheduler.Priority[]{RequestScheduler.Priority.FIRMWARE,
+                    RequestScheduler.Priority.DETAIL, RequestScheduler.Priority.ROLLOUT, RequestScheduler.Priority.LIST,
+                    RequestScheduler.Priority.CONTROL}) {
+                requests.add(executorService.submit(() -> requestScheduler.execute(priority, () -> order.add(priority))));
+                waitForQueueDepth(requestScheduler, requests.size());
+            }
+            Assert.assertEquals("1", requestScheduler.getStatistics().get("RequestScheduler#InFlightRequests"));
+
+            blocking.countDown();
+            blockingRequest.get(10, TimeUnit.SECONDS);
+            for (Future<?> request : requests) {
+                request.get(10, TimeUnit.SECONDS);
+            }
+            Assert.assertEquals(Arrays.asList(RequestScheduler.Priority.CONTROL, RequestScheduler.Priority.LIST,
+                    RequestScheduler.Priority.ROLLOUT, RequestScheduler.Priority.DETAIL, RequestScheduler.Priority.FIRMWARE), order);
+
+            Map<String, String> statistics = requestScheduler.getStatistics();
+            Assert.assertEquals("0", statistics.get("RequestScheduler#QueueDepth"));
+            Assert.assertEquals("5", statistics.get("RequestScheduler#MaxQueueDepth"));
+            Assert.assertEquals("1", statistics.get("RequestScheduler#RolloutRequests"));
+            Assert.assertEquals("2", statistics.get("RequestScheduler#DetailRequests"));
+            Assert.assertEquals("1", statistics.get("RequestScheduler#ControlRequests"));
+            Assert.assertTrue(Long.parseLong(statistics.get("RequestScheduler#FirmwareWaitP99Ms")) > 0);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void loginRequestTest() throws Exception {
+        RequestScheduler requestScheduler = new RequestScheduler(1, 0, 0);
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            CountDownLatch blocking = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            Future<?> blockingRequest = executorService.submit(() -> requestScheduler.execute(RequestScheduler.Priority.CONTROL, () -> {
+                started.countDown();
+                return blocking.await(10, TimeUnit.SECONDS);
+            }));
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+            Future<?> detailsRequest = executorService.submit(() -> requestScheduler.execute(RequestScheduler.Priority.DETAIL, () -> "details"));
+            waitForQueueDepth(requestScheduler, 1);
+
+            // login requests are not held back by the requests in flight
+            Assert.assertEquals("login", executorService.submit(() -> requestScheduler.execute(RequestScheduler.Priority.LOGIN, () -> "login"))
+                    .get(10, TimeUnit.SECONDS));
+            Assert.assertFalse(detailsRequest.isDone());
+
+            blocking.countDown();
+            blockingRequest.get(10, TimeUnit.SECONDS);
+            Assert.assertEquals("details", detailsRequest.get(10, TimeUnit.SECONDS));
+
+            // requests issued from within a scheduled request are issued right away
+            Assert.assertEquals("nested", requestScheduler.execute(RequestScheduler.Priority.CONTROL,
+                    () -> requestScheduler.execute(RequestScheduler.Priority.DETAIL, () -> "nested")));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void rateLimitTest() throws Exception {
+        AtomicLong clock = new AtomicLong();
+        RequestScheduler requestScheduler = new RequestScheduler(8, 20, 5, clock::get);
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            // 5 requests are started at once
+            AtomicInteger requestCount = new AtomicInteger();
+            for (int i = 0; i < 5; i++) {
+                requestScheduler.execute(RequestScheduler.Priority.LIST, requestCount::incrementAndGet);
+            }
+            Assert.assertEquals(5, requestCount.get());
+            Assert.assertEquals("0", requestScheduler.getStatistics().get("RequestScheduler#ThrottledRequests"));
+
+            // the next ones wait for a token, refilled at 20 requests per second
+            Future<Integer> throttledRequest = executorService.submit(() -> requestScheduler.execute(RequestScheduler.Priority.LIST,
+                    requestCount::incrementAndGet));
+            waitForQueueDepth(requestScheduler, 1);
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(49));
+            Thread.sleep(100);
+            Assert.assertFalse(throttledRequest.isDone());
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            Assert.assertEquals(6, throttledRequest.get(10, TimeUnit.SECONDS).intValue());
+
+            // the bucket is full again after a while without requests, but holds no more than the burst size
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+            for (int i = 0; i < 5; i++) {
+                requestScheduler.execute(RequestScheduler.Priority.LIST, requestCount::incrementAndGet);
+            }
+            Future<Integer> nextThrottledRequest = executorService.submit(() -> requestScheduler.execute(RequestScheduler.Priority.LIST,
+                    requestCount::incrementAndGet));
+            waitForQueueDepth(requestScheduler, 1);
+            Assert.assertFalse(nextThrottledRequest.isDone());
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+            Assert.assertEquals(12, nextThrottledRequest.get(10, TimeUnit.SECONDS).intValue());
+
+            Map<String, String> statistics = requestScheduler.getStatistics();
+            Assert.assertEquals("2", statistics.get("RequestScheduler#ThrottledRequests"));
+            Assert.assertEquals("12", statistics.get("RequestScheduler#ListRequests"));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void agedRequestTest() throws Exception {
+        AtomicLong clock = new AtomicLong();
+        RequestScheduler requestScheduler = new RequestScheduler(1, 0, 0, clock::get);
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            CountDownLatch blocking = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            Future<?> blockingRequest = executorService.submit(() -> requestScheduler.execute(RequestScheduler.Priority.CONTROL, () -> {
+                started.countDown();
+                return blocking.await(10, TimeUnit.SECONDS);
+            }));
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            List<RequestScheduler.Priority> order = Collections.synchronizedList(new ArrayList<>());
+            List<Future<?>> requests = new ArrayList<>();
+            requests.add(executorService.submit(() -> requestScheduler.execute(RequestScheduler.Priority.FIRMWARE,
+                    () -> order.add(RequestScheduler.Priority.FIRMWARE))));
+            waitForQueueDepth(requestScheduler, 1);
+            clock.addAndGet(RequestScheduler.AGING_THRESHOLD_NANOS + TimeUnit.SECONDS.toNanos(1));
+            for (int i = 0; i < 6; i++) {
+                requests.add(executorService.submit(() -> requestScheduler.execute(RequestScheduler.Priority.CONTROL,
+                        () -> order.add(RequestScheduler.Priority.CONTROL))));
+                waitForQueueDepth(requestScheduler, requests.size());
+            }
+            // the starving request shows up in the statistics while it's still waiting
+            Map<String, String> statistics = requestScheduler.getStatistics();
+            Assert.assertTrue(Long.parseLong(statistics.get("RequestScheduler#FirmwareWaitMaxMs")) > 10000);
+            Assert.assertEquals("0", statistics.get("RequestScheduler#ControlWaitMaxMs"));
+
+            blocking.countDown();
+            blockingRequest.get(10, TimeUnit.SECONDS);
+            for (Future<?> request : requests) {
+                request.get(10, TimeUnit.SECONDS);
+            }
+            // the aged request takes one of every 4 starts, the controls queued after it keep the others
+            Assert.assertEquals(Arrays.asList(RequestScheduler.Priority.CONTROL, RequestScheduler.Priority.CONTROL,
+                    RequestScheduler.Priority.FIRMWARE, RequestScheduler.Priority.CONTROL, RequestScheduler.Priority.CONTROL,
+                    RequestScheduler.Priority.CONTROL, RequestScheduler.Priority.CONTROL), order);
+            Assert.assertTrue(Long.parseLong(requestScheduler.getStatistics().get("RequestScheduler#FirmwareWaitMaxMs")) > 10000);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static void waitForQueueDepth(RequestScheduler requestScheduler, int queueDepth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!String.valueOf(queueDepth).equals(requestScheduler.getStatistics().get("RequestScheduler#QueueDepth"))) {
+            Assert.assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.communicator.HttpCommunicator;
+import com.avispl.symphony.dal.communicator.RestCommunicator;
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests of the adapter against a small {@link SageVueSimulator} fleet, covering the request sequences
+ * that can't be stubbed with static responses.
+ */
+@Tag("test")
+public class SageVueCommunicatorSimulatorTest {
+
+    @Test
+    public void batchControlsDeviceOrderTest() throws Exception {
+        SimulatedFleet fleet = SimulatedFleet.generate(20, 4, 0, 0, 1);
+        try (SageVueSimulator simulator = new SageVueSimulator(fleet)) {
+            simulator.setEndpointLatency(SageVueSimulator.Endpoint.FIRMWARE_UPDATE, 300);
+            SageVueCommunicator communicator = createCommunicator(simulator);
+            communicator.setBatchControls(true);
+            communicator.init();
+            try {
+                waitForDevices(communicator, 20);
+                List<ControllableProperty> controls = new ArrayList<>();
+                List<String> updatedDevices = new ArrayList<>();
+                for (SimulatedFleet.Device device : fleet.getDevices()) {
+                    if ("Atom".equals(device.getDeviceType())) {
+                        updatedDevices.add(device.getSerialNumber());
+                        controls.add(createControl(device.getSerialNumber(), "AvailableFirmwareVersions", "2.3.0.185"));
+                        controls.add(createControl(device.getSerialNumber(), "FirmwareUpdate", "1"));
+                        controls.add(createControl(device.getSerialNumber(), "Reboot", "1"));
+                    }
+                }
+                simulator.resetRequestCounts();
+                communicator.controlProperties(controls);
+
+                // firmware updates are still batched, and each device is rebooted only after its firmware update is requested
+                Assert.assertEquals(1, simulator.getRequestCount(SageVueSimulator.Endpoint.FIRMWARE_UPDATE));
+                Assert.assertEquals(updatedDevices.size(), simulator.getRequestCount(SageVueSimulator.Endpoint.REBOOT));
+                List<String> requestLog = simulator.getRequestLog();
+                int firmwareUpdateIndex = indexOf(requestLog, SageVueSimulator.Endpoint.FIRMWARE_UPDATE, "");
+                for (String serialNumber : updatedDevices) {
+                    Assert.assertTrue(indexOf(requestLog, SageVueSimulator.Endpoint.REBOOT, serialNumber) > firmwareUpdateIndex);
+                }
+            } finally {
+                communicator.destroy();
+            }
+        }
+    }
+
+    @Test
+    public void clientErrorNotRetriedTest() throws Exception {
+        SimulatedFleet fleet = SimulatedFleet.generate(20, 4, 0, 0, 1);
+        try (SageVueSimulator simulator = new SageVueSimulator(fleet)) {
+            SageVueCommunicator communicator = createCommunicator(simulator);
+            communicator.init();
+            try {
+                waitForDevices(communicator, 20);
+                String serialNumber = fleet.getDevices().iterator().next().getSerialNumber();
+                simulator.setEndpointErrorRate(SageVueSimulator.Endpoint.REBOOT, 1);
+                for (int status : new int[]{404, 409}) {
+                    simulator.setEndpointErrorStatus(SageVueSimulator.Endpoint.REBOOT, status);
+                    simulator.resetRequestCounts();
+                    try {
+                        communicator.controlProperty(createControl(serialNumber, "Reboot", "1"));
+                        Assert.fail("Reboot is expected to fail with " + status);
+                    } catch (CommandFailureException e) {
+                        Assert.assertEquals(status, e.getStatusCode());
+                    }
+                    Assert.assertEquals(1, simulator.getRequestCount(SageVueSimulator.Endpoint.REBOOT));
+                    Assert.assertEquals(0, simulator.getRequestCount(SageVueSimulator.Endpoint.LOGIN));
+                }
+
+                // requests rejected because of the session are retried with a new one
+                simulator.setEndpointErrorRate(SageVueSimulator.Endpoint.REBOOT, 0);
+                simulator.expireSessions();
+                simulator.resetRequestCounts();
+                communicator.controlProperty(createControl(serialNumber, "Reboot", "1"));
+                Assert.assertEquals(2, simulator.getRequestCount(SageVueSimulator.Endpoint.REBOOT));
+                Assert.assertEquals(1, simulator.getRequestCount(SageVueSimulator.Endpoint.LOGIN));
+            } finally {
+                communicator.destroy();
+            }
+        }
+    }
+
+    @Test
+    public void pooledTransportTest() throws Exception {
+        SimulatedFleet fleet = SimulatedFleet.generate(20, 4, 0, 0, 1);
+        try (SageVueSimulator simulator = new SageVueSimulator(fleet)) {
+            SageVueCommunicator communicator = createCommunicator(simulator);
+            communicator.setEnableCompression(true);
+            communicator.setControlRequestTimeout(500);
+            communicator.init();
+            try {
+                waitForDevices(communicator, 20);
+                String serialNumber = fleet.getDevices().iterator().next().getSerialNumber();
+                RestTemplate restTemplate = communicator.obtainRestTemplate();
+                Assert.assertTrue(restTemplate.getInterceptors().stream().anyMatch(RestCommunicator.GzipHttpRequestInterceptor.class::isInstance));
+
+                // requests compression does not disable the per endpoint class timeouts
+                simulator.setEndpointLatency(SageVueSimulator.Endpoint.REBOOT, 2000);
+                try {
+                    communicator.controlProperty(createControl(serialNumber, "Reboot", "1"));
+                    Assert.fail("Reboot is expected to time out");
+                } catch (ResourceNotReachableException e) {
+                    Assert.assertTrue(e.getCause() instanceof ResourceAccessException);
+                }
+                simulator.setEndpointLatency(SageVueSimulator.Endpoint.REBOOT, 0);
+
+                // a request rejected with 401 does not close the pooled http client
+                restTemplate = communicator.obtainRestTemplate();
+                simulator.expireSessions();
+                communicator.controlProperty(createControl(serialNumber, "Reboot", "1"));
+                Assert.assertSame(restTemplate, communicator.obtainRestTemplate());
+            } finally {
+                communicator.destroy();
+            }
+        }
+    }
+
+    @Test
+    public void multipleServersTest() throws Exception {
+        SimulatedFleet fleet = SimulatedFleet.generate(20, 4, 0, 0, 1);
+        SimulatedFleet memberFleet = SimulatedFleet.generate(10, 2, 0, 0, 2);
+        try (SageVueSimulator simulator = new SageVueSimulator(fleet); SageVueSimulator memberSimulator = new SageVueSimulator(memberFleet)) {
+            String memberServerId = "127.0.0.1:" + memberSimulator.getPort();
+            SageVueCommunicator communicator = createCommunicator(simulator);
+            communicator.setServers("http://" + memberServerId);
+            communicator.init();
+            try {
+                // devices of the additional server are reported with the server id, exactly once
+                List<AggregatedDevice> devices = waitForDevices(communicator, 30);
+                Assert.assertEquals(10, devices.stream().filter(device -> device.getDeviceId().startsWith(memberServerId + "/")).count());
+                Thread.sleep(2500);
+                devices = communicator.retrieveMultipleStatistics();
+                Assert.assertEquals(10, devices.stream().filter(device -> device.getDeviceId().startsWith(memberServerId + "/")
+                        && device.getDeviceId().indexOf('/') == device.getDeviceId().lastIndexOf('/')).count());
+
+                // controls of the additional server devices are sent to that server only
+                String serialNumber = memberFleet.getDevices().iterator().next().getSerialNumber();
+                simulator.resetRequestCounts();
+                memberSimulator.resetRequestCounts();
+                communicator.controlProperty(createControl(memberServerId + "/" + serialNumber, "Reboot", "1"));
+                Assert.assertEquals(0, simulator.getRequestCount(SageVueSimulator.Endpoint.REBOOT));
+                Assert.assertEquals(1, memberSimulator.getRequestCount(SageVueSimulator.Endpoint.REBOOT));
+                Assert.assertTrue(indexOf(memberSimulator.getRequestLog(), SageVueSimulator.Endpoint.REBOOT, serialNumber) >= 0);
+
+                // systems of the main server are reported when the additional server fails to provide its systems
+                memberSimulator.setEndpointErrorRate(SageVueSimulator.Endpoint.SYSTEMS, 1);
+                Map<String, String> statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+                Assert.assertFalse("OK".equals(statistics.get("Server " + memberServerId + "#Status")));
+                Assert.assertTrue(statistics.keySet().stream().anyMatch(name -> name.startsWith("System ") && !name.contains(memberServerId)));
+
+                memberSimulator.setEndpointErrorRate(SageVueSimulator.Endpoint.SYSTEMS, 0);
+                statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+                Assert.assertEquals("OK", statistics.get("Server " + memberServerId + "#Status"));
+                Assert.assertTrue(statistics.keySet().stream().anyMatch(name -> name.startsWith("System " + memberServerId + "/")));
+            } finally {
+                communicator.destroy();
+            }
+        }
+    }
+
+    @Test
+    public void stalledServerIsolationTest() throws Exception {
+        SimulatedFleet fleet = SimulatedFleet.generate(20, 4, 0, 0, 1);
+        SimulatedFleet memberFleet = SimulatedFleet.generate(10, 2, 0, 0, 2);
+        try (SageVueSimulator simulator = new SageVueSimulator(fleet); SageVueSimulator memberSimulator = new SageVueSimulator(memberFleet)) {
+            // device details of the additional server are stalled for longer than the main server is waited for
+            memberSimulator.setEndpointLatency(SageVueSimulator.Endpoint.DEVICE_DETAILS, 60000);
+            SageVueCommunicator communicator = createCommunicator(simulator);
+            communicator.setServers("http://127.0.0.1:" + memberSimulator.getPort());
+            communicator.setDeviceDetailsThreadCount(2);
+            communicator.init();
+            try {
+                // the stalled server holds its own worker threads only, so the main server devices are still enriched
+                long endTime = System.currentTimeMillis() + 30000;
+                while (simulator.getRequestCount(SageVueSimulator.Endpoint.DEVICE_DETAILS) < 20 && System.currentTimeMillis() < endTime) {
+                    Thread.sleep(100);
+                }
+                Assert.assertEquals(20, simulator.getRequestCount(SageVueSimulator.Endpoint.DEVICE_DETAILS));
+                long memberDeviceDetailsRequests = memberSimulator.getRequestCount(SageVueSimulator.Endpoint.DEVICE_DETAILS);
+                Assert.assertTrue("Member server device details requests " + memberDeviceDetailsRequests,
+                        memberDeviceDetailsRequests > 0 && memberDeviceDetailsRequests <= 2);
+            } finally {
+                communicator.destroy();
+            }
+        }
+    }
+
+    @Test
+    public void circuitBreakerNotFoundTest() throws Exception {
+        SimulatedFleet fleet = SimulatedFleet.generate(20, 4, 0, 0, 1);
+        try (SageVueSimulator simulator = new SageVueSimulator(fleet)) {
+            SageVueCommunicator communicator = createCommunicator(simulator);
+            communicator.setReuseSystemsPayload(false);
+            communicator.setCircuitBreakerFailureThreshold(3);
+            communicator.init();
+            try {
+                waitForDevices(communicator, 20);
+                // removed devices do not open the device details route of their model
+                simulator.setEndpointErrorRate(SageVueSimulator.Endpoint.DEVICE_DETAILS, 1);
+                simulator.setEndpointErrorStatus(SageVueSimulator.Endpoint.DEVICE_DETAILS, 404);
+                simulator.resetRequestCounts();
+                long endTime = System.currentTimeMillis() + 30000;
+                while (simulator.getRequestCount(SageVueSimulator.Endpoint.DEVICE_DETAILS) < 40 && System.currentTimeMillis() < endTime) {
+                    Thread.sleep(100);
+                }
+                Map<String, String> statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+                Assert.assertTrue(statistics.keySet().stream().anyMatch(name -> name.startsWith("CircuitBreaker#devices/")));
+                Assert.assertEquals("0", statistics.get("CircuitBreaker#OpenRoutes"));
+
+                // a route that is expected to exist is opened by the repeated 404 responses
+                simulator.setEndpointErrorRate(SageVueSimulator.Endpoint.SYSTEMS, 1);
+                simulator.setEndpointErrorStatus(SageVueSimulator.Endpoint.SYSTEMS, 404);
+                simulator.resetRequestCounts();
+                for (int i = 0; i < 3; i++) {
+                    try {
+                        communicator.getMultipleStatistics();
+                        Assert.fail("Systems are expected to fail with 404");
+                    } catch (CommandFailureException e) {
+                        Assert.assertEquals(404, e.getStatusCode());
+                    }
+                }
+                try {
+                    communicator.getMultipleStatistics();
+                    Assert.fail("Systems circuit breaker is expected to be open");
+                } catch (ResourceNotReachableException e) {
+                    Assert.assertEquals(3, simulator.getRequestCount(SageVueSimulator.Endpoint.SYSTEMS));
+                }
+            } finally {
+                communicator.destroy();
+            }
+        }
+    }
+
+    private SageVueCommunicator createCommunicator(SageVueSimulator simulator) throws Exception {
+        SageVueCommunicator communicator = new SageVueCommunicator();
+        communicator.setProtocol("http");
+        communicator.setContentType("application/json");
+        communicator.setHost("127.0.0.1");
+        communicator.setPort(simulator.getPort());
+        communicator.setAuthenticationScheme(HttpCommunicator.AuthenticationScheme.Basic);
+        communicator.setLogin("Admin");
+        communicator.setPassword("1234");
+        communicator.setPollingInterval(1000);
+        communicator.setWarmStart(false);
+        return communicator;
+    }
+
+    private ControllableProperty createControl(String deviceId, String property, String value) {
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setDeviceId(deviceId);
+        controllableProperty.setProperty(property);
+        controllableProperty.setValue(value);
+        return controllableProperty;
+    }
+
+    private List<AggregatedDevice> waitForDevices(SageVueCommunicator communicator, int deviceCount) throws Exception {
+        long endTime = System.currentTimeMillis() + 30000;
+        List<AggregatedDevice> devices = communicator.retrieveMultipleStatistics();
+        while (devices.size() < deviceCount && System.currentTimeMillis() < endTime) {
+            Thread.sleep(100);
+            devices = communicator.retrieveMultipleStatistics();
+        }
+        Assert.assertEquals(deviceCount, devices.size());
+        return devices;
+    }
+
+    /**
+     * @return index of the first logged request of the endpoint, with the path containing the text, or -1 if there's none
+     */
+    private static int indexOf(List<String> requestLog, SageVueSimulator.Endpoint endpoint, String pathText) {
+        for (int i = 0; i < requestLog.size(); i++) {
+            String request = requestLog.get(i);
+            if (request.startsWith(endpoint + " ") && request.contains(pathText)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
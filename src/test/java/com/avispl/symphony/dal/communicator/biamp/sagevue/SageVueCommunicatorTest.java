@@ -5,27 +5,91 @@ package com.avispl.symphony.dal.communicator.biamp.sagevue;
 
 import com.atlassian.ta.wiremockpactgenerator.WireMockPactGenerator;
 import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
 import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
 import com.avispl.symphony.dal.communicator.HttpCommunicator;
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseTransformer;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.Response;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import org.junit.Assert;
 import org.junit.Rule;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
 
 @Tag("test")
 public class SageVueCommunicatorTest {
     static SageVueCommunicator sageVueCommunicator;
 
+    private final ConcurrencyRecorder concurrencyRecorder = new ConcurrencyRecorder();
+
     @Rule
-    public WireMockRule wireMockRule = new WireMockRule(options().dynamicPort().dynamicHttpsPort().bindAddress("127.0.0.1"));
+    public WireMockRule wireMockRule = new WireMockRule(options().dynamicPort().dynamicHttpsPort().bindAddress("127.0.0.1")
+            .containerThreads(32).extensions(concurrencyRecorder));
+
+    /**
+     * WireMock response transformer, that holds the responses for {@link #RESPONSE_DELAY} ms
+     * and records the peak number of requests served at once
+     */
+    private static class ConcurrencyRecorder extends ResponseTransformer {
+        private static final String NAME = "concurrency-recorder";
+        private static final long RESPONSE_DELAY = 200;
+
+        private final AtomicInteger concurrency = new AtomicInteger();
+        private final AtomicInteger peakConcurrency = new AtomicInteger();
+
+        @Override
+        public Response transform(Request request, Response response, FileSource files, Parameters parameters) {
+            peakConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(RESPONSE_DELAY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrency.decrementAndGet();
+            }
+            return response;
+        }
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public boolean applyGlobally() {
+            return false;
+        }
+
+        /**
+         * @return peak number of requests served at once
+         */
+        private int getPeakConcurrency() {
+            return peakConcurrency.get();
+        }
+    }
 
     {
         wireMockRule.addMockServiceRequestListener(WireMockPactGenerator
@@ -36,26 +100,231 @@ public class SageVueCommunicatorTest {
 
     @BeforeEach
     public void init() throws Exception {
-        sageVueCommunicator = new SageVueCommunicator();
-        sageVueCommunicator.setTrustAllCertificates(true);
-        sageVueCommunicator.setProtocol("http");
-        sageVueCommunicator.setContentType("application/json");
-        sageVueCommunicator.setPort(wireMockRule.port());
-        sageVueCommunicator.setHost("127.0.0.1");
-        sageVueCommunicator.setAuthenticationScheme(HttpCommunicator.AuthenticationScheme.Basic);
-        sageVueCommunicator.setLogin("Admin");
-        sageVueCommunicator.setPassword("1234");
+        sageVueCommunicator = createCommunicator();
         sageVueCommunicator.init();
     }
 
+    @AfterEach
+    public void destroy() {
+        sageVueCommunicator.destroy();
+    }
+
     @Test
     public void getDevicesTest() throws Exception {
-        List<AggregatedDevice> devices = sageVueCommunicator.retrieveMultipleStatistics();
+        List<AggregatedDevice> devices = waitForDevices(sageVueCommunicator, 1);
         Assert.assertFalse(devices.isEmpty());
         Assert.assertEquals("03275657", devices.get(0).getSerialNumber());
         Assert.assertEquals("172.31.254.129", devices.get(0).getProperties().get("ipAddress"));
         Assert.assertEquals(19, ((AdvancedControllableProperty.DropDown)devices.get(0).getControllableProperties().get(1).getType()).getOptions().length);
         Assert.assertEquals("123|ERR:Unable to get information\n456|ERR2:Unable to fetch information\n789|FWER:Firmware error\n", devices.get(0).getProperties().get("deviceFaults"));
         Assert.assertEquals("Rebooting", devices.get(0).getProperties().get("occupiedStatus"));
+        Assert.assertEquals("3", devices.get(0).getProperties().get("activeFaultCount"));
+        Assert.assertEquals("3", devices.get(0).getProperties().get("faultsPerHour"));
+        Assert.assertFalse("None".equals(devices.get(0).getProperties().get("faultFirstSeen")));
+        Assert.assertTrue(devices.get(0).getProperties().get("faultHistory").contains(" OPEN 123|ERR\n"));
+    }
+
+    @Test
+    public void getDevicesByIdTest() throws Exception {
+        waitForDevices(sageVueCommunicator, 1);
+        List<AggregatedDevice> devices = sageVueCommunicator.retrieveMultipleStatistics(Collections.singletonList("012345678"));
+        Assert.assertEquals(1, devices.size());
+        Assert.assertEquals("012345678", devices.get(0).getSerialNumber());
+    }
+
+    @Test
+    public void getDevicesFirmwareCatalogueTest() throws Exception {
+        waitForDevices(sageVueCommunicator, 1);
+        waitForCycles(sageVueCommunicator, 3);
+        List<AggregatedDevice> devices = sageVueCommunicator.retrieveMultipleStatistics();
+        // 2 Tesira devices in multiple poll cycles should only request Tesira firmware catalogue once
+        wireMockRule.verify(1, getRequestedFor(urlEqualTo("/biampsagevue/api/firmware/")));
+        Assert.assertEquals(19, ((AdvancedControllableProperty.DropDown)devices.get(0).getControllableProperties().get(1).getType()).getOptions().length);
+    }
+
+    @Test
+    public void getDevicesIncrementalRefreshTest() throws Exception {
+        sageVueCommunicator.destroy();
+        sageVueCommunicator = createCommunicator();
+        sageVueCommunicator.setIncrementalRefresh(true);
+        sageVueCommunicator.init();
+
+        List<AggregatedDevice> initialDevices = waitForDevices(sageVueCommunicator, 1);
+        waitForCycles(sageVueCommunicator, 3);
+        List<AggregatedDevice> devices = sageVueCommunicator.retrieveMultipleStatistics();
+        // device list has not changed between the cycles, so device details are only requested once
+        wireMockRule.verify(1, getRequestedFor(urlEqualTo("/biampsagevue/api/devices/03275657")));
+        Assert.assertEquals(initialDevices.size(), devices.size());
+        AggregatedDevice device = devices.stream().filter(aggregatedDevice -> "03275657".equals(aggregatedDevice.getSerialNumber())).findFirst().get();
+        Assert.assertEquals("172.31.254.129", device.getProperties().get("ipAddress"));
+    }
+
+    @Test
+    public void getMultipleStatisticsMetricsTest() throws Exception {
+        waitForDevices(sageVueCommunicator, 1);
+        Map<String, String> statistics = ((ExtendedStatistics) sageVueCommunicator.getMultipleStatistics().get(0)).getStatistics();
+        Assert.assertNotNull(statistics.get("AdapterVersion"));
+        Assert.assertNotNull(statistics.get("Endpoint#devices.p99"));
+        Assert.assertNotNull(statistics.get("Endpoint#devices/{id}.p50"));
+        Assert.assertNotNull(statistics.get("Endpoint#systems.Requests"));
+        // the session is created before the very first request, so nothing is rejected
+        Assert.assertEquals("1", statistics.get("Endpoint#login.Requests"));
+        Assert.assertEquals("0", statistics.get("Endpoint#devices.Errors"));
+        Assert.assertEquals("0", statistics.get("Monitoring#Reauthentications"));
+        Assert.assertNotNull(statistics.get("Monitoring#LastCycleDurationMs"));
+        Assert.assertNotNull(statistics.get("Monitoring#LockWaitP99Ms"));
+    }
+
+    @Test
+    public void getDevicesParallelEnrichmentTest() throws Exception {
+        int deviceCount = 64;
+        stubDevices(deviceCount);
+        wireMockRule.stubFor(get(urlPathMatching("/biampsagevue/api/devices/\\d+")).atPriority(1)
+                .willReturn(aResponse().withStatus(200).withTransformers(ConcurrencyRecorder.NAME)
+                        .withBody("{\"Device\":{\"IpAddress\":\"172.31.254.1\"}}")));
+
+        SageVueCommunicator communicator = createCommunicator();
+        communicator.init();
+        try {
+            List<AggregatedDevice> devices = waitForDevices(communicator, deviceCount);
+            Assert.assertEquals(deviceCount, devices.size());
+            devices.forEach(aggregatedDevice -> Assert.assertEquals("172.31.254.1", aggregatedDevice.getProperties().get("ipAddress")));
+        } finally {
+            communicator.destroy();
+        }
+        // device details are requested in parallel, by no more than deviceDetailsThreadCount workers
+        int peakConcurrency = concurrencyRecorder.getPeakConcurrency();
+        Assert.assertTrue("Peak concurrency " + peakConcurrency,
+                peakConcurrency > 1 && peakConcurrency <= communicator.getDeviceDetailsThreadCount());
+    }
+
+    @Test
+    public void controlPropertiesBatchTest() throws Exception {
+        int deviceCount = 20;
+        stubDevices(deviceCount);
+        wireMockRule.stubFor(put(urlEqualTo("/biampsagevue/api/Firmware/"))
+                .willReturn(aResponse().withStatus(200).withBody("{}")));
+        wireMockRule.stubFor(put(urlPathMatching("/biampsagevue/api/Devices/\\d+/Reboot"))
+                .willReturn(aResponse().withStatus(200).withTransformers(ConcurrencyRecorder.NAME).withBody("{}")));
+
+        SageVueCommunicator communicator = createCommunicator();
+        communicator.init();
+        try {
+            waitForDevices(communicator, deviceCount);
+            List<ControllableProperty> controls = new ArrayList<>();
+            for (int i = 0; i < deviceCount; i++) {
+                String deviceId = String.valueOf(10000000 + i);
+                controls.add(createControl(deviceId, "AvailableFirmwareVersions", "3.4.0.18"));
+                controls.add(createControl(deviceId, "FirmwareUpdate", "1"));
+                controls.add(createControl(deviceId, "Reboot", "1"));
+            }
+            communicator.controlProperties(controls);
+
+            // same model and firmware version - a single firmware update request for all the devices
+            wireMockRule.verify(1, putRequestedFor(urlEqualTo("/biampsagevue/api/Firmware/")));
+            wireMockRule.verify(deviceCount, putRequestedFor(urlPathMatching("/biampsagevue/api/Devices/\\d+/Reboot")));
+            // reboots are requested in parallel, by no more than maxConcurrentControls threads
+            int peakConcurrency = concurrencyRecorder.getPeakConcurrency();
+            Assert.assertTrue("Peak concurrency " + peakConcurrency,
+                    peakConcurrency > 1 && peakConcurrency <= communicator.getMaxConcurrentControls());
+        } finally {
+            communicator.destroy();
+        }
+    }
+
+    /**
+     * Create a device control
+     *
+     * @param deviceId id of the device to control
+     * @param property controllable property name
+     * @param value controllable property value
+     * @return ControllableProperty instance
+     */
+    private ControllableProperty createControl(String deviceId, String property, String value) {
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setDeviceId(deviceId);
+        controllableProperty.setProperty(property);
+        controllableProperty.setValue(value);
+        return controllableProperty;
+    }
+
+    /**
+     * Stub /devices endpoint with a given number of Tesira devices
+     *
+     * @param deviceCount number of devices to generate
+     */
+    private void stubDevices(int deviceCount) {
+        StringBuilder devicesPayload = new StringBuilder("{\"TesiraDevices\":[");
+        for (int i = 0; i < deviceCount; i++) {
+            if (i > 0) {
+                devicesPayload.append(",");
+            }
+            devicesPayload.append("{\"Model\":\"FORTE_VT\",\"ModelDescription\":\"TesiraFORTE AVB VT\",\"FirmwareVersion\":\"3.3.0.18\",")
+                    .append("\"OccupiedStatus\":\"\",\"IsControlled\":false,\"IsProtected\":false,\"Faults\":[],\"Status\":0,")
+                    .append("\"SystemId\":\"").append(10000000 + i).append("\",\"SerialNumber\":\"").append(10000000 + i).append("\"}");
+        }
+        devicesPayload.append("]}");
+        wireMockRule.stubFor(get(urlEqualTo("/biampsagevue/api/devices")).atPriority(1)
+                .willReturn(aResponse().withStatus(200).withBody(devicesPayload.toString())));
+    }
+
+    /**
+     * Create SageVueCommunicator instance, pointing to the WireMock server
+     *
+     * @return configured communicator, that is not initialized yet
+     */
+    private SageVueCommunicator createCommunicator() throws Exception {
+        SageVueCommunicator communicator = new SageVueCommunicator();
+        communicator.setTrustAllCertificates(true);
+        communicator.setProtocol("http");
+        communicator.setContentType("application/json");
+        communicator.setPort(wireMockRule.port());
+        communicator.setHost("127.0.0.1");
+        communicator.setAuthenticationScheme(HttpCommunicator.AuthenticationScheme.Basic);
+        communicator.setLogin("Admin");
+        communicator.setPassword("1234");
+        communicator.setPollingInterval(1000);
+        return communicator;
+    }
+
+    /**
+     * Devices are collected in the background, so wait for the collection cycle to publish the devices
+     *
+     * @param communicator communicator to retrieve devices from
+     * @param deviceCount minimum number of devices to wait for
+     * @return list of collected devices
+     */
+    private List<AggregatedDevice> waitForDevices(SageVueCommunicator communicator, int deviceCount) throws Exception {
+        long deadline = System.currentTimeMillis() + 30000;
+        List<AggregatedDevice> devices = communicator.retrieveMultipleStatistics();
+        while (devices.size() < deviceCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            devices = communicator.retrieveMultipleStatistics();
+        }
+        return devices;
+    }
+
+    /**
+     * Keep reading the devices, the way Symphony does, until the collection cycles are completed
+     *
+     * @param communicator communicator to retrieve devices from
+     * @param cycleCount minimum number of completed collection cycles to wait for
+     */
+    private void waitForCycles(SageVueCommunicator communicator, int cycleCount) throws Exception {
+        long deadline = System.currentTimeMillis() + 30000;
+        while (getCycleCount(communicator) < cycleCount) {
+            Assert.assertTrue("Collection cycles were not completed in time", System.currentTimeMillis() < deadline);
+            communicator.retrieveMultipleStatistics();
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * @param communicator communicator to get the statistics of
+     * @return number of completed collection cycles
+     */
+    private long getCycleCount(SageVueCommunicator communicator) throws Exception {
+        Map<String, String> statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+        return Long.parseLong(statistics.get("Monitoring#Cycles"));
     }
 }
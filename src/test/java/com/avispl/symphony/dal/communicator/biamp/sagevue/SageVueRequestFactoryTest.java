@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.net.URI;
+
+@Tag("test")
+public class SageVueRequestFactoryTest {
+
+    @Test
+    public void endpointClassTimeoutsTest() {
+        SageVueRequestFactory requestFactory = new SageVueRequestFactory(HttpClients.createDefault(), 1000, 60000, 10000, 30000);
+
+        RequestConfig devicesConfig = requestFactory.retrieveRequestConfig(HttpMethod.GET, "/biampsagevue/api/devices");
+        Assert.assertEquals(1000, devicesConfig.getConnectTimeout());
+        Assert.assertEquals(60000, devicesConfig.getSocketTimeout());
+        Assert.assertEquals(60000, requestFactory.retrieveRequestConfig(HttpMethod.GET, "/biampsagevue/api/Systems").getSocketTimeout());
+        Assert.assertEquals(10000, requestFactory.retrieveRequestConfig(HttpMethod.GET, "/biampsagevue/api/devices/10000001").getSocketTimeout());
+        Assert.assertEquals(10000, requestFactory.retrieveRequestConfig(HttpMethod.GET, "/biampsagevue/api/firmware/Tesira").getSocketTimeout());
+        Assert.assertEquals(30000, requestFactory.retrieveRequestConfig(HttpMethod.POST, "/biampsagevue/api/login").getSocketTimeout());
+        Assert.assertEquals(30000, requestFactory.retrieveRequestConfig(HttpMethod.PUT, "/biampsagevue/api/Devices/10000001/Reboot").getSocketTimeout());
+    }
+
+    @Test
+    public void connectionRequestTimeoutTest() {
+        SageVueRequestFactory requestFactory = new SageVueRequestFactory(HttpClients.createDefault(), 1000, 60000, 10000, 30000);
+
+        // waiting for a pooled connection is limited by the read timeout of the endpoint class
+        Assert.assertEquals(60000, requestFactory.retrieveRequestConfig(HttpMethod.GET, "/biampsagevue/api/devices").getConnectionRequestTimeout());
+        Assert.assertEquals(10000, requestFactory.retrieveRequestConfig(HttpMethod.GET, "/biampsagevue/api/devices/10000001").getConnectionRequestTimeout());
+        Assert.assertEquals(30000, requestFactory.retrieveRequestConfig(HttpMethod.PUT, "/biampsagevue/api/Devices/10000001/Reboot").getConnectionRequestTimeout());
+        Assert.assertEquals(1000, requestFactory.retrieveRequestConfig(HttpMethod.PUT, "/biampsagevue/api/Devices/10000001/Reboot").getConnectTimeout());
+    }
+
+    @Test
+    public void requestContextTest() {
+        SageVueRequestFactory requestFactory = new SageVueRequestFactory(HttpClients.createDefault(), 1000, 60000, 10000, 30000);
+
+        HttpClientContext devicesContext = (HttpClientContext) requestFactory.createHttpContext(HttpMethod.GET,
+                URI.create("http://127.0.0.1/biampsagevue/api/devices"));
+        HttpClientContext rebootContext = (HttpClientContext) requestFactory.createHttpContext(HttpMethod.PUT,
+                URI.create("http://127.0.0.1/biampsagevue/api/Devices/10000001/Reboot"));
+        Assert.assertEquals(60000, devicesContext.getRequestConfig().getSocketTimeout());
+        Assert.assertEquals(30000, rebootContext.getRequestConfig().getSocketTimeout());
+        // concurrent requests never share the connection state
+        Assert.assertNotSame(devicesContext, requestFactory.createHttpContext(HttpMethod.GET, URI.create("http://127.0.0.1/biampsagevue/api/devices")));
+    }
+}
@@ -0,0 +1,573 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local SageVue server for load, soak and failure-injection testing of the adapter.
+ * Serves all the endpoints the adapter uses out of a {@link SimulatedFleet}: login, /devices, device details,
+ * /firmware catalogues, /systems, device reboot, firmware update and system protect/unprotect.
+ * Sessions are validated on every request and expire after {@link #sessionLifetime}, so the adapter has to re-login.
+ * Latency (base, jitter and per-endpoint, to simulate slow endpoints) and error rates (global and per-endpoint)
+ * are injected before a request is handled.
+ * Served exchanges can be recorded and saved to a json file; when an upstream server is set, requests are proxied to it,
+ * so real SageVue traffic is captured. A saved recording is replayed instead of the simulated fleet, with the same
+ * latency and error injection.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+final class SageVueSimulator implements AutoCloseable {
+    /**
+     * SageVue endpoints served by the simulator
+     */
+    enum Endpoint {
+        LOGIN, DEVICES, DEVICE_DETAILS, FIRMWARE, SYSTEMS, REBOOT, FIRMWARE_UPDATE, PROTECT_SYSTEM, UNPROTECT_SYSTEM, UNKNOWN
+    }
+
+    private static final String BASE_URL = "/biampsagevue/api/";
+    private static final int REQUEST_LOG_SIZE = 10000;
+
+    static {
+        // the JDK server delays small responses on keep-alive connections otherwise
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimulatedFleet fleet;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private volatile String login = "Admin";
+    private volatile String password = "1234";
+    /**
+     * Time (ms) a session stays valid after login, 0 or less for sessions that never expire
+     */
+    private volatile long sessionLifetime;
+    /**
+     * Container for "loginId:loginTimestamp" pairs
+     */
+    private final Map<String, Long> sessions = new ConcurrentHashMap<>();
+
+    private volatile long latency;
+    private volatile long latencyJitter;
+    private final Map<Endpoint, Long> endpointLatencies = new ConcurrentHashMap<>();
+    private volatile double errorRate;
+    private final Map<Endpoint, Double> endpointErrorRates = new ConcurrentHashMap<>();
+    /**
+     * Container for "endpoint:responseStatus" pairs of the failed requests, 500 if not set
+     */
+    private final Map<Endpoint, Integer> endpointErrorStatuses = new ConcurrentHashMap<>();
+
+    private final Map<Endpoint, LongAdder> requestCounts = new EnumMap<>(Endpoint.class);
+    /**
+     * "endpoint path" of the last {@link #REQUEST_LOG_SIZE} requests served, in the order they were received
+     */
+    private final Deque<String> requestLog = new ArrayDeque<>();
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final AtomicInteger maxActiveRequests = new AtomicInteger();
+
+    /**
+     * Base url of a real SageVue server to proxy the requests to, e.g. https://sagevue.local
+     */
+    private volatile String upstreamUrl;
+    private volatile boolean recording;
+    private final List<ObjectNode> recordedExchanges = new ArrayList<>();
+    /**
+     * Container for "method path:exchanges" pairs of the replayed recording, null if nothing is replayed
+     */
+    private volatile Map<String, List<JsonNode>> replayedExchanges;
+    private final Map<String, AtomicInteger> replayPositions = new ConcurrentHashMap<>();
+
+    /**
+     * Start a simulator on a random local port
+     *
+     * @param fleet fleet to serve, may be null if only recordings are replayed
+     * @throws IOException if the server could not be started
+     */
+    SageVueSimulator(SimulatedFleet fleet) throws IOException {
+        this.fleet = fleet;
+        for (Endpoint endpoint : Endpoint.values()) {
+            requestCounts.put(endpoint, new LongAdder());
+        }
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "SageVueSimulator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * @return port the simulator listens on
+     */
+    int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Set credentials the login requests are validated with
+     *
+     * @param login user name
+     * @param password user password
+     */
+    void setCredentials(String login, String password) {
+        this.login = login;
+        this.password = password;
+    }
+
+    /**
+     * Sets {@link #sessionLifetime} value
+     *
+     * @param sessionLifetime new value of {@link #sessionLifetime}
+     */
+    void setSessionLifetime(long sessionLifetime) {
+        this.sessionLifetime = sessionLifetime;
+    }
+
+    /**
+     * Invalidate all the sessions, so every next request is rejected until the adapter logs in again
+     */
+    void expireSessions() {
+        sessions.clear();
+    }
+
+    /**
+     * Set latency added to every response
+     *
+     * @param latency base latency (ms)
+     * @param latencyJitter max random latency (ms) added to the base latency
+     */
+    void setLatency(long latency, long latencyJitter) {
+        this.latency = latency;
+        this.latencyJitter = latencyJitter;
+    }
+
+    /**
+     * Set additional latency of an endpoint, to simulate a slow endpoint
+     *
+     * @param endpoint endpoint to slow down
+     * @param endpointLatency latency (ms) added to the endpoint responses
+     */
+    void setEndpointLatency(Endpoint endpoint, long endpointLatency) {
+        endpointLatencies.put(endpoint, endpointLatency);
+    }
+
+    /**
+     * Set share of the requests failed with a 500 response. Login requests are not failed, unless set per endpoint.
+     *
+     * @param errorRate share (0..1) of the failed requests
+     */
+    void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * Set share of the endpoint requests failed with a 500 response (or {@link #setEndpointErrorStatus(Endpoint, int)}),
+     * overriding the global error rate
+     *
+     * @param endpoint endpoint to fail
+     * @param endpointErrorRate share (0..1) of the failed requests
+     */
+    void setEndpointErrorRate(Endpoint endpoint, double endpointErrorRate) {
+        endpointErrorRates.put(endpoint, endpointErrorRate);
+    }
+
+    /**
+     * Set response status of the failed endpoint requests, instead of 500
+     *
+     * @param endpoint endpoint to fail
+     * @param endpointErrorStatus response status, e.g. 404 or 409
+     */
+    void setEndpointErrorStatus(Endpoint endpoint, int endpointErrorStatus) {
+        endpointErrorStatuses.put(endpoint, endpointErrorStatus);
+    }
+
+    /**
+     * @param endpoint endpoint to get the request count of
+     * @return number of requests of the endpoint, including rejected and failed ones
+     */
+    long getRequestCount(Endpoint endpoint) {
+        return requestCounts.get(endpoint).sum();
+    }
+
+    /**
+     * @return total number of requests
+     */
+    long getRequestCount() {
+        return requestCounts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * @return "endpoint path" of the last requests served, in the order they were received
+     */
+    List<String> getRequestLog() {
+        synchronized (requestLog) {
+            return new ArrayList<>(requestLog);
+        }
+    }
+
+    /**
+     * @return max number of requests served at the same time
+     */
+    int getMaxActiveRequests() {
+        return maxActiveRequests.get();
+    }
+
+    /**
+     * Reset request counters
+     */
+    void resetRequestCounts() {
+        requestCounts.values().forEach(LongAdder::reset);
+        synchronized (requestLog) {
+            requestLog.clear();
+        }
+        maxActiveRequests.set(activeRequests.get());
+    }
+
+    /**
+     * Proxy the requests to a real SageVue server instead of serving the simulated fleet,
+     * e.g. to record its traffic. Certificates of https servers have to be trusted by the JVM.
+     *
+     * @param upstreamUrl base url of the server, e.g. https://sagevue.local, or null to stop proxying
+     */
+    void setUpstreamUrl(String upstreamUrl) {
+        this.upstreamUrl = upstreamUrl;
+    }
+
+    /**
+     * Start recording the served exchanges, dropping the previous recording
+     */
+    void startRecording() {
+        synchronized (recordedExchanges) {
+            recordedExchanges.clear();
+            recording = true;
+        }
+    }
+
+    /**
+     * Stop recording and save the recorded exchanges
+     *
+     * @param recordingFile file to save the exchanges to
+     * @throws IOException if the file could not be written
+     */
+    void saveRecording(Path recordingFile) throws IOException {
+        ArrayNode exchanges = objectMapper.createArrayNode();
+        synchronized (recordedExchanges) {
+            recording = false;
+            exchanges.addAll(recordedExchanges);
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(recordingFile.toFile(), exchanges);
+    }
+
+    /**
+     * Replay recorded exchanges instead of serving the simulated fleet.
+     * Exchanges are matched by method and path, the exchanges recorded for the same request are replayed in turn.
+     *
+     * @param recordingFile file with the recorded exchanges
+     * @throws IOException if the file could not be read
+     */
+    void replay(Path recordingFile) throws IOException {
+        Map<String, List<JsonNode>> exchanges = new ConcurrentHashMap<>();
+        try (InputStream inputStream = Files.newInputStream(recordingFile)) {
+            objectMapper.readTree(inputStream).forEach(exchange ->
+                    exchanges.computeIfAbsent(exchangeKey(exchange.path("Method").asText(), exchange.path("Path").asText()),
+                            key -> new ArrayList<>()).add(exchange));
+        }
+        replayPositions.clear();
+        replayedExchanges = exchanges;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int active = activeRequests.incrementAndGet();
+        maxActiveRequests.accumulateAndGet(active, Math::max);
+        try {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            byte[] requestBody = readFully(exchange.getRequestBody());
+            Endpoint endpoint = resolveEndpoint(method, path);
+            requestCounts.get(endpoint).increment();
+            synchronized (requestLog) {
+                if (requestLog.size() == REQUEST_LOG_SIZE) {
+                    requestLog.removeFirst();
+                }
+                requestLog.addLast(endpoint + " " + path);
+            }
+            injectLatency(endpoint);
+
+            Response response;
+            Double endpointErrorRate = endpointErrorRates.get(endpoint);
+            double failureRate = endpointErrorRate != null ? endpointErrorRate : endpoint == Endpoint.LOGIN ? 0 : errorRate;
+            if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                response = new Response(endpointErrorStatuses.getOrDefault(endpoint, 500), "{\"Message\":\"Simulated failure\"}");
+            } else if (upstreamUrl != null) {
+                response = proxy(exchange, requestBody);
+            } else if (replayedExchanges != null) {
+                response = replay(exchange, endpoint, method, path);
+            } else {
+                response = simulate(exchange, endpoint, path, requestBody);
+            }
+            if (recording) {
+                ObjectNode recordedExchange = objectMapper.createObjectNode().put("Method", method).put("Path", path)
+                        .put("Status", response.status).put("Body", response.body);
+                synchronized (recordedExchanges) {
+                    if (recording) {
+                        recordedExchanges.add(recordedExchange);
+                    }
+                }
+            }
+            send(exchange, response);
+        } catch (Exception e) {
+            send(exchange, new Response(500, "{\"Message\":\"" + e.getClass().getSimpleName() + "\"}"));
+        } finally {
+            activeRequests.decrementAndGet();
+        }
+    }
+
+    /**
+     * Serve the request out of the simulated fleet
+     */
+    private Response simulate(HttpExchange exchange, Endpoint endpoint, String path, byte[] requestBody) throws IOException {
+        if (endpoint == Endpoint.LOGIN) {
+            JsonNode credentials = objectMapper.readTree(requestBody).path("credentials");
+            if (!login.equals(credentials.path("userName").asText()) || !password.equals(credentials.path("password").asText())) {
+                return new Response(401, "{\"Message\":\"Invalid credentials\"}");
+            }
+            String loginId = UUID.randomUUID().toString();
+            sessions.put(loginId, System.currentTimeMillis());
+            return new Response(200, "{\"LoginId\":\"" + loginId + "\",\"Role\":\"Administrator\"}");
+        }
+        if (!hasValidSession(exchange)) {
+            return new Response(401, "{\"Message\":\"Session has expired\"}");
+        }
+        if (fleet == null || endpoint == Endpoint.UNKNOWN) {
+            return new Response(404, "{\"Message\":\"Not found\"}");
+        }
+        String[] segments = path.substring(BASE_URL.length()).split("/");
+        switch (endpoint) {
+            case DEVICES:
+                return new Response(200, objectMapper.writeValueAsString(fleet.devicesPayload()));
+            case DEVICE_DETAILS:
+                return jsonResponse(fleet.deviceDetailsPayload(segments[segments.length - 1]));
+            case FIRMWARE:
+                return new Response(200, objectMapper.writeValueAsString(fleet.firmwarePayload(segments.length > 1 ? segments[1] : "Tesira")));
+            case SYSTEMS:
+                return new Response(200, objectMapper.writeValueAsString(fleet.systemsPayload(true)));
+            case REBOOT:
+                return fleet.reboot(segments[segments.length - 2]) ? new Response(200, "{\"Rebooted\":true}") : new Response(404, "{\"Message\":\"Device not found\"}");
+            case FIRMWARE_UPDATE:
+                JsonNode firmwareUpdate = objectMapper.readTree(requestBody).path("firmwareUpdate");
+                List<String> serialNumbers = new ArrayList<>();
+                firmwareUpdate.path("devices").forEach(device -> serialNumbers.add(device.path("deviceSerialNumber").asText()));
+                int updatedCount = fleet.updateFirmware(serialNumbers, firmwareUpdate.path("firmwareVersion").asText());
+                return new Response(200, "{\"UpdatedDevices\":" + updatedCount + "}");
+            case PROTECT_SYSTEM:
+            case UNPROTECT_SYSTEM:
+                boolean protect = endpoint == Endpoint.PROTECT_SYSTEM;
+                if (!fleet.setSystemProtected(segments[1], protect)) {
+                    return new Response(404, "{\"Message\":\"System not found\"}");
+                }
+                return new Response(200, protect ? "{\"Protected\":true}" : "{\"Unprotected\":true}");
+            default:
+                return new Response(404, "{\"Message\":\"Not found\"}");
+        }
+    }
+
+    /**
+     * Serve the request out of the replayed recording. Recorded login ids are registered as sessions,
+     * so the session lifetime applies to the replayed traffic as well.
+     */
+    private Response replay(HttpExchange exchange, Endpoint endpoint, String method, String path) throws IOException {
+        if (endpoint != Endpoint.LOGIN && !sessions.isEmpty() && !hasValidSession(exchange)) {
+            return new Response(401, "{\"Message\":\"Session has expired\"}");
+        }
+        String key = exchangeKey(method, path);
+        List<JsonNode> exchanges = replayedExchanges.get(key);
+        if (exchanges == null) {
+            return new Response(404, "{\"Message\":\"Not recorded\"}");
+        }
+        JsonNode recordedExchange = exchanges.get(replayPositions.computeIfAbsent(key, k -> new AtomicInteger())
+                .getAndIncrement() % exchanges.size());
+        Response response = new Response(recordedExchange.path("Status").asInt(), recordedExchange.path("Body").asText());
+        if (endpoint == Endpoint.LOGIN && response.status == 200) {
+            sessions.put(objectMapper.readTree(response.body).path("LoginId").asText(), System.currentTimeMillis());
+        }
+        return response;
+    }
+
+    /**
+     * Forward the request to the upstream server
+     */
+    private Response proxy(HttpExchange exchange, byte[] requestBody) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(upstreamUrl + exchange.getRequestURI()).openConnection();
+        connection.setRequestMethod(exchange.getRequestMethod());
+        connection.setRequestProperty("Content-Type", "application/json");
+        String sessionId = exchange.getRequestHeaders().getFirst("SessionID");
+        if (sessionId != null) {
+            connection.setRequestProperty("SessionID", sessionId);
+        }
+        if (requestBody.length > 0) {
+            connection.setDoOutput(true);
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                outputStream.write(requestBody);
+            }
+        }
+        int status = connection.getResponseCode();
+        InputStream responseStream = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        String body = responseStream == null ? "" : new String(readFully(responseStream), StandardCharsets.UTF_8);
+        connection.disconnect();
+        return new Response(status, body);
+    }
+
+    private boolean hasValidSession(HttpExchange exchange) {
+        String sessionId = exchange.getRequestHeaders().getFirst("SessionID");
+        Long loginTimestamp = sessionId == null ? null : sessions.get(sessionId);
+        if (loginTimestamp == null) {
+            return false;
+        }
+        if (sessionLifetime > 0 && System.currentTimeMillis() - loginTimestamp > sessionLifetime) {
+            sessions.remove(sessionId);
+            return false;
+        }
+        return true;
+    }
+
+    private void injectLatency(Endpoint endpoint) throws InterruptedException {
+        long delay = latency + endpointLatencies.getOrDefault(endpoint, 0L);
+        if (latencyJitter > 0) {
+            delay += ThreadLocalRandom.current().nextLong(latencyJitter + 1);
+        }
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+    }
+
+    private Response jsonResponse(JsonNode payload) throws IOException {
+        return payload == null ? new Response(404, "{\"Message\":\"Device not found\"}") : new Response(200, objectMapper.writeValueAsString(payload));
+    }
+
+    /**
+     * Resolve the endpoint of the request, matching the paths case-insensitively, as SageVue does
+     */
+    static Endpoint resolveEndpoint(String method, String path) {
+        String lowerCasePath = path.toLowerCase();
+        if (!lowerCasePath.startsWith(BASE_URL)) {
+            return Endpoint.UNKNOWN;
+        }
+        String[] segments = lowerCasePath.substring(BASE_URL.length()).split("/");
+        boolean get = "GET".equals(method);
+        switch (segments[0]) {
+            case "login":
+                return "POST".equals(method) ? Endpoint.LOGIN : Endpoint.UNKNOWN;
+            case "devices":
+                if (segments.length == 1) {
+                    return get ? Endpoint.DEVICES : Endpoint.UNKNOWN;
+                }
+                if ("reboot".equals(segments[segments.length - 1])) {
+                    return "PUT".equals(method) ? Endpoint.REBOOT : Endpoint.UNKNOWN;
+                }
+                return get && segments.length <= 3 ? Endpoint.DEVICE_DETAILS : Endpoint.UNKNOWN;
+            case "firmware":
+                return get ? Endpoint.FIRMWARE : "PUT".equals(method) ? Endpoint.FIRMWARE_UPDATE : Endpoint.UNKNOWN;
+            case "systems":
+                if (segments.length == 1) {
+                    return get ? Endpoint.SYSTEMS : Endpoint.UNKNOWN;
+                }
+                if (segments.length == 3 && "PUT".equals(method)) {
+                    return "protect".equals(segments[2]) ? Endpoint.PROTECT_SYSTEM : "unprotect".equals(segments[2]) ? Endpoint.UNPROTECT_SYSTEM : Endpoint.UNKNOWN;
+                }
+                return Endpoint.UNKNOWN;
+            default:
+                return Endpoint.UNKNOWN;
+        }
+    }
+
+    private static String exchangeKey(String method, String path) {
+        return method + " " + path.toLowerCase();
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressedBody = new ByteArrayOutputStream();
+            try (GZIPOutputStream outputStream = new GZIPOutputStream(compressedBody)) {
+                outputStream.write(body);
+            }
+            body = compressedBody.toByteArray();
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static byte[] readFully(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) > 0) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Response status and body
+     */
+    private static final class Response {
+        private final int status;
+        private final String body;
+
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
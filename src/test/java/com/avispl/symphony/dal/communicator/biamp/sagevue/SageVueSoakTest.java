@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.communicator.HttpCommunicator;
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Soak tests of the adapter against the {@link SageVueSimulator}, run with ``` mvn test -P soak ```.
+ * Fleet size, test duration and the asserted ceilings are set with the soak.* system properties.
+ */
+@Tag("soak")
+public class SageVueSoakTest {
+    private static final int DEVICE_COUNT = Integer.getInteger("soak.deviceCount", 5000);
+    private static final long DURATION = Long.getLong("soak.duration", 60000);
+    private static final long MAX_CYCLE_DURATION = Long.getLong("soak.maxCycleDuration", 20000);
+    private static final long MAX_HEAP_MB = Long.getLong("soak.maxHeapMb", 512);
+
+    @Test
+    public void pollLargeFleetTest() throws Exception {
+        SimulatedFleet fleet = SimulatedFleet.generate(DEVICE_COUNT, 4, 0.1, 0.02, 1);
+        try (SageVueSimulator simulator = new SageVueSimulator(fleet)) {
+            simulator.setLatency(5, 20);
+            SageVueCommunicator communicator = createCommunicator(simulator);
+            communicator.setIncrementalRefresh(true);
+            communicator.init();
+            try {
+                waitForDevices(communicator, DEVICE_COUNT);
+                long heapAfterFirstCycle = usedHeapMb();
+                long maxCycleDuration = soak(communicator, DURATION);
+                long heapAtEnd = usedHeapMb();
+
+                Map<String, String> statistics = getStatistics(communicator);
+                long cycles = Long.parseLong(statistics.get("Monitoring#Cycles"));
+                Assert.assertTrue(cycles > 1);
+                Assert.assertEquals("0", statistics.get("Monitoring#FailedCycles"));
+                Assert.assertTrue("Cycle took " + maxCycleDuration + "ms", maxCycleDuration <= MAX_CYCLE_DURATION);
+                Assert.assertTrue("Heap used " + heapAtEnd + "MB", heapAtEnd <= MAX_HEAP_MB);
+                Assert.assertTrue("Heap grew from " + heapAfterFirstCycle + "MB to " + heapAtEnd + "MB", heapAtEnd <= heapAfterFirstCycle * 2 + 32);
+
+                // a single session, the list is requested once per cycle, details and firmware catalogues are requested once
+                Assert.assertEquals(1, simulator.getRequestCount(SageVueSimulator.Endpoint.LOGIN));
+                Assert.assertTrue(simulator.getRequestCount(SageVueSimulator.Endpoint.DEVICES) <= cycles + 1);
+                Assert.assertTrue(simulator.getRequestCount(SageVueSimulator.Endpoint.DEVICE_DETAILS) <= DEVICE_COUNT);
+                Assert.assertTrue(simulator.getRequestCount(SageVueSimulator.Endpoint.FIRMWARE) <= SimulatedFleet.DEVICE_TYPES.length);
+                Assert.assertEquals(0, simulator.getRequestCount(SageVueSimulator.Endpoint.UNKNOWN));
+            } finally {
+                communicator.destroy();
+            }
+        }
+    }
+
+    @Test
+    public void sessionExpiryTest() throws Exception {
+        SimulatedFleet fleet = SimulatedFleet.generate(1000, 4, 0.1, 0, 2);
+        try (SageVueSimulator simulator = new SageVueSimulator(fleet)) {
+            simulator.setLatency(2, 5);
+            simulator.setSessionLifetime(3000);
+            SageVueCommunicator communicator = createCommunicator(simulator);
+            communicator.init();
+            try {
+                waitForDevices(communicator, 1000);
+                soak(communicator, Math.min(DURATION, 15000));
+                simulator.expireSessions();
+                soak(communicator, 3000);
+
+                Map<String, String> statistics = getStatistics(communicator);
+                Assert.assertTrue(Long.parseLong(statistics.get("Monitoring#Reauthentications")) > 0);
+                Assert.assertTrue(simulator.getRequestCount(SageVueSimulator.Endpoint.LOGIN) > 1);
+                // concurrent requests rejected with the same session share a single login request
+                Assert.assertTrue(simulator.getRequestCount(SageVueSimulator.Endpoint.LOGIN)
+                        <= Long.parseLong(statistics.get("Monitoring#Cycles")) + 2);
+                Assert.assertEquals(1000, communicator.retrieveMultipleStatistics().size());
+            } finally {
+                communicator.destroy();
+            }
+        }
+    }
+
+    @Test
+    public void failureInjectionTest() throws Exception {
+        SimulatedFleet fleet = SimulatedFleet.generate(1000, 1, 0.2, 0.05, 3);
+        try (SageVueSimulator simulator = new SageVueSimulator(fleet)) {
+            simulator.setLatency(5, 50);
+            simulator.setEndpointErrorRate(SageVueSimulator.Endpoint.DEVICE_DETAILS, 0.05);
+            simulator.setEndpointLatency(SageVueSimulator.Endpoint.FIRMWARE, 2000);
+            SageVueCommunicator communicator = createCommunicator(simulator);
+            communicator.setReuseSystemsPayload(false);
+            communicator.init();
+            try {
+                waitForDevices(communicator, 1000);
+                long maxCycleDuration = soak(communicator, Math.min(DURATION, 15000));
+
+                Assert.assertTrue("Cycle took " + maxCycleDuration + "ms", maxCycleDuration <= MAX_CYCLE_DURATION);
+                Assert.assertEquals(1000, communicator.retrieveMultipleStatistics().size());
+                Map<String, String> statistics = getStatistics(communicator);
+                Assert.assertTrue(Long.parseLong(statistics.get("Endpoint#devices/{id}.Errors")) > 0);
+                Assert.assertEquals("0", statistics.get("Endpoint#devices.Errors"));
+            } finally {
+                communicator.destroy();
+            }
+        }
+    }
+
+    @Test
+    public void cycleDeadlineTest() throws Exception {
+        SimulatedFleet fleet = SimulatedFleet.generate(1000, 1, 0.1, 0, 6);
+        try (SageVueSimulator simulator = new SageVueSimulator(fleet)) {
+            simulator.setLatency(5, 10);
+            simulator.setEndpointLatency(SageVueSimulator.Endpoint.DEVICE_DETAILS, 300);
+            simulator.setEndpointErrorRate(SageVueSimulator.Endpoint.FIRMWARE, 1);
+            SageVueCommunicator communicator = createCommunicator(simulator);
+            communicator.setReuseSystemsPayload(false);
+            communicator.setCycleDeadline(3000);
+            communicator.setCircuitBreakerFailureThreshold(1);
+            communicator.init();
+            try {
+                waitForDevices(communicator, 1000);
+                long maxCycleDuration = soak(communicator, Math.min(DURATION, 10000));
+
+                // stalled device details do not hold the cycle past the deadline, devices are still reported
+                Assert.assertTrue("Cycle took " + maxCycleDuration + "ms", maxCycleDuration <= 3000 + 2000);
+                Assert.assertEquals(1000, communicator.retrieveMultipleStatistics().size());
+                Map<String, String> statistics = getStatistics(communicator);
+                Assert.assertTrue(Long.parseLong(statistics.get("Monitoring#DeadlineExceededCycles")) > 0);
+                Assert.assertEquals("0", statistics.get("Monitoring#FailedCycles"));
+                Assert.assertEquals("OPEN", statistics.get("CircuitBreaker#firmware/Dynasound.State"));
+                Assert.assertTrue(simulator.getRequestCount(SageVueSimulator.Endpoint.FIRMWARE) <= SimulatedFleet.DEVICE_TYPES.length * 2);
+            } finally {
+                communicator.destroy();
+            }
+        }
+    }
+
+    @Test
+    public void firmwareUpdateUnderLoadTest() throws Exception {
+        SimulatedFleet fleet = SimulatedFleet.generate(DEVICE_COUNT, 4, 0.1, 0, 4);
+        fleet.setTransitionTime(3000);
+        try (SageVueSimulator simulator = new SageVueSimulator(fleet)) {
+            simulator.setLatency(5, 20);
+            simulator.setEndpointLatency(SageVueSimulator.Endpoint.FIRMWARE_UPDATE, 200);
+            SageVueCommunicator communicator = createCommunicator(simulator);
+            communicator.setAdaptivePolling(true);
+            communicator.init();
+            try {
+                waitForDevices(communicator, DEVICE_COUNT);
+                List<ControllableProperty> controls = new ArrayList<>();
+                List<String> updatedDevices = new ArrayList<>();
+                for (SimulatedFleet.Device device : fleet.getDevices()) {
+                    if ("Atom".equals(device.getDeviceType()) && updatedDevices.size() < 100) {
+                        updatedDevices.add(device.getSerialNumber());
+                        controls.add(createControl(device.getSerialNumber(), "AvailableFirmwareVersions", "2.9.0.219"));
+                        controls.add(createControl(device.getSerialNumber(), "FirmwareUpdate", "1"));
+                    }
+                }
+                communicator.controlProperties(controls);
+                // devices of the same model and version are updated with a single request
+                Assert.assertEquals(1, simulator.getRequestCount(SageVueSimulator.Endpoint.FIRMWARE_UPDATE));
+                soak(communicator, 6000);
+
+                for (String serialNumber : updatedDevices) {
+                    Assert.assertEquals("2.9.0.219", fleet.getDevice(serialNumber).getFirmwareVersion());
+                    Assert.assertEquals("", fleet.getDevice(serialNumber).getOccupiedStatus());
+                }
+            } finally {
+                communicator.destroy();
+            }
+        }
+    }
+
+    @Test
+    public void firmwareRolloutTest() throws Exception {
+        SimulatedFleet fleet = SimulatedFleet.generate(500, 4, 0.1, 0, 7);
+        fleet.setTransitionTime(1000);
+        try (SageVueSimulator simulator = new SageVueSimulator(fleet)) {
+            simulator.setLatency(5, 10);
+            SageVueCommunicator communicator = createCommunicator(simulator);
+            communicator.setFirmwareRolloutWaveSize(10);
+            communicator.setFirmwareRolloutMaxConcurrentPerModel(5);
+            communicator.setFirmwareRolloutMaxConcurrentPerSystem(1);
+            communicator.setFirmwareRolloutPollingInterval(500);
+            communicator.setFirmwareUpdateTimeout(5000);
+            communicator.init();
+            try {
+                waitForDevices(communicator, 500);
+                List<String> updatedDevices = new ArrayList<>();
+                List<ControllableProperty> controls = new ArrayList<>();
+                for (SimulatedFleet.Device device : fleet.getDevices()) {
+                    if ("Atom".equals(device.getDeviceType()) && updatedDevices.size() < 30) {
+                        updatedDevices.add(device.getSerialNumber());
+                        controls.add(createControl(device.getSerialNumber(), "AvailableFirmwareVersions", "2.9.0.219"));
+                        controls.add(createControl(device.getSerialNumber(), "FirmwareUpdate", "1"));
+                    }
+                }
+                communicator.controlProperties(controls);
+                // updates are queued, and started by the rollout
+                Assert.assertEquals(0, simulator.getRequestCount(SageVueSimulator.Endpoint.FIRMWARE_UPDATE));
+                Map<String, String> statistics = waitForRollout(communicator);
+
+                Assert.assertEquals("COMPLETED", statistics.get("FirmwareRollout#State"));
+                Assert.assertEquals("3", statistics.get("FirmwareRollout#Wave"));
+                Assert.assertEquals("30", statistics.get("FirmwareRollout#SucceededDevices"));
+                // no more than 5 devices of the model are updated at the same time
+                Assert.assertTrue(simulator.getRequestCount(SageVueSimulator.Endpoint.FIRMWARE_UPDATE) >= 6);
+                for (String serialNumber : updatedDevices) {
+                    Assert.assertEquals("2.9.0.219", fleet.getDevice(serialNumber).getFirmwareVersion());
+                }
+
+                // devices that never pick up the version time out, the rollout is halted after the first devices
+                // of the wave, which are still tracked until they time out
+                controls.clear();
+                for (String serialNumber : updatedDevices) {
+                    controls.add(createControl(serialNumber, "AvailableFirmwareVersions", "9.9.9.9"));
+                    controls.add(createControl(serialNumber, "FirmwareUpdate", "1"));
+                }
+                communicator.controlProperties(controls);
+                statistics = waitForRollout(communicator);
+                Assert.assertEquals("HALTED", statistics.get("FirmwareRollout#State"));
+                Assert.assertEquals("1", statistics.get("FirmwareRollout#Wave"));
+                Assert.assertEquals("5", statistics.get("FirmwareRollout#FailedDevices"));
+                Assert.assertEquals("25", statistics.get("FirmwareRollout#SkippedDevices"));
+            } finally {
+                communicator.destroy();
+            }
+        }
+    }
+
+    @Test
+    public void deviceSelectionTest() throws Exception {
+        SimulatedFleet fleet = SimulatedFleet.generate(1000, 4, 0.1, 0, 8);
+        try (SageVueSimulator simulator = new SageVueSimulator(fleet)) {
+            simulator.setLatency(5, 10);
+            SageVueCommunicator communicator = createCommunicator(simulator);
+            communicator.setReuseSystemsPayload(false);
+            communicator.setIncludeDeviceModels("Tesira,Atom");
+            communicator.setExcludeSystemIds("20000000");
+            communicator.setExcludeSerialNumbers("100001??");
+            communicator.init();
+            try {
+                Set<String> selectedDevices = new HashSet<>();
+                for (SimulatedFleet.Device device : fleet.getDevices()) {
+                    if (("Tesira".equals(device.getDeviceType()) || "Atom".equals(device.getDeviceType()))
+                            && !"20000000".equals(device.getSystemId()) && !device.getSerialNumber().startsWith("100001")) {
+                        selectedDevices.add(device.getSerialNumber());
+                    }
+                }
+                waitForDevices(communicator, selectedDevices.size());
+                soak(communicator, 3000);
+
+                List<AggregatedDevice> devices = communicator.retrieveMultipleStatistics();
+                Assert.assertEquals(selectedDevices.size(), devices.size());
+                devices.forEach(device -> Assert.assertTrue(selectedDevices.contains(device.getSerialNumber())));
+                Map<String, String> statistics = getStatistics(communicator);
+                Assert.assertEquals(String.valueOf(1000 - selectedDevices.size()), statistics.get("Monitoring#LastCycleExcludedDevices"));
+                Assert.assertFalse(statistics.containsKey("System 20000000"));
+                Assert.assertTrue(statistics.containsKey("System 20000001"));
+                // only the selected devices and models are requested
+                long cycles = Long.parseLong(statistics.get("Monitoring#Cycles"));
+                Assert.assertTrue(simulator.getRequestCount(SageVueSimulator.Endpoint.DEVICE_DETAILS) <= selectedDevices.size() * (cycles + 1));
+                Assert.assertTrue(simulator.getRequestCount(SageVueSimulator.Endpoint.FIRMWARE) <= 2);
+            } finally {
+                communicator.destroy();
+            }
+        }
+    }
+
+    @Test
+    public void recordReplayTest() throws Exception {
+        Path recordingFile = Files.createTempDirectory("sagevue-recording").resolve("traffic.json");
+        int recordedDeviceCount;
+        try (SageVueSimulator simulator = new SageVueSimulator(SimulatedFleet.generate(200, 2, 0.3, 0.1, 5))) {
+            simulator.startRecording();
+            SageVueCommunicator communicator = createCommunicator(simulator);
+            communicator.init();
+            try {
+                recordedDeviceCount = waitForDevices(communicator, 200).size();
+                getStatistics(communicator);
+            } finally {
+                communicator.destroy();
+            }
+            simulator.saveRecording(recordingFile);
+        }
+
+        try (SageVueSimulator simulator = new SageVueSimulator(null)) {
+            simulator.replay(recordingFile);
+            simulator.setLatency(10, 10);
+            simulator.setSessionLifetime(2000);
+            SageVueCommunicator communicator = createCommunicator(simulator);
+            communicator.init();
+            try {
+                List<AggregatedDevice> devices = waitForDevices(communicator, recordedDeviceCount);
+                Assert.assertEquals(recordedDeviceCount, devices.size());
+                soak(communicator, 5000);
+                Assert.assertEquals(recordedDeviceCount, communicator.retrieveMultipleStatistics().size());
+                Assert.assertEquals("0", getStatistics(communicator).get("Monitoring#FailedCycles"));
+            } finally {
+                communicator.destroy();
+            }
+        }
+    }
+
+    private SageVueCommunicator createCommunicator(SageVueSimulator simulator) throws Exception {
+        SageVueCommunicator communicator = new SageVueCommunicator();
+        communicator.setProtocol("http");
+        communicator.setContentType("application/json");
+        communicator.setHost("127.0.0.1");
+        communicator.setPort(simulator.getPort());
+        communicator.setAuthenticationScheme(HttpCommunicator.AuthenticationScheme.Basic);
+        communicator.setLogin("Admin");
+        communicator.setPassword("1234");
+        communicator.setPollingInterval(1000);
+        communicator.setWarmStart(false);
+        return communicator;
+    }
+
+    private ControllableProperty createControl(String deviceId, String property, String value) {
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setDeviceId(deviceId);
+        controllableProperty.setProperty(property);
+        controllableProperty.setValue(value);
+        return controllableProperty;
+    }
+
+    private Map<String, String> getStatistics(SageVueCommunicator communicator) throws Exception {
+        return ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+    }
+
+    /**
+     * Keep polling the adapter the way Symphony does
+     *
+     * @return longest duration (ms) of the devices collection cycles completed during the period
+     */
+    private long soak(SageVueCommunicator communicator, long duration) throws Exception {
+        long maxCycleDuration = 0;
+        long initialCycles = Long.parseLong(getStatistics(communicator).get("Monitoring#Cycles"));
+        long endTime = System.currentTimeMillis() + duration;
+        while (System.currentTimeMillis() < endTime) {
+            communicator.retrieveMultipleStatistics();
+            Map<String, String> statistics = getStatistics(communicator);
+            String cycleDuration = statistics.get("Monitoring#LastCycleDurationMs");
+            if (cycleDuration != null && Long.parseLong(statistics.get("Monitoring#Cycles")) > initialCycles) {
+                maxCycleDuration = Math.max(maxCycleDuration, Long.parseLong(cycleDuration));
+            }
+            Thread.sleep(500);
+        }
+        return maxCycleDuration;
+    }
+
+    private List<AggregatedDevice> waitForDevices(SageVueCommunicator communicator, int deviceCount) throws Exception {
+        long endTime = System.currentTimeMillis() + Math.max(30000, MAX_CYCLE_DURATION * 2);
+        List<AggregatedDevice> devices = communicator.retrieveMultipleStatistics();
+        while (devices.size() < deviceCount && System.currentTimeMillis() < endTime) {
+            Thread.sleep(100);
+            devices = communicator.retrieveMultipleStatistics();
+        }
+        return devices;
+    }
+
+    private Map<String, String> waitForRollout(SageVueCommunicator communicator) throws Exception {
+        long endTime = System.currentTimeMillis() + 60000;
+        Map<String, String> statistics = getStatistics(communicator);
+        while ("IN_PROGRESS".equals(statistics.get("FirmwareRollout#State")) || !"0".equals(statistics.get("FirmwareRollout#WaveUpdatingDevices"))) {
+            if (System.currentTimeMillis() > endTime) {
+                break;
+            }
+            communicator.retrieveMultipleStatistics();
+            Thread.sleep(500);
+            statistics = getStatistics(communicator);
+        }
+        return statistics;
+    }
+
+        private long usedHeapMb() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / (1024 * 1024);
+    }
+}
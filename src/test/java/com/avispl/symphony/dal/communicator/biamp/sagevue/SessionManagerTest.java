@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("test")
+public class SessionManagerTest {
+
+    @Test
+    public void concurrentRenewalsSingleLoginTest() throws Exception {
+        AtomicInteger logins = new AtomicInteger();
+        SessionManager sessionManager = new SessionManager(() -> {
+            Thread.sleep(200);
+            return "session-" + logins.incrementAndGet();
+        }, 0);
+        Assert.assertEquals("session-1", sessionManager.getLoginId());
+
+        // all the threads had their requests rejected with the same session
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<String>> renewals = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                renewals.add(executor.submit(() -> sessionManager.renew("session-1")));
+            }
+            for (Future<String> renewal : renewals) {
+                Assert.assertEquals("session-2", renewal.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(2, logins.get());
+        Assert.assertEquals("session-2", sessionManager.getLoginId());
+    }
+
+    @Test
+    public void proactiveRenewalTest() throws Exception {
+        AtomicInteger logins = new AtomicInteger();
+        SessionManager sessionManager = new SessionManager(() -> "session-" + logins.incrementAndGet(), 100);
+        Assert.assertEquals("session-1", sessionManager.getLoginId());
+        Assert.assertEquals("session-1", sessionManager.getLoginId());
+        Thread.sleep(150);
+        Assert.assertEquals("session-2", sessionManager.getLoginId());
+        Assert.assertEquals(2, logins.get());
+
+        sessionManager.invalidate();
+        Assert.assertEquals("session-3", sessionManager.getLoginId());
+    }
+
+    @Test
+    public void proactiveRenewalFailureTest() throws Exception {
+        AtomicInteger logins = new AtomicInteger();
+        SessionManager sessionManager = new SessionManager(() -> {
+            if (logins.incrementAndGet() > 1) {
+                throw new IllegalStateException("Login request timed out");
+            }
+            return "session-1";
+        }, 100);
+        Assert.assertEquals("session-1", sessionManager.getLoginId());
+        Thread.sleep(150);
+
+        // the current session is still valid, so a failed proactive renewal doesn't fail the request
+        Assert.assertEquals("session-1", sessionManager.getLoginId());
+        Assert.assertEquals(2, logins.get());
+        // and is attempted again by the next request
+        Assert.assertEquals("session-1", sessionManager.getLoginId());
+        Assert.assertEquals(3, logins.get());
+
+        // a renewal of the rejected session reports the failure
+        try {
+            sessionManager.renew("session-1");
+            Assert.fail("Session renewal should have failed");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("Login request timed out", e.getMessage());
+        }
+    }
+
+    @Test
+    public void loginRequestHasNoSessionTest() throws Exception {
+        SessionManager[] sessionManager = new SessionManager[1];
+        List<String> loginRequestSessions = new ArrayList<>();
+        Callable<String> login = () -> {
+            // login request headers are built while the login is in progress
+            loginRequestSessions.add(sessionManager[0].getLoginId());
+            return "session-" + loginRequestSessions.size();
+        };
+        sessionManager[0] = new SessionManager(login, 0);
+        Assert.assertEquals("session-1", sessionManager[0].getLoginId());
+        Assert.assertEquals("session-2", sessionManager[0].renew("session-1"));
+        Assert.assertEquals(2, loginRequestSessions.size());
+        Assert.assertNull(loginRequestSessions.get(0));
+        Assert.assertNull(loginRequestSessions.get(1));
+    }
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Synthetic SageVue fleet, served by the {@link SageVueSimulator}.
+ * Devices are spread evenly across all the device types SageVue reports (Tesira, Atom, Devio, Dynasound, QtPro)
+ * and grouped into systems. A configurable share of the devices reports faults or is offline, faults are reshuffled
+ * with {@link #reshuffleFaults(double)} to simulate a changing fleet.
+ * Reboot and firmware update controls put a device into a transitional OccupiedStatus for {@link #transitionTime},
+ * after which the device is back to normal, running the requested firmware version.
+ *
+ * @author Symphony Dev Team<br>
+ * Created on Oct 17, 2026
+ * @since 1.1.0
+ */
+final class SimulatedFleet {
+    /**
+     * Device types, as named in /devices payload
+     */
+    static final String[] DEVICE_TYPES = {"Tesira", "Atom", "Devio", "Dynasound", "QtPro"};
+    /**
+     * Device models of each device type
+     */
+    private static final Map<String, String[]> DEVICE_MODELS = new LinkedHashMap<>();
+    /**
+     * Faults reported by the faulty devices, as FaultId, IndicatorId and Message
+     */
+    private static final String[][] FAULTS = {
+            {"123", "ERR", "Unable to get information"},
+            {"456", "ERR2", "Unable to fetch information"},
+            {"789", "FWER", "Firmware error"},
+            {"1011", "NETW", "Network interface is down"},
+            {"1213", "TEMP", "Temperature is above the threshold"}};
+    private static final String REBOOTING_STATUS = "Rebooting";
+    private static final String FIRMWARE_UPDATE_STATUS = "UpdatingFirmware";
+
+    static {
+        DEVICE_MODELS.put("Tesira", new String[]{"FORTE_VT", "FORTE_CI", "SERVER_IO", "TCM_1"});
+        DEVICE_MODELS.put("Atom", new String[]{"EX_UBT", "EX_IN"});
+        DEVICE_MODELS.put("Devio", new String[]{"SCR_25C", "SCR_20"});
+        DEVICE_MODELS.put("Dynasound", new String[]{"DS_1"});
+        DEVICE_MODELS.put("QtPro", new String[]{"QT_PRO_300", "QT_PRO_600"});
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Random random;
+    /**
+     * Container for "serialNumber:device" pairs, in the order the devices are listed in
+     */
+    private final Map<String, Device> devices = new LinkedHashMap<>();
+    /**
+     * Container for "systemId:systemDevices" pairs
+     */
+    private final Map<String, List<Device>> systems = new LinkedHashMap<>();
+    /**
+     * Container for "deviceType:firmwareVersions" pairs
+     */
+    private final Map<String, List<String>> firmwareCatalogues = new ConcurrentHashMap<>();
+    /**
+     * Time (ms) a device stays in a transitional OccupiedStatus after a reboot or a firmware update
+     */
+    private volatile long transitionTime = 5000;
+
+    /**
+     * Simulated device
+     */
+    static final class Device {
+        private final String serialNumber;
+        private final String systemId;
+        private final String deviceType;
+        private final String model;
+        private final String ipAddress;
+        private volatile String firmwareVersion;
+        private volatile String pendingFirmwareVersion;
+        private volatile String occupiedStatus = "";
+        private volatile long transitionEndTimestamp;
+        private volatile int status;
+        private volatile boolean isProtected;
+        private volatile List<String[]> faults = Collections.emptyList();
+
+        private Device(String serialNumber, String systemId, String deviceType, String model, String ipAddress, String firmwareVersion) {
+            this.serialNumber = serialNumber;
+            this.systemId = systemId;
+            this.deviceType = deviceType;
+            this.model = model;
+            this.ipAddress = ipAddress;
+            this.firmwareVersion = firmwareVersion;
+        }
+
+        /**
+         * @return device serial number
+         */
+        String getSerialNumber() {
+            return serialNumber;
+        }
+
+        /**
+         * @return id of the system the device belongs to
+         */
+        String getSystemId() {
+            return systemId;
+        }
+
+        /**
+         * @return device type, as named in /devices payload
+         */
+        String getDeviceType() {
+            return deviceType;
+        }
+
+        /**
+         * @return firmware version the device is running
+         */
+        String getFirmwareVersion() {
+            return firmwareVersion;
+        }
+
+        /**
+         * @return current OccupiedStatus of the device, empty if the device is not busy
+         */
+        String getOccupiedStatus() {
+            return occupiedStatus;
+        }
+    }
+
+    private SimulatedFleet(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Generate a fleet
+     *
+     * @param deviceCount total number of devices
+     * @param devicesPerSystem number of devices in each system
+     * @param faultyDeviceRatio share (0..1) of the devices reporting faults
+     * @param offlineDeviceRatio share (0..1) of the devices with a non-zero Status
+     * @param seed random seed, the same seed generates the same fleet
+     * @return generated fleet
+     */
+    static SimulatedFleet generate(int deviceCount, int devicesPerSystem, double faultyDeviceRatio, double offlineDeviceRatio, long seed) {
+        SimulatedFleet fleet = new SimulatedFleet(seed);
+        for (String deviceType : DEVICE_TYPES) {
+            List<String> firmwareVersions = new ArrayList<>();
+            int majorVersion = "Tesira".equals(deviceType) ? 3 : 1;
+            for (int i = 0; i < 10; i++) {
+                firmwareVersions.add(majorVersion + (i / 4) + "." + (i % 4 * 3) + ".0." + (100 + i * 17));
+            }
+            fleet.firmwareCatalogues.put(deviceType, firmwareVersions);
+        }
+        for (int i = 0; i < deviceCount; i++) {
+            String deviceType = DEVICE_TYPES[i % DEVICE_TYPES.length];
+            String[] models = DEVICE_MODELS.get(deviceType);
+            String serialNumber = String.valueOf(10000000 + i);
+            String systemId = String.valueOf(20000000 + i / Math.max(1, devicesPerSystem));
+            String ipAddress = "10." + (i >> 16 & 255) + "." + (i >> 8 & 255) + "." + (i & 255);
+            Device device = new Device(serialNumber, systemId, deviceType, models[(i / DEVICE_TYPES.length) % models.length], ipAddress,
+                    fleet.firmwareCatalogues.get(deviceType).get(fleet.random.nextInt(3)));
+            device.status = fleet.random.nextDouble() < offlineDeviceRatio ? 1 : 0;
+            device.isProtected = fleet.random.nextInt(4) == 0;
+            fleet.devices.put(serialNumber, device);
+            fleet.systems.computeIfAbsent(systemId, key -> new ArrayList<>()).add(device);
+        }
+        fleet.reshuffleFaults(faultyDeviceRatio);
+        return fleet;
+    }
+
+    /**
+     * Assign faults to a random share of the devices, clearing the faults of the others
+     *
+     * @param faultyDeviceRatio share (0..1) of the devices reporting faults
+     */
+    synchronized void reshuffleFaults(double faultyDeviceRatio) {
+        for (Device device : devices.values()) {
+            if (random.nextDouble() < faultyDeviceRatio) {
+                List<String[]> faults = new ArrayList<>();
+                int firstFault = random.nextInt(FAULTS.length);
+                int faultCount = 1 + random.nextInt(3);
+                for (int i = 0; i < faultCount; i++) {
+                    faults.add(FAULTS[(firstFault + i) % FAULTS.length]);
+                }
+                device.faults = faults;
+            } else {
+                device.faults = Collections.emptyList();
+            }
+        }
+    }
+
+    /**
+     * Sets {@link #transitionTime} value
+     *
+     * @param transitionTime new value of {@link #transitionTime}
+     */
+    void setTransitionTime(long transitionTime) {
+        this.transitionTime = transitionTime;
+    }
+
+    /**
+     * Replace the firmware catalogue of a device type
+     *
+     * @param deviceType device type, as named in /devices payload
+     * @param firmwareVersions firmware versions, reported by /firmware/{model}
+     */
+    void setFirmwareCatalogue(String deviceType, String... firmwareVersions) {
+        firmwareCatalogues.put(deviceType, Arrays.asList(firmwareVersions));
+    }
+
+    /**
+     * @param serialNumber device serial number
+     * @return device, or null if there's no such device
+     */
+    Device getDevice(String serialNumber) {
+        return devices.get(serialNumber);
+    }
+
+    /**
+     * @return all the devices of the fleet
+     */
+    Collection<Device> getDevices() {
+        return Collections.unmodifiableCollection(devices.values());
+    }
+
+    /**
+     * @return total number of devices
+     */
+    int getDeviceCount() {
+        return devices.size();
+    }
+
+    /**
+     * @return total number of systems
+     */
+    int getSystemCount() {
+        return systems.size();
+    }
+
+    /**
+     * Start a device reboot
+     *
+     * @param serialNumber device serial number
+     * @return true if the device exists, false otherwise
+     */
+    boolean reboot(String serialNumber) {
+        Device device = devices.get(serialNumber);
+        if (device == null) {
+            return false;
+        }
+        startTransition(device, REBOOTING_STATUS);
+        return true;
+    }
+
+    /**
+     * Start a firmware update of the devices
+     *
+     * @param serialNumbers serial numbers of the devices to update
+     * @param firmwareVersion firmware version to update the devices to
+     * @return number of devices the update was started for
+     */
+    int updateFirmware(List<String> serialNumbers, String firmwareVersion) {
+        int updatedCount = 0;
+        for (String serialNumber : serialNumbers) {
+            Device device = devices.get(serialNumber);
+            if (device != null && firmwareCatalogues.getOrDefault(device.deviceType, Collections.emptyList()).contains(firmwareVersion)) {
+                device.pendingFirmwareVersion = firmwareVersion;
+                startTransition(device, FIRMWARE_UPDATE_STATUS);
+                updatedCount++;
+            }
+        }
+        return updatedCount;
+    }
+
+    /**
+     * Change protection state of a system
+     *
+     * @param systemId system id
+     * @param isProtected new protection state
+     * @return true if the system exists, false otherwise
+     */
+    boolean setSystemProtected(String systemId, boolean isProtected) {
+        List<Device> systemDevices = systems.get(systemId);
+        if (systemDevices == null) {
+            return false;
+        }
+        systemDevices.forEach(device -> device.isProtected = isProtected);
+        return true;
+    }
+
+    /**
+     * Build /devices payload
+     *
+     * @return payload json
+     */
+    ObjectNode devicesPayload() {
+        ObjectNode payload = objectMapper.createObjectNode();
+        for (String deviceType : DEVICE_TYPES) {
+            payload.putArray(deviceType + "Devices");
+            payload.putArray(deviceType + "Errors");
+        }
+        long currentTimestamp = System.currentTimeMillis();
+        for (Device device : devices.values()) {
+            ((ArrayNode) payload.get(device.deviceType + "Devices")).add(deviceEntry(device, currentTimestamp));
+        }
+        return payload;
+    }
+
+    /**
+     * Build /devices/{model}/{serialNumber} payload
+     *
+     * @param serialNumber device serial number
+     * @return payload json, or null if there's no such device
+     */
+    ObjectNode deviceDetailsPayload(String serialNumber) {
+        Device device = devices.get(serialNumber);
+        if (device == null) {
+            return null;
+        }
+        ObjectNode deviceNode = deviceEntry(device, System.currentTimeMillis());
+        deviceNode.put("IpAddress", device.ipAddress);
+        int deviceIndex = Integer.parseInt(serialNumber) - 10000000;
+        deviceNode.put("MacAddress", String.format("00:90:5E:%02X:%02X:%02X", deviceIndex >> 16 & 255, deviceIndex >> 8 & 255, deviceIndex & 255));
+        deviceNode.put("OperatingEnvironmentVersion", "3.0.6.8");
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.set("Device", deviceNode);
+        return payload;
+    }
+
+    /**
+     * Build /firmware/{model} payload
+     *
+     * @param deviceType device type, as named in /devices payload
+     * @return payload json
+     */
+    ObjectNode firmwarePayload(String deviceType) {
+        ObjectNode payload = objectMapper.createObjectNode();
+        ArrayNode firmwareUpdates = payload.putArray("FirmwareUpdates");
+        for (String firmwareVersion : firmwareCatalogues.getOrDefault(deviceType, Collections.emptyList())) {
+            firmwareUpdates.addObject().put("Version", firmwareVersion).put("ReleaseNotes", deviceType + " firmware " + firmwareVersion)
+                    .put("NotesFormat", "Text").put("ReleaseDate", "May 2019").put("IsRemovable", false);
+        }
+        return payload;
+    }
+
+    /**
+     * Build /systems payload
+     *
+     * @param includeDevices whether system entries list their devices, with ip addresses
+     * @return payload json
+     */
+    ObjectNode systemsPayload(boolean includeDevices) {
+        ObjectNode payload = objectMapper.createObjectNode();
+        ArrayNode systemsNode = payload.putArray("Systems");
+        long currentTimestamp = System.currentTimeMillis();
+        systems.forEach((systemId, systemDevices) -> {
+            Device mainDevice = systemDevices.get(0);
+            ObjectNode systemNode = systemsNode.addObject().setAll(deviceEntry(mainDevice, currentTimestamp));
+            systemNode.put("Description", mainDevice.deviceType + " - Default Configuration " + systemId);
+            ArrayNode devicesNode = systemNode.putArray("Devices");
+            if (includeDevices) {
+                for (Device device : systemDevices) {
+                    devicesNode.add(deviceEntry(device, currentTimestamp).put("IpAddress", device.ipAddress));
+                }
+            }
+        });
+        payload.putArray("Errors");
+        return payload;
+    }
+
+    /**
+     * Build a device entry, as listed by /devices
+     *
+     * @param device device to build the entry of
+     * @param currentTimestamp current time (ms), to complete the finished transitions
+     * @return device entry json
+     */
+    private ObjectNode deviceEntry(Device device, long currentTimestamp) {
+        completeTransition(device, currentTimestamp);
+        ObjectNode deviceNode = objectMapper.createObjectNode();
+        deviceNode.put("Model", device.model);
+        deviceNode.put("ModelDescription", device.deviceType + " " + device.model);
+        deviceNode.put("SystemDescription", device.deviceType + " - Default Configuration " + device.systemId);
+        deviceNode.put("FirmwareVersion", device.firmwareVersion);
+        deviceNode.put("OccupiedStatus", device.occupiedStatus);
+        deviceNode.put("AssetGroupId", "4a7a071b-7331-4849-b842-516bae6f395d");
+        deviceNode.put("IsControlled", false);
+        deviceNode.put("SystemId", device.systemId);
+        deviceNode.put("SerialNumber", device.serialNumber);
+        deviceNode.put("HostName", device.deviceType + device.serialNumber);
+        deviceNode.put("Description", "");
+        deviceNode.put("IsProtected", device.isProtected);
+        ArrayNode faultsNode = deviceNode.putArray("Faults");
+        for (String[] fault : device.faults) {
+            faultsNode.addObject().put("FaultId", fault[0]).put("IndicatorId", fault[1]).put("Message", fault[2]);
+        }
+        deviceNode.put("Status", device.status);
+        deviceNode.putArray("Labels").add("Room " + device.systemId);
+        return deviceNode;
+    }
+
+    private void startTransition(Device device, String occupiedStatus) {
+        synchronized (device) {
+            device.occupiedStatus = occupiedStatus;
+            device.transitionEndTimestamp = System.currentTimeMillis() + transitionTime;
+        }
+    }
+
+    private void completeTransition(Device device, long currentTimestamp) {
+        if (device.occupiedStatus.isEmpty() || currentTimestamp < device.transitionEndTimestamp) {
+            return;
+        }
+        synchronized (device) {
+            if (!device.occupiedStatus.isEmpty() && currentTimestamp >= device.transitionEndTimestamp) {
+                if (device.pendingFirmwareVersion != null) {
+                    device.firmwareVersion = device.pendingFirmwareVersion;
+                    device.pendingFirmwareVersion = null;
+                }
+                device.occupiedStatus = "";
+            }
+        }
+    }
+}
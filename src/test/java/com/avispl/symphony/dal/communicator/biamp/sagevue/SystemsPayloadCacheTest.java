@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("test")
+public class SystemsPayloadCacheTest {
+    private static final String SYSTEMS = "{\"Systems\":[{\"SystemId\":\"03275657\",\"IsProtected\":false,\"Devices\":[" +
+            "{\"SerialNumber\":\"03275657\",\"HostName\":\"TesiraForte03275657\",\"FirmwareVersion\":\"3.3.0.18\",\"IpAddress\":\"172.31.254.1\",\"Labels\":[]}," +
+            "{\"SerialNumber\":\"03275658\",\"HostName\":\"TesiraForte03275658\"}]}]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void singleRequestPerIntervalTest() throws Exception {
+        SystemsPayloadCache systemsPayloadCache = new SystemsPayloadCache(new HashSet<>(Arrays.asList("HostName", "FirmwareVersion")));
+        AtomicInteger requestCount = new AtomicInteger();
+        JsonNode systems = objectMapper.readTree(SYSTEMS);
+        systemsPayloadCache.getSystems(60000, () -> {
+            requestCount.incrementAndGet();
+            return systems;
+        });
+        Assert.assertSame(systems, systemsPayloadCache.getSystems(60000, () -> {
+            requestCount.incrementAndGet();
+            return systems;
+        }));
+        Assert.assertEquals(1, requestCount.get());
+
+        systemsPayloadCache.invalidate();
+        systemsPayloadCache.getSystems(60000, () -> {
+            requestCount.incrementAndGet();
+            return systems;
+        });
+        Assert.assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    public void crossFillTest() throws Exception {
+        SystemsPayloadCache systemsPayloadCache = new SystemsPayloadCache(new HashSet<>(Arrays.asList("HostName", "FirmwareVersion")));
+        systemsPayloadCache.getSystems(60000, () -> objectMapper.readTree(SYSTEMS));
+
+        ObjectNode device = (ObjectNode) objectMapper.readTree("{\"SerialNumber\":\"03275657\",\"FirmwareVersion\":\"3.4.0.18\"}");
+        Assert.assertTrue(systemsPayloadCache.crossFill("03275657", device));
+        // fields present in /devices are never overridden, fields not used by the mapping are not copied
+        Assert.assertEquals("3.4.0.18", device.get("FirmwareVersion").asText());
+        Assert.assertEquals("TesiraForte03275657", device.get("HostName").asText());
+        Assert.assertFalse(device.has("Labels"));
+        Assert.assertFalse(systemsPayloadCache.crossFill("03275659", device));
+
+        Assert.assertEquals("172.31.254.1", systemsPayloadCache.getIpAddress("03275657", 60000));
+        Assert.assertNull(systemsPayloadCache.getIpAddress("03275658", 60000));
+        Thread.sleep(20);
+        Assert.assertNull(systemsPayloadCache.getIpAddress("03275657", 10));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.biamp.sagevue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+@Tag("test")
+public class WarmStartSnapshotTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void saveAndLoadTest() throws Exception {
+        Path directory = Files.createTempDirectory("sagevue-snapshot");
+        WarmStartSnapshot warmStartSnapshot = new WarmStartSnapshot(objectMapper, directory.resolve("sagevue.json.gz"));
+        Assert.assertNull(warmStartSnapshot.load(60000));
+
+        JsonNode devicesJson = objectMapper.readTree("{\"TesiraDevices\":[{\"SerialNumber\":\"10000001\",\"IsProtected\":true," +
+                "\"IpAddress\":\"172.31.254.1\",\"Faults\":\"1|2:Fault\\n\",\"AvailableFirmwareVersions\":\"3.4.0.18,3.3.0.18\"}]}");
+        warmStartSnapshot.save(devicesJson, Collections.singletonMap("Tesira", Arrays.asList("3.4.0.18", "3.5.0.1")));
+        warmStartSnapshot.save(devicesJson, Collections.singletonMap("Tesira", Arrays.asList("3.4.0.18", "3.5.0.1")));
+
+        WarmStartSnapshot.Content snapshot = warmStartSnapshot.load(60000);
+        Assert.assertNotNull(snapshot);
+        Assert.assertEquals(devicesJson, snapshot.getDevices());
+        Assert.assertEquals(Arrays.asList("3.4.0.18", "3.5.0.1"), snapshot.getFirmwareVersions().get("Tesira"));
+        Assert.assertTrue(System.currentTimeMillis() - snapshot.getTimestamp() < 60000);
+        try (Stream<Path> files = Files.list(directory)) {
+            // temporary files are renamed over the snapshot, nothing is left behind
+            Assert.assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void outdatedSnapshotTest() throws Exception {
+        Path directory = Files.createTempDirectory("sagevue-snapshot");
+        WarmStartSnapshot warmStartSnapshot = new WarmStartSnapshot(objectMapper, directory.resolve("sagevue.json.gz"));
+        warmStartSnapshot.save(objectMapper.readTree("{\"TesiraDevices\":[]}"), Collections.emptyMap());
+        Thread.sleep(20);
+        Assert.assertNull(warmStartSnapshot.load(10));
+        Assert.assertNotNull(warmStartSnapshot.load(60000));
+    }
+}